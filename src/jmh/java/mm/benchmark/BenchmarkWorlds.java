@@ -0,0 +1,80 @@
+package mm.benchmark;
+
+import mm.domain.config.ObjectConf;
+import mm.domain.config.TennisballConf;
+import mm.domain.storage.LevelData;
+import mm.domain.storage.LevelStorage;
+import mm.service.physics.PhysicsManager;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hilfsmethoden zum Aufbau der Welten für die Benchmarks.
+ */
+final class BenchmarkWorlds {
+
+    /** Größe des Spielfelds in Pixeln (wie in game.fxml) */
+    static final double CANVAS_WIDTH = 1200;
+    static final double CANVAS_HEIGHT = 675;
+
+    private BenchmarkWorlds() {}
+
+    /**
+     * Gibt den Pfad einer mitgelieferten Leveldatei zurück.
+     * @param levelName Name ohne Endung, z.B. "level1"
+     * @return Pfad zur JSON-Datei
+     */
+    static Path levelPath(String levelName) {
+        try {
+            return Paths.get(BenchmarkWorlds.class.getResource("/levels/" + levelName + ".json").toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Lädt ein mitgeliefertes Level.
+     * @param levelName Name ohne Endung
+     * @return Leveldaten
+     * @throws IOException bei Lesefehlern
+     */
+    static LevelData loadLevel(String levelName) throws IOException {
+        return LevelStorage.load(levelPath(levelName));
+    }
+
+    /**
+     * Erzeugt ein Level aus {@code count} Tennisbällen in einem Raster über das Spielfeld.
+     * @param count Anzahl der Objekte
+     * @return Objektliste
+     */
+    static List<ObjectConf> syntheticObjects(int count) {
+        float spacing = 0.3f;
+        int columns = (int) (CANVAS_WIDTH / 100 / spacing) - 1;
+        List<ObjectConf> objects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            float x = spacing * (1 + i % columns);
+            float y = spacing * (1 + i / columns);
+            objects.add(new TennisballConf(x, y, 0, false));
+        }
+        return objects;
+    }
+
+    /**
+     * Baut eine Physikwelt mit Weltgrenzen aus den gegebenen Objekten.
+     * @param objects Objekt-Konfigurationen
+     * @return PhysicsManager mit gefüllter Welt; nach der Messung mit {@link PhysicsManager#release()} freigeben
+     */
+    static PhysicsManager buildWorld(List<ObjectConf> objects) {
+        PhysicsManager physicsManager = new PhysicsManager(CANVAS_WIDTH, CANVAS_HEIGHT);
+        for (ObjectConf conf : objects) {
+            physicsManager.addObjectToWorld(conf);
+        }
+        physicsManager.createWorldBounds();
+        return physicsManager;
+    }
+}
@@ -0,0 +1,71 @@
+package mm.benchmark;
+
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Rectangle;
+import mm.domain.config.CrateboxConf;
+import mm.domain.config.TennisballConf;
+import mm.domain.editor.PlacedObject;
+import mm.service.collision.CollisionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Misst {@link CollisionManager#overlapsExisting} mit 10, 100 und 1000 platzierten Objekten.
+ * Das geprüfte Objekt überlappt keines der anderen, sodass immer alle Objekte geprüft werden
+ * (ungünstigster Fall beim Ziehen im Editor).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollisionBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int objectCount;
+
+    private final CollisionManager collisionManager = new CollisionManager();
+    private final List<PlacedObject> placedObjects = new ArrayList<>();
+    private Circle probe;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < objectCount; i++) {
+            double x = 30 + (i % 40) * 30;
+            double y = 30 + (i / 40) * 30;
+            if (i % 2 == 0) {
+                Circle circle = new Circle(10);
+                circle.setLayoutX(x);
+                circle.setLayoutY(y);
+                placedObjects.add(new PlacedObject(circle, TennisballConf.class));
+            } else {
+                Rectangle rectangle = new Rectangle(20, 20);
+                rectangle.setLayoutX(x - 10);
+                rectangle.setLayoutY(y - 10);
+                placedObjects.add(new PlacedObject(rectangle, CrateboxConf.class));
+            }
+        }
+        probe = new Circle(5);
+        probe.setLayoutX(15);
+        probe.setLayoutY(15);
+    }
+
+    @Benchmark
+    public boolean overlapsExisting() {
+        return collisionManager.overlapsExisting(probe, null, placedObjects, List.of());
+    }
+}
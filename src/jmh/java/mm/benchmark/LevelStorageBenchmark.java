@@ -0,0 +1,71 @@
+package mm.benchmark;
+
+import mm.domain.json.LevelValidator;
+import mm.domain.storage.LevelData;
+import mm.domain.storage.LevelStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Misst das Laden, Speichern und Validieren von Leveldateien.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LevelStorageBenchmark {
+
+    @Param({"level1", "level5"})
+    public String levelName;
+
+    private Path source;
+    private Path target;
+    private LevelData level;
+
+    @Setup
+    public void setUp() throws IOException {
+        source = BenchmarkWorlds.levelPath(levelName);
+        level = LevelStorage.load(source);
+        target = Files.createTempFile("mm-bench-", ".json");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(target);
+    }
+
+    @Benchmark
+    public LevelData load() throws IOException {
+        return LevelStorage.load(source);
+    }
+
+    @Benchmark
+    public Path save() throws IOException {
+        LevelStorage.save(level, target);
+        return target;
+    }
+
+    @Benchmark
+    public boolean validate() {
+        File file = source.toFile();
+        return LevelValidator.isValidLevelFile(file);
+    }
+}
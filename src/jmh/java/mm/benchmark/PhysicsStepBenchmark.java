@@ -0,0 +1,89 @@
+package mm.benchmark;
+
+import mm.service.physics.PhysicsManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Misst eine simulierte Sekunde (60 Physikschritte) für die mitgelieferten Level und
+ * für synthetische Level mit N Objekten. Die Welt wird vor jedem Aufruf neu aufgebaut,
+ * damit jede Messung dieselbe Bewegungsphase abdeckt, und danach freigegeben, sodass wie im
+ * Spiel der Objekt-Pool der vorherigen Welt wiederverwendet wird.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PhysicsStepBenchmark {
+
+    /** Schritte pro Aufruf: eine Sekunde bei 60 Hz */
+    private static final int STEPS = 60;
+
+    @State(Scope.Thread)
+    public static class LevelWorld {
+        @Param({"level1", "level2", "level3", "level4", "level5"})
+        public String levelName;
+
+        PhysicsManager physicsManager;
+
+        @Setup(Level.Invocation)
+        public void setUp() throws IOException {
+            physicsManager = BenchmarkWorlds.buildWorld(BenchmarkWorlds.loadLevel(levelName).getObjects());
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            physicsManager.release();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class SyntheticWorld {
+        @Param({"10", "100", "500"})
+        public int objectCount;
+
+        PhysicsManager physicsManager;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            physicsManager = BenchmarkWorlds.buildWorld(BenchmarkWorlds.syntheticObjects(objectCount));
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            physicsManager.release();
+        }
+    }
+
+    @Benchmark
+    public int stepLevel(LevelWorld state) {
+        return simulate(state.physicsManager);
+    }
+
+    @Benchmark
+    public int stepSynthetic(SyntheticWorld state) {
+        return simulate(state.physicsManager);
+    }
+
+    private static int simulate(PhysicsManager physicsManager) {
+        for (int i = 0; i < STEPS; i++) {
+            physicsManager.step();
+        }
+        return physicsManager.getContactCount();
+    }
+}
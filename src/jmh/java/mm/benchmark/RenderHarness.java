@@ -0,0 +1,200 @@
+package mm.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import javafx.application.Platform;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import mm.service.rendering.Camera;
+import mm.service.rendering.GameRenderer;
+import mm.service.rendering.GameRenderer.RenderInfo;
+import mm.service.rendering.GameRenderer.RenderType;
+import org.jbox2d.collision.shapes.PolygonShape;
+import org.jbox2d.common.Vec2;
+import org.jbox2d.dynamics.Body;
+import org.jbox2d.dynamics.BodyDef;
+import org.jbox2d.dynamics.World;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Misst {@link GameRenderer#render(Map, World, Camera)} ohne Bildschirm, also denselben Pfad mit
+ * Kamera und Sichtbarkeitsprüfung wie das Spiel.
+ * <p>
+ * Startet das FX-Toolkit headless (Monocle, Software-Pipeline), zeichnet für jede Kombination
+ * aus {@link RenderType} und Skin-Mischung eine feste Anzahl Frames in ein Offscreen-Canvas und
+ * erzwingt pro Frame per Snapshot die Rasterisierung. Gemessen werden Millisekunden und auf dem
+ * FX-Thread allokierte Bytes pro Frame. Die Ergebnisse werden als JSON geschrieben.
+ * </p>
+ * <p>
+ * Aufruf über {@code mvn -P benchmark verify}; Parameter per System-Property:
+ * {@code mm.render.frames} (Standard 300), {@code mm.render.warmup} (Standard 100) und
+ * {@code mm.render.objects} (Standard 200). Im Maven-Profil heißen sie {@code render.frames},
+ * {@code render.warmup} und {@code render.objects}.
+ * </p>
+ */
+public final class RenderHarness {
+
+    /** Skin-Mischungen: ohne Bild (Verlauf, Schatten, Glanz), mit Bild, abwechselnd */
+    enum SkinMix { PLAIN, TEXTURED, MIXED }
+
+    private static final float SCALE = 100.0f;
+
+    private RenderHarness() {}
+
+    /**
+     * Führt alle Szenarien aus.
+     * @param args optional der Pfad der Ergebnisdatei
+     * @throws Exception bei Fehlern im Toolkit oder beim Schreiben
+     */
+    public static void main(String[] args) throws Exception {
+        Path output = Paths.get(args.length > 0 ? args[0] : "target/render-result.json");
+        int frames = Integer.getInteger("mm.render.frames", 300);
+        int warmup = Integer.getInteger("mm.render.warmup", 100);
+        int objects = Integer.getInteger("mm.render.objects", 200);
+
+        startToolkit();
+        List<Map<String, Object>> results = new ArrayList<>();
+        try {
+            for (RenderType type : RenderType.values()) {
+                for (SkinMix mix : SkinMix.values()) {
+                    results.add(runScenario(type, mix, objects, warmup, frames));
+                }
+            }
+        } finally {
+            Platform.exit();
+        }
+        write(results, output);
+    }
+
+    private static void startToolkit() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+    }
+
+    private static Map<String, Object> runScenario(RenderType type, SkinMix mix, int objects,
+                                                   int warmup, int frames) throws Exception {
+        FutureTask<Map<String, Object>> task = new FutureTask<>(() -> {
+            Canvas canvas = new Canvas(BenchmarkWorlds.CANVAS_WIDTH, BenchmarkWorlds.CANVAS_HEIGHT);
+            WritableImage target = new WritableImage((int) canvas.getWidth(), (int) canvas.getHeight());
+            GameRenderer renderer = new GameRenderer(canvas);
+            World world = new World(new Vec2(0, 0));
+            Map<Body, RenderInfo> bodies = createBodies(world, type, mix, objects);
+            Camera camera = new Camera(canvas.getWidth(), canvas.getHeight());
+            camera.setWorldSize(canvas.getWidth() / SCALE, canvas.getHeight() / SCALE);
+            camera.fitWorld();
+
+            for (int i = 0; i < warmup; i++) {
+                renderer.render(bodies, world, camera);
+                canvas.snapshot(null, target);
+            }
+
+            com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long threadId = Thread.currentThread().getId();
+            long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            for (int i = 0; i < frames; i++) {
+                renderer.render(bodies, world, camera);
+                canvas.snapshot(null, target);
+            }
+            long elapsed = System.nanoTime() - start;
+            long allocated = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("renderType", type.name());
+            result.put("skinMix", mix.name());
+            result.put("objects", objects);
+            result.put("frames", frames);
+            result.put("msPerFrame", elapsed / 1e6 / frames);
+            result.put("bytesPerFrame", allocated / frames);
+            return result;
+        });
+        Platform.runLater(task);
+        Map<String, Object> result = task.get();
+        System.out.printf("%-16s %-9s %8.3f ms/frame %10d B/frame%n",
+            result.get("renderType"), result.get("skinMix"), result.get("msPerFrame"), result.get("bytesPerFrame"));
+        return result;
+    }
+
+    /**
+     * Erzeugt ruhende Körper in einem Raster über das Spielfeld. Jeder Körper bekommt eine
+     * Fixture, damit ihn die Sichtbarkeitsprüfung der Kamera findet.
+     * <p>
+     * Gleiche Skins teilen sich eine RenderInfo, da jede RenderInfo ihr Bild selbst lädt und
+     * die Skin-Bilder mehrere Megapixel groß sind. Gemessen wird so nur das Zeichnen.
+     * </p>
+     */
+    private static Map<Body, RenderInfo> createBodies(World world, RenderType type, SkinMix mix, int count) {
+        Map<Body, RenderInfo> bodies = new LinkedHashMap<>();
+        Map<String, RenderInfo> infos = new HashMap<>();
+        int columns = 20;
+        float cellWidth = (float) (BenchmarkWorlds.CANVAS_WIDTH / SCALE / columns);
+        float cellHeight = (float) (BenchmarkWorlds.CANVAS_HEIGHT / SCALE / Math.ceil(count / (double) columns));
+        for (int i = 0; i < count; i++) {
+            BodyDef def = new BodyDef();
+            def.position.set(cellWidth * (i % columns + 0.5f), cellHeight * (i / columns + 0.5f));
+            def.angle = (i % 8) * 0.2f;
+            Body body = world.createBody(def);
+            PolygonShape shape = new PolygonShape();
+            shape.setAsBox(cellWidth / 2, cellHeight / 2);
+            body.createFixture(shape, 0);
+            boolean textured = mix == SkinMix.TEXTURED || (mix == SkinMix.MIXED && i % 2 == 0);
+            String skinId = textured ? skinFor(type, i) : "";
+            bodies.put(body, infos.computeIfAbsent(skinId, id -> createInfo(type, id.isEmpty() ? null : id)));
+        }
+        return bodies;
+    }
+
+    private static RenderInfo createInfo(RenderType type, String skinId) {
+        switch (type) {
+            case CIRCLE:
+                return new RenderInfo(type, 0.12, 0, 0, Color.YELLOWGREEN, skinId);
+            case BOX:
+                return new RenderInfo(type, 0.5, 0.2, 0, Color.SADDLEBROWN, skinId);
+            case BUCKET:
+                return new RenderInfo(type, 0.5, 0.4, 0.04, Color.GRAY, skinId);
+            case GOALZONE:
+                return new RenderInfo(type, 0.4, 0.3, 0, Color.LIMEGREEN, skinId);
+            default:
+                return new RenderInfo(type, 0.4, 0.3, 0, Color.RED, skinId);
+        }
+    }
+
+    private static String skinFor(RenderType type, int index) {
+        switch (type) {
+            case CIRCLE:
+                String[] balls = {"tennisball", "bowlingball", "billiardball", "balloon", "gameball"};
+                return balls[index % balls.length];
+            case BOX:
+                return index % 2 == 0 ? "plank" : "domino";
+            case BUCKET:
+                return "bucket";
+            case GOALZONE:
+                return "goalzone";
+            default:
+                return "restrictionzone";
+        }
+    }
+
+    private static void write(List<Map<String, Object>> results, Path output) throws IOException {
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output.toFile(), results);
+        System.out.println("Render-Ergebnisse gespeichert in " + output.toAbsolutePath());
+    }
+}
@@ -3,11 +3,13 @@ package mm.app;
 import javafx.application.Application;
 import javafx.stage.Stage;
 import mm.gui.controller.ViewManager;
+import mm.service.profiling.FlightRecording;
 
 public class Main extends Application {
 
     @Override
     public void start(Stage primaryStage) {
+        FlightRecording.startIfRequested();
         primaryStage.setTitle("Mad Machines");
         primaryStage.setWidth(1280);
         primaryStage.setHeight(720);
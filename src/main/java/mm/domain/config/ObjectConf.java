@@ -83,6 +83,13 @@ public abstract class ObjectConf {
      */
     public abstract String getSkinId();
 
+    /**
+     * @return Objektart dieser Konfiguration oder null bei unbekannten Unterklassen
+     */
+    public ObjectKind kind() {
+        return ObjectKind.of(getClass());
+    }
+
     /**
      * Validiert die Konfiguration. Kann von Subklassen überschrieben werden.
      * @throws IllegalArgumentException bei ungültigen Werten
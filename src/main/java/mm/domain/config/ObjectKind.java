@@ -0,0 +1,214 @@
+package mm.domain.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Verzeichnis aller Objektarten des Spiels.
+ * <p>
+ * Jede Art hat eine kleine, feste ID ({@link #getId()}) und bündelt an einer Stelle, was bisher über
+ * mehrere {@code switch}- und {@code instanceof}-Ketten verteilt war: Schlüssel für Skin, JSON und
+ * Limits, Konfigurationsklasse und Fabrik, Grundform für Physik und Kollision, Render-Farbe sowie
+ * die Regeln für Einzigartigkeit und Kennzeichnung des Körpers. Schichten, die eigene Daten pro Art
+ * brauchen (z.B. Editor-Nodes), legen diese in Arrays ab, die über die ID indiziert werden.
+ * </p>
+ * <p>
+ * Eine neue Objektart braucht einen Eintrag hier, eine Konfigurationsklasse mit Jackson-Subtyp in
+ * {@link ObjectConf} und eine Node-Fabrik im Editor ({@code NodePrototypes}); fehlt die Fabrik,
+ * schlägt bereits das Laden dieser Klasse fehl. Physik, Kollision, Rendering und die zufällige
+ * Platzierung leiten alles Weitere aus Grundform und Flags ab.
+ * </p>
+ */
+public enum ObjectKind {
+
+    TENNISBALL("tennisball", TennisballConf.class, TennisballConf::new, Shape.CIRCLE, "#00FF00", 1, false, false, true),
+    BOWLINGBALL("bowlingball", BowlingballConf.class, BowlingballConf::new, Shape.CIRCLE, "#2C3E50", 1, false, false, true),
+    BILLIARDBALL("billiardball", BilliardballConf.class, BilliardballConf::new, Shape.CIRCLE, "#ECF0F1", 1, false, false, true),
+    BALLOON("balloon", BalloonConf.class, BalloonConf::new, Shape.CIRCLE, "#E91E63", 1, false, true, true),
+    LOG("log", LogConf.class, LogConf::new, Shape.CIRCLE, "#8B4513", 1, false, false, true),
+    PLANK("plank", PlankConf.class, PlankConf::new, Shape.BOX, "#D2691E", 1, false, false, true),
+    DOMINO("domino", DominoConf.class, DominoConf::new, Shape.BOX, "#95A5A6", 1, false, false, true),
+    CRATEBOX("cratebox", CrateboxConf.class, CrateboxConf::new, Shape.BOX, "#FF6347", 1, false, false, true),
+    BUCKET("bucket", BucketConf.class, BucketConf::new, Shape.BUCKET, "#3498DB", 1, false, false, true),
+    GAMEBALL("gameball", GameBallConf.class, GameBallConf::new, Shape.CIRCLE, "#FFA500", 1, true, true, false),
+    GOALZONE("goalzone", GoalZoneConf.class, GoalZoneConf::new, Shape.GOALZONE, "#90EE90", 0.7, true, true, false),
+    RESTRICTIONZONE("restrictionzone", RestrictionZoneConf.class, RestrictionZoneConf::new, Shape.RESTRICTIONZONE, "#FF0000", 0.7, false, true, false);
+
+    /**
+     * Grundform einer Objektart; bestimmt Fixture, Kollisionsform und Render-Typ.
+     */
+    public enum Shape {
+        CIRCLE, BOX, BUCKET, GOALZONE, RESTRICTIONZONE
+    }
+
+    /**
+     * Erzeugt eine Konfiguration einer Objektart.
+     */
+    @FunctionalInterface
+    public interface Factory {
+        /**
+         * @param x X-Position
+         * @param y Y-Position
+         * @param angle Rotationswinkel in Radiant
+         * @param isStatic Ob das Objekt statisch ist (einige Arten sind immer statisch)
+         * @return Neue Konfiguration
+         */
+        ObjectConf create(float x, float y, float angle, boolean isStatic);
+    }
+
+    private static final ObjectKind[] BY_ID = values();
+    private static final Map<String, ObjectKind> BY_KEY = new HashMap<>();
+    private static final Map<Class<?>, ObjectKind> BY_CLASS = new HashMap<>();
+
+    static {
+        for (ObjectKind kind : BY_ID) {
+            BY_KEY.put(kind.key, kind);
+            BY_CLASS.put(kind.configClass, kind);
+        }
+    }
+
+    private final String key;
+    private final Class<? extends ObjectConf> configClass;
+    private final Factory factory;
+    private final Shape shape;
+    private final String color;
+    private final double opacity;
+    private final boolean unique;
+    private final boolean tagged;
+    private final boolean placeable;
+    /** Konfiguration mit Standardwerten am Ursprung, wird beim ersten Zugriff erzeugt */
+    private volatile ObjectConf template;
+
+    ObjectKind(String key, Class<? extends ObjectConf> configClass, Factory factory, Shape shape,
+               String color, double opacity, boolean unique, boolean tagged, boolean placeable) {
+        this.key = key;
+        this.configClass = configClass;
+        this.factory = factory;
+        this.shape = shape;
+        this.color = color;
+        this.opacity = opacity;
+        this.unique = unique;
+        this.tagged = tagged;
+        this.placeable = placeable;
+    }
+
+    /**
+     * @return Anzahl der Objektarten (Größe von Arrays, die über {@link #getId()} indiziert werden)
+     */
+    public static int count() {
+        return BY_ID.length;
+    }
+
+    /**
+     * @param id ID einer Objektart
+     * @return Objektart mit dieser ID
+     */
+    public static ObjectKind byId(int id) {
+        return BY_ID[id];
+    }
+
+    /**
+     * @param key Schlüssel (Skin-ID, Objekttyp im Editor, Limit-Schlüssel)
+     * @return Objektart oder null, wenn der Schlüssel unbekannt ist
+     */
+    public static ObjectKind byKey(String key) {
+        return key == null ? null : BY_KEY.get(key);
+    }
+
+    /**
+     * @param configClass Konfigurationsklasse
+     * @return Objektart oder null, wenn die Klasse keine eigene Art ist
+     */
+    public static ObjectKind of(Class<?> configClass) {
+        return BY_CLASS.get(configClass);
+    }
+
+    /**
+     * @return Kleine, feste ID der Objektart (0 bis {@link #count()} - 1)
+     */
+    public int getId() {
+        return ordinal();
+    }
+
+    /**
+     * @return Schlüssel für Skin, JSON-Typ, Editor und Limits (z.B. "tennisball")
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return Konfigurationsklasse
+     */
+    public Class<? extends ObjectConf> getConfigClass() {
+        return configClass;
+    }
+
+    /**
+     * @return Grundform
+     */
+    public Shape getShape() {
+        return shape;
+    }
+
+    /**
+     * @return Render-Farbe als Hex-Wert (z.B. "#00FF00")
+     */
+    public String getColor() {
+        return color;
+    }
+
+    /**
+     * @return Deckkraft der Render-Farbe (0 bis 1)
+     */
+    public double getOpacity() {
+        return opacity;
+    }
+
+    /**
+     * @return true, wenn der Spieler höchstens ein Objekt dieser Art platzieren darf
+     */
+    public boolean isUnique() {
+        return unique;
+    }
+
+    /**
+     * @return true, wenn der Physik-Körper über seinen Schlüssel als userData erkannt wird
+     */
+    public boolean isTagged() {
+        return tagged;
+    }
+
+    /**
+     * @return true, wenn der Spieler Objekte dieser Art aus der Palette platzieren kann
+     */
+    public boolean isPlaceable() {
+        return placeable;
+    }
+
+    /**
+     * Erzeugt eine Konfiguration dieser Art.
+     * @param x X-Position
+     * @param y Y-Position
+     * @param angle Rotationswinkel in Radiant
+     * @param isStatic Ob das Objekt statisch ist (einige Arten sind immer statisch)
+     * @return Neue Konfiguration
+     */
+    public ObjectConf create(float x, float y, float angle, boolean isStatic) {
+        return factory.create(x, y, angle, isStatic);
+    }
+
+    /**
+     * Gibt eine gemeinsam genutzte Konfiguration mit den Standardwerten dieser Art zurück, z.B. um
+     * Maße oder Physikparameter nachzuschlagen, ohne jedes Mal ein Objekt anzulegen.
+     * @return Konfiguration am Ursprung
+     */
+    public ObjectConf getTemplate() {
+        ObjectConf conf = template;
+        if (conf == null) {
+            conf = create(0, 0, 0, false);
+            template = conf;
+        }
+        return conf;
+    }
+}
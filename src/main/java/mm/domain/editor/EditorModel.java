@@ -0,0 +1,326 @@
+package mm.domain.editor;
+
+import mm.domain.config.ObjectConf;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Persistente (unveränderliche) Sammlung der Objekte eines Editors, geordnet nach ID.
+ * <p>
+ * Intern ein AVL-Baum mit Pfadkopie: {@link #with} und {@link #without} liefern in O(log n) eine
+ * neue Version, die alle unveränderten Teilbäume mit der alten teilt. Eine Version festzuhalten
+ * (Snapshot, Undo-Stand, Autosave) ist damit nur das Merken einer Referenz.
+ * </p>
+ * <p>
+ * {@link #diff} vergleicht zwei Versionen und überspringt dabei gemeinsame Teilbäume, sodass der
+ * Aufwand von der Anzahl der Änderungen abhängt und nicht von der Größe des Levels. Damit lässt sich
+ * z.B. die Szene oder ein Journal auf eine neue Version abgleichen.
+ * </p>
+ */
+public final class EditorModel {
+
+    private static final EditorModel EMPTY = new EditorModel(null);
+
+    private final Branch root;
+
+    private EditorModel(Branch root) {
+        this.root = root;
+    }
+
+    /**
+     * @return Leere Version
+     */
+    public static EditorModel empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @return Anzahl der Objekte
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * @return true, wenn die Version keine Objekte enthält
+     */
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Gibt die Konfiguration eines Objekts zurück.
+     * @param id ID des Objekts
+     * @return Konfiguration oder null, wenn es kein Objekt mit dieser ID gibt
+     */
+    public ObjectConf get(long id) {
+        Branch branch = root;
+        while (branch != null) {
+            if (id < branch.id) {
+                branch = branch.left;
+            } else if (id > branch.id) {
+                branch = branch.right;
+            } else {
+                return branch.conf;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gibt eine Version zurück, in der das Objekt die angegebene Konfiguration hat.
+     * @param id ID des Objekts
+     * @param conf Neue Konfiguration
+     * @return Neue Version oder diese, wenn sich nichts ändert
+     */
+    public EditorModel with(long id, ObjectConf conf) {
+        Objects.requireNonNull(conf, "conf");
+        Branch updated = insert(root, id, conf);
+        return updated == root ? this : new EditorModel(updated);
+    }
+
+    /**
+     * Gibt eine Version ohne das angegebene Objekt zurück.
+     * @param id ID des Objekts
+     * @return Neue Version oder diese, wenn es das Objekt nicht gibt
+     */
+    public EditorModel without(long id) {
+        Branch updated = delete(root, id);
+        return updated == root ? this : new EditorModel(updated);
+    }
+
+    /**
+     * @return Alle Konfigurationen in ID-Reihenfolge
+     */
+    public List<ObjectConf> values() {
+        List<ObjectConf> values = new ArrayList<>(size());
+        forEach((conf, id) -> values.add(conf));
+        return values;
+    }
+
+    /**
+     * Besucht alle Objekte in ID-Reihenfolge.
+     * @param visitor Empfänger von Konfiguration und ID
+     */
+    public void forEach(ObjLongConsumer<ObjectConf> visitor) {
+        Deque<Branch> stack = new ArrayDeque<>();
+        Branch branch = root;
+        while (branch != null || !stack.isEmpty()) {
+            while (branch != null) {
+                stack.push(branch);
+                branch = branch.left;
+            }
+            branch = stack.pop();
+            visitor.accept(branch.conf, branch.id);
+            branch = branch.right;
+        }
+    }
+
+    /**
+     * @return Größte vergebene ID oder 0, wenn die Version leer ist
+     */
+    public long maxId() {
+        Branch branch = root;
+        if (branch == null) {
+            return 0;
+        }
+        while (branch.right != null) {
+            branch = branch.right;
+        }
+        return branch.id;
+    }
+
+    /**
+     * Meldet alle Unterschiede von dieser Version zu einer neueren in ID-Reihenfolge.
+     * Teilbäume, die beide Versionen teilen, werden nicht besucht.
+     * @param newer Neuere Version
+     * @param listener Empfänger der Unterschiede
+     */
+    public void diff(EditorModel newer, DiffListener listener) {
+        Deque<Item> older = new ArrayDeque<>();
+        Deque<Item> current = new ArrayDeque<>();
+        if (root != null) {
+            older.push(new Item(root, false));
+        }
+        if (newer.root != null) {
+            current.push(new Item(newer.root, false));
+        }
+        while (!older.isEmpty() || !current.isEmpty()) {
+            Item a = older.peek();
+            Item b = current.peek();
+            if (a != null && b != null && a.branch == b.branch && !a.single && !b.single) {
+                older.pop();
+                current.pop();
+            } else if (a != null && !a.single && (b == null || b.single || a.branch.height >= b.branch.height)) {
+                expand(older);
+            } else if (b != null && !b.single) {
+                expand(current);
+            } else if (b == null || (a != null && a.branch.id < b.branch.id)) {
+                listener.removed(a.branch.id, a.branch.conf);
+                older.pop();
+            } else if (a == null || b.branch.id < a.branch.id) {
+                listener.added(b.branch.id, b.branch.conf);
+                current.pop();
+            } else {
+                if (!a.branch.conf.equals(b.branch.conf)) {
+                    listener.changed(a.branch.id, a.branch.conf, b.branch.conf);
+                }
+                older.pop();
+                current.pop();
+            }
+        }
+    }
+
+    /**
+     * Empfänger der Unterschiede zweier Versionen.
+     */
+    public interface DiffListener {
+        /**
+         * @param id ID des neuen Objekts
+         * @param conf Konfiguration in der neueren Version
+         */
+        void added(long id, ObjectConf conf);
+
+        /**
+         * @param id ID des entfernten Objekts
+         * @param conf Konfiguration in der älteren Version
+         */
+        void removed(long id, ObjectConf conf);
+
+        /**
+         * @param id ID des geänderten Objekts
+         * @param before Konfiguration in der älteren Version
+         * @param after Konfiguration in der neueren Version
+         */
+        void changed(long id, ObjectConf before, ObjectConf after);
+    }
+
+    /**
+     * Ersetzt den obersten Teilbaum des Stapels durch linken Teilbaum, Knoten und rechten Teilbaum.
+     */
+    private static void expand(Deque<Item> stack) {
+        Branch branch = stack.pop().branch;
+        if (branch.right != null) {
+            stack.push(new Item(branch.right, false));
+        }
+        stack.push(new Item(branch, true));
+        if (branch.left != null) {
+            stack.push(new Item(branch.left, false));
+        }
+    }
+
+    private static Branch insert(Branch branch, long id, ObjectConf conf) {
+        if (branch == null) {
+            return new Branch(id, conf, null, null);
+        }
+        if (id < branch.id) {
+            Branch left = insert(branch.left, id, conf);
+            return left == branch.left ? branch : balance(branch.id, branch.conf, left, branch.right);
+        }
+        if (id > branch.id) {
+            Branch right = insert(branch.right, id, conf);
+            return right == branch.right ? branch : balance(branch.id, branch.conf, branch.left, right);
+        }
+        return branch.conf == conf ? branch : new Branch(id, conf, branch.left, branch.right);
+    }
+
+    private static Branch delete(Branch branch, long id) {
+        if (branch == null) {
+            return null;
+        }
+        if (id < branch.id) {
+            Branch left = delete(branch.left, id);
+            return left == branch.left ? branch : balance(branch.id, branch.conf, left, branch.right);
+        }
+        if (id > branch.id) {
+            Branch right = delete(branch.right, id);
+            return right == branch.right ? branch : balance(branch.id, branch.conf, branch.left, right);
+        }
+        if (branch.left == null) {
+            return branch.right;
+        }
+        if (branch.right == null) {
+            return branch.left;
+        }
+        Branch successor = branch.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.id, successor.conf, branch.left, delete(branch.right, successor.id));
+    }
+
+    /**
+     * Baut einen Knoten und stellt die AVL-Bedingung mit höchstens zwei Rotationen wieder her.
+     */
+    private static Branch balance(long id, ObjectConf conf, Branch left, Branch right) {
+        int diff = height(left) - height(right);
+        if (diff > 1) {
+            if (height(left.left) < height(left.right)) {
+                left = rotateLeft(left.id, left.conf, left.left, left.right);
+            }
+            return rotateRight(id, conf, left, right);
+        }
+        if (diff < -1) {
+            if (height(right.right) < height(right.left)) {
+                right = rotateRight(right.id, right.conf, right.left, right.right);
+            }
+            return rotateLeft(id, conf, left, right);
+        }
+        return new Branch(id, conf, left, right);
+    }
+
+    private static Branch rotateRight(long id, ObjectConf conf, Branch left, Branch right) {
+        return new Branch(left.id, left.conf, left.left, new Branch(id, conf, left.right, right));
+    }
+
+    private static Branch rotateLeft(long id, ObjectConf conf, Branch left, Branch right) {
+        return new Branch(right.id, right.conf, new Branch(id, conf, left, right.left), right.right);
+    }
+
+    private static int height(Branch branch) {
+        return branch == null ? 0 : branch.height;
+    }
+
+    private static int size(Branch branch) {
+        return branch == null ? 0 : branch.size;
+    }
+
+    /**
+     * Unveränderlicher Baumknoten.
+     */
+    private static final class Branch {
+        final long id;
+        final ObjectConf conf;
+        final Branch left;
+        final Branch right;
+        final int height;
+        final int size;
+
+        Branch(long id, ObjectConf conf, Branch left, Branch right) {
+            this.id = id;
+            this.conf = conf;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+
+    /**
+     * Eintrag im Stapel von {@link #diff}: ein ganzer Teilbaum oder nur dessen Wurzelknoten.
+     */
+    private static final class Item {
+        final Branch branch;
+        final boolean single;
+
+        Item(Branch branch, boolean single) {
+            this.branch = branch;
+            this.single = single;
+        }
+    }
+}
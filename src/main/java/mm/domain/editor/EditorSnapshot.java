@@ -0,0 +1,87 @@
+package mm.domain.editor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Unveränderlicher Zustand des Game-Editors, z.B. für den Wechsel Editor → Spiel → Editor.
+ * <p>
+ * Statt JavaFX-Nodes enthält der Snapshot nur die Versionen des {@link EditorModel}, also
+ * Konfigurationen nach ID. Da die Modelle unveränderlich sind, kostet ein Snapshot nur das Merken
+ * der Referenzen. Über die ID kann beim Wiederherstellen eine noch vorhandene Node
+ * wiederverwendet werden; nur Objekte ohne passende Node werden neu aufgebaut.
+ * </p>
+ */
+public final class EditorSnapshot {
+
+    /** Leerer Snapshot */
+    public static final EditorSnapshot EMPTY = new EditorSnapshot(EditorModel.empty(), EditorModel.empty(),
+        "Bringe den Ball in die Zielzone", Map.of(), 0, 0);
+
+    private final EditorModel levelObjects;
+    private final EditorModel playerObjects;
+    private final String objective;
+    private final Map<String, Integer> limits;
+    private final double worldWidth;
+    private final double worldHeight;
+
+    /**
+     * @param levelObjects Vorplatzierte Level-Objekte
+     * @param playerObjects Vom Spieler platzierte Objekte
+     * @param objective Zielbeschreibung
+     * @param limits Objekt-Limits
+     * @param worldWidth Breite der Welt in Metern (0 = Größe des Spielfelds)
+     * @param worldHeight Höhe der Welt in Metern (0 = Größe des Spielfelds)
+     */
+    public EditorSnapshot(EditorModel levelObjects, EditorModel playerObjects, String objective,
+                          Map<String, Integer> limits, double worldWidth, double worldHeight) {
+        this.levelObjects = levelObjects;
+        this.playerObjects = playerObjects;
+        this.objective = objective;
+        this.limits = Map.copyOf(limits);
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+    }
+
+    /**
+     * @return Vorplatzierte Level-Objekte
+     */
+    public EditorModel getLevelObjects() {
+        return levelObjects;
+    }
+
+    /**
+     * @return Vom Spieler platzierte Objekte
+     */
+    public EditorModel getPlayerObjects() {
+        return playerObjects;
+    }
+
+    /**
+     * @return Zielbeschreibung
+     */
+    public String getObjective() {
+        return objective;
+    }
+
+    /**
+     * @return Veränderbare Kopie der Objekt-Limits
+     */
+    public Map<String, Integer> getLimits() {
+        return new HashMap<>(limits);
+    }
+
+    /**
+     * @return Breite der Welt in Metern (0 = Größe des Spielfelds)
+     */
+    public double getWorldWidth() {
+        return worldWidth;
+    }
+
+    /**
+     * @return Höhe der Welt in Metern (0 = Größe des Spielfelds)
+     */
+    public double getWorldHeight() {
+        return worldHeight;
+    }
+}
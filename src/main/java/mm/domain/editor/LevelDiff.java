@@ -0,0 +1,52 @@
+package mm.domain.editor;
+
+import mm.domain.config.ObjectConf;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ordnet die Objekte zweier Versionen einer Leveldatei einander zu.
+ * <p>
+ * Objekte in Leveldateien haben keine IDs, daher gilt ein Objekt als unverändert, wenn die neue
+ * Version ein Objekt derselben Art mit gleicher Konfiguration enthält. Mehrfach vorkommende
+ * gleiche Objekte werden in Dateireihenfolge zugeordnet. Alles ohne Partner ist neu bzw. entfernt;
+ * ein verschobenes Objekt erscheint also als entfernt und neu.
+ * </p>
+ */
+public final class LevelDiff {
+
+    private LevelDiff() {}
+
+    /**
+     * @param older Objekte der bisherigen Version
+     * @param newer Objekte der neuen Version
+     * @return Für jedes Objekt der neuen Version der Index seines Partners in {@code older} oder -1
+     */
+    public static int[] match(List<ObjectConf> older, List<ObjectConf> newer) {
+        Map<List<Object>, Deque<Integer>> unmatched = new HashMap<>();
+        for (int i = 0; i < older.size(); i++) {
+            unmatched.computeIfAbsent(keyOf(older.get(i)), key -> new ArrayDeque<>()).add(i);
+        }
+        int[] sources = new int[newer.size()];
+        Arrays.fill(sources, -1);
+        for (int i = 0; i < newer.size(); i++) {
+            Deque<Integer> candidates = unmatched.get(keyOf(newer.get(i)));
+            if (candidates != null && !candidates.isEmpty()) {
+                sources[i] = candidates.poll();
+            }
+        }
+        return sources;
+    }
+
+    /**
+     * {@link ObjectConf#equals} vergleicht nur die gemeinsamen Felder, die Klasse gehört deshalb zum Schlüssel.
+     */
+    private static List<Object> keyOf(ObjectConf conf) {
+        return List.of(conf.getClass(), conf);
+    }
+}
@@ -7,18 +7,7 @@ import javafx.scene.shape.Rectangle;
 import javafx.scene.image.ImageView;
 import javafx.scene.shape.Line;
 import mm.domain.config.ObjectConf;
-import mm.domain.config.TennisballConf;
-import mm.domain.config.BowlingballConf;
-import mm.domain.config.BilliardballConf;
-import mm.domain.config.BalloonConf;
-import mm.domain.config.LogConf;
-import mm.domain.config.PlankConf;
-import mm.domain.config.DominoConf;
-import mm.domain.config.CrateboxConf;
-import mm.domain.config.BucketConf;
-import mm.domain.config.GameBallConf;
-import mm.domain.config.GoalZoneConf;
-import mm.domain.config.RestrictionZoneConf;
+import mm.domain.config.ObjectKind;
 
 /**
  * Repräsentiert ein platziertes Objekt im Editor (z. B. im Level- oder Game-Editor).
@@ -33,6 +22,8 @@ public class PlacedObject {
     private final Node node;
     /** Die zugehörige Konfigurationsklasse (z. B. TennisballConf.class) */
     private final Class<? extends ObjectConf> configClass;
+    /** Objektart, abgeleitet aus der Konfigurationsklasse */
+    private final ObjectKind kind;
 
     /**
      * Erstellt ein neues platziertes Objekt.
@@ -42,6 +33,7 @@ public class PlacedObject {
     public PlacedObject(Node node, Class<? extends ObjectConf> configClass) {
         this.node = node;
         this.configClass = configClass;
+        this.kind = ObjectKind.of(configClass);
     }
 
     /**
@@ -58,6 +50,13 @@ public class PlacedObject {
         return configClass;
     }
 
+    /**
+     * @return Objektart des Objekts
+     */
+    public ObjectKind getKind() {
+        return kind;
+    }
+
     /**
      * Erzeugt eine tiefe Kopie dieses platzierten Objekts (inkl. Node).
      * @return Neue PlacedObject-Instanz mit kopierter Node
@@ -174,34 +173,50 @@ public class PlacedObject {
         float x = (float) (cx / SCALE);
         float y = (float) (cy / SCALE);
         float angle = (float) Math.toRadians(node.getRotate());
-        boolean isStatic = false;
+        return createConfig(configClass, x, y, angle, false);
+    }
 
-        if (configClass == TennisballConf.class) {
-            return new TennisballConf(x, y, angle, isStatic);
-        } else if (configClass == BowlingballConf.class) {
-            return new BowlingballConf(x, y, angle, isStatic);
-        } else if (configClass == BilliardballConf.class) {
-            return new BilliardballConf(x, y, angle, isStatic);
-        } else if (configClass == BalloonConf.class) {
-            return new BalloonConf(x, y, angle, isStatic);
-        } else if (configClass == LogConf.class) {
-            return new LogConf(x, y, angle, isStatic);
-        } else if (configClass == PlankConf.class) {
-            return new PlankConf(x, y, angle, isStatic);
-        } else if (configClass == DominoConf.class) {
-            return new DominoConf(x, y, angle, isStatic);
-        } else if (configClass == CrateboxConf.class) {
-            return new CrateboxConf(x, y, angle, isStatic);
-        } else if (configClass == BucketConf.class) {
-            return new BucketConf(x, y, angle, isStatic);
-        } else if (configClass == GameBallConf.class) {
-            return new GameBallConf(x, y, angle, isStatic);
-        } else if (configClass == GoalZoneConf.class) {
-            return new GoalZoneConf(x, y, angle, isStatic);
-        } else if (configClass == RestrictionZoneConf.class) {
-            return new RestrictionZoneConf(x, y, angle, isStatic);
+    /**
+     * Setzt Position und Rotation der Node so, dass {@link #toConfig()} die angegebene
+     * Konfiguration ergibt.
+     * @param conf Konfiguration mit Position in Spielfeld-Einheiten und Winkel in Radiant
+     */
+    public void moveTo(ObjectConf conf) {
+        final double SCALE = 100.0;
+
+        double cx = conf.getX() * SCALE;
+        double cy = conf.getY() * SCALE;
+
+        if (node instanceof Circle) {
+            Circle c = (Circle) node;
+            node.setLayoutX(cx - c.getCenterX());
+            node.setLayoutY(cy - c.getCenterY());
+        } else if (node instanceof Rectangle) {
+            Rectangle r = (Rectangle) node;
+            node.setLayoutX(cx - r.getWidth() / 2);
+            node.setLayoutY(cy - r.getHeight() / 2);
+        } else {
+            node.setLayoutX(cx);
+            node.setLayoutY(cy);
         }
+        node.setRotate(Math.toDegrees(conf.getAngle()));
+    }
 
-        throw new IllegalStateException("Unknown config type: " + configClass);
+    /**
+     * Erzeugt eine Konfigurationsinstanz der angegebenen Klasse.
+     * @param configClass Die Konfigurationsklasse
+     * @param x X-Position in Spielfeld-Einheiten
+     * @param y Y-Position in Spielfeld-Einheiten
+     * @param angle Rotationswinkel in Radiant
+     * @param isStatic Ob das Objekt statisch ist (einige Typen sind immer statisch)
+     * @return Die entsprechende ObjectConf-Instanz
+     * @throws IllegalStateException bei unbekannter Konfigurationsklasse
+     */
+    public static ObjectConf createConfig(Class<? extends ObjectConf> configClass, float x, float y, float angle, boolean isStatic) {
+        ObjectKind kind = ObjectKind.of(configClass);
+        if (kind == null) {
+            throw new IllegalStateException("Unknown config type: " + configClass);
+        }
+        return kind.create(x, y, angle, isStatic);
     }
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package mm.domain.json;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR-Ereignis für die Prüfung einer Leveldatei.
+ */
+@Name("mm.LevelValidation")
+@Label("Level-Validierung")
+@Category({"Mad Machines", "Level"})
+@Description("Ein Aufruf von LevelValidator.isValidLevelFile()")
+class LevelValidationEvent extends jdk.jfr.Event {
+    /** Pfad der Datei */
+    @Label("Datei")
+    String path;
+    /** Größe der Datei */
+    @Label("Größe")
+    @DataAmount
+    long bytes;
+    /** Ergebnis der Prüfung */
+    @Label("Gültig")
+    boolean valid;
+}
@@ -2,6 +2,7 @@ package mm.domain.json;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import mm.domain.config.ObjectKind;
 import mm.domain.storage.LevelData;
 import java.io.File;
 import java.io.IOException;
@@ -14,13 +15,9 @@ import java.io.IOException;
  * </p>
  */
 public class LevelValidator {
-    
-    /** Liste aller gültigen Skin-IDs für Objekte im Spiel */
-    private static final String[] VALID_SKIN_IDS = {
-        "tennisball", "billiardball", "bowlingball", "balloon",
-        "bucket", "cratebox", "domino", "log", "plank",
-        "gameball", "goalzone", "restrictionzone"
-    };
+
+    /** Gemeinsamer, threadsicherer ObjectMapper zum Einlesen der JSON-Bäume */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
     
     /**
      * Prüft, ob die angegebene Datei ein gültiges Level-Format besitzt.
@@ -28,10 +25,55 @@ public class LevelValidator {
      * @return true, wenn die Datei ein gültiges Level-Format hat, sonst false
      */
     public static boolean isValidLevelFile(File file) {
+        LevelValidationEvent event = new LevelValidationEvent();
+        event.begin();
+        boolean valid = validate(file);
+        if (event.shouldCommit()) {
+            event.path = file.getPath();
+            event.bytes = file.length();
+            event.valid = valid;
+            event.commit();
+        }
+        return valid;
+    }
+
+    /**
+     * Prüft, ob ein bereits eingelesener Dateiinhalt ein gültiges Level-Format besitzt,
+     * z.B. für Einträge aus einem Zip-Archiv.
+     * @param content Inhalt der Leveldatei
+     * @return true, wenn der Inhalt ein gültiges Level-Format hat, sonst false
+     */
+    public static boolean isValidLevel(byte[] content) {
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode root = mapper.readTree(file);
-            
+            return validate(MAPPER.readTree(content));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Führt die eigentliche Prüfung der Leveldatei durch.
+     * @param file Die zu prüfende Datei
+     * @return true, wenn die Datei ein gültiges Level-Format hat, sonst false
+     */
+    private static boolean validate(File file) {
+        try {
+            return validate(MAPPER.readTree(file));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Prüft den JSON-Baum einer Leveldatei.
+     * @param root Das JSON-Root-Objekt
+     * @return true, wenn der Baum ein gültiges Level beschreibt, sonst false
+     */
+    private static boolean validate(JsonNode root) {
+        try {
+            if (root == null) {
+                return false;
+            }
             if (!hasRequiredFields(root)) {
                 return false;
             }
@@ -59,8 +101,6 @@ public class LevelValidator {
             
             return true;
             
-        } catch (IOException e) {
-            return false;
         } catch (Exception e) {
             return false;
         }
@@ -116,12 +156,7 @@ public class LevelValidator {
      * @return true, wenn gültig
      */
     private static boolean isValidSkinId(String skinId) {
-        for (String validId : VALID_SKIN_IDS) {
-            if (validId.equals(skinId)) {
-                return true;
-            }
-        }
-        return false;
+        return ObjectKind.byKey(skinId) != null;
     }
     
     /**
@@ -136,7 +171,6 @@ public class LevelValidator {
             throw new IllegalArgumentException("Die Datei enthält kein gültiges Level-Format");
         }
         
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.readValue(file, LevelData.class);
+        return MAPPER.readValue(file, LevelData.class);
     }
 } 
\ No newline at end of file
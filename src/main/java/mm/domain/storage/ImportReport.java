@@ -0,0 +1,70 @@
+package mm.domain.storage;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ergebnis eines Imports mit dem {@link LevelImporter}.
+ */
+public class ImportReport {
+
+    private final List<Path> levels;
+    private final int imported;
+    private final int duplicates;
+    private final Map<String, String> errors;
+    private final long elapsedMillis;
+
+    /**
+     * @param levels Gespeicherte Dateien aller gültigen Level in Quellreihenfolge (neu oder schon vorhanden)
+     * @param imported Anzahl neu gespeicherter Level
+     * @param duplicates Anzahl Level, deren Inhalt schon vorhanden war
+     * @param errors Fehlermeldung pro Quelldatei (Name in Verzeichnis oder Archiv)
+     * @param elapsedMillis Dauer des Imports in Millisekunden
+     */
+    public ImportReport(List<Path> levels, int imported, int duplicates, Map<String, String> errors,
+                        long elapsedMillis) {
+        this.levels = List.copyOf(levels);
+        this.imported = imported;
+        this.duplicates = duplicates;
+        this.errors = Collections.unmodifiableMap(new LinkedHashMap<>(errors));
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * @return Gespeicherte Dateien aller gültigen Level in Quellreihenfolge
+     */
+    public List<Path> getLevels() {
+        return levels;
+    }
+
+    /**
+     * @return Anzahl neu gespeicherter Level
+     */
+    public int getImported() {
+        return imported;
+    }
+
+    /**
+     * @return Anzahl Level, deren Inhalt schon vorhanden war
+     */
+    public int getDuplicates() {
+        return duplicates;
+    }
+
+    /**
+     * @return Fehlermeldung pro Quelldatei in Quellreihenfolge
+     */
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return Dauer des Imports in Millisekunden
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+}
@@ -0,0 +1,201 @@
+package mm.domain.storage;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import mm.domain.json.LevelValidator;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Verzeichnis aller Leveldateien in einem oder mehreren Ordnern.
+ * <p>
+ * Die Metadaten jedes Levels ({@link LevelInfo}) werden in einer Indexdatei gespeichert. Beim Start
+ * ist der letzte Stand sofort über {@link #getEntries()} verfügbar, ohne ein Level zu öffnen.
+ * {@link #refresh()} gleicht den Index mit den Ordnern ab und liest nur Dateien neu, deren
+ * Änderungszeit oder Größe sich geändert hat; unveränderte Einträge werden übernommen.
+ * </p>
+ * <p>
+ * Die Einträge sind unveränderlich und dürfen von beliebigen Threads gelesen werden;
+ * {@link #refresh()} sollte nicht auf dem FX-Thread laufen.
+ * </p>
+ */
+public class LevelCatalog {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final List<Path> directories;
+    private final Path indexFile;
+    /** Letzter bekannter Stand, sortiert nach Ordner und Dateiname */
+    private volatile List<LevelInfo> entries;
+
+    /**
+     * Erstellt den Katalog und lädt den gespeicherten Index, falls vorhanden.
+     * @param indexFile Datei, in der der Index gespeichert wird
+     * @param directories Durchsuchte Level-Ordner
+     */
+    public LevelCatalog(Path indexFile, List<Path> directories) {
+        this.indexFile = indexFile;
+        this.directories = List.copyOf(directories);
+        this.entries = loadIndex();
+    }
+
+    /**
+     * @return Standard-Indexdatei im Benutzerverzeichnis
+     */
+    public static Path defaultIndexFile() {
+        return Path.of(System.getProperty("user.home"), ".madmachines", "level-index.json");
+    }
+
+    /**
+     * @return Letzter bekannter Stand des Katalogs (aus dem Index oder dem letzten {@link #refresh()})
+     */
+    public List<LevelInfo> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Gleicht den Katalog mit den Level-Ordnern ab und speichert den Index, wenn sich etwas geändert hat.
+     * @return Aktueller Stand des Katalogs
+     */
+    public synchronized List<LevelInfo> refresh() {
+        Map<String, LevelInfo> known = new HashMap<>();
+        for (LevelInfo info : entries) {
+            known.put(info.getPath(), info);
+        }
+
+        List<LevelInfo> result = new ArrayList<>();
+        boolean changed = false;
+        for (Path directory : directories) {
+            for (Path file : listLevels(directory)) {
+                String key = file.toAbsolutePath().normalize().toString();
+                LevelInfo info = known.remove(key);
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                    long lastModified = attributes.lastModifiedTime().toMillis();
+                    if (info == null || info.getLastModified() != lastModified || info.getSize() != attributes.size()) {
+                        info = read(file, key, lastModified, attributes.size());
+                        changed = true;
+                    }
+                    result.add(info);
+                } catch (IOException e) {
+                    System.err.println("Level " + file + " konnte nicht gelesen werden: " + e.getMessage());
+                    changed = true;
+                }
+            }
+        }
+        if (!known.isEmpty()) {
+            changed = true;
+        }
+
+        entries = List.copyOf(result);
+        if (changed) {
+            saveIndex(entries);
+        }
+        return entries;
+    }
+
+    /**
+     * Listet die Leveldateien eines Ordners nach Dateinamen sortiert auf.
+     */
+    private static List<Path> listLevels(Path directory) {
+        List<Path> files = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return files;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*.json")) {
+            for (Path file : stream) {
+                if (Files.isRegularFile(file)) {
+                    files.add(file);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Level-Ordner " + directory + " konnte nicht gelesen werden: " + e.getMessage());
+        }
+        files.sort(null);
+        return files;
+    }
+
+    /**
+     * Liest und prüft eine Leveldatei. Ungültige Level bekommen einen Eintrag mit Fehlermeldung.
+     */
+    private static LevelInfo read(Path file, String key, long lastModified, long size) throws IOException {
+        String hash = hash(Files.readAllBytes(file));
+        String fileName = file.getFileName().toString();
+        String fallbackName = fileName.substring(0, fileName.length() - ".json".length());
+        try {
+            LevelData level = LevelValidator.loadValidatedLevel(file.toFile());
+            String name = level.getName() == null || level.getName().isBlank() ? fallbackName : level.getName();
+            int playerObjects = 0;
+            for (int limit : level.getLimits().values()) {
+                playerObjects += limit;
+            }
+            return new LevelInfo(key, name, level.getDifficulty(), level.getObjects().size(), playerObjects,
+                hash, lastModified, size, null);
+        } catch (IllegalArgumentException | IOException e) {
+            String error = e.getMessage() != null ? e.getMessage() : "Ungültiges Level-Format";
+            return new LevelInfo(key, fallbackName, null, 0, 0, hash, lastModified, size, error);
+        }
+    }
+
+    /**
+     * Berechnet den Inhalts-Hash, wie ihn {@link LevelInfo#getContentHash()} liefert. Alle Stellen,
+     * die Level über ihren Inhalt erkennen (Import, Beobachtung, Vorschaubilder), benutzen diese Methode.
+     * @param content Dateiinhalt
+     * @return Hex-kodierter SHA-256-Hash
+     */
+    public static String hash(byte[] content) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 nicht verfügbar", e);
+        }
+    }
+
+    /**
+     * Lädt den gespeicherten Index. Fehlt er oder ist er unlesbar, beginnt der Katalog leer.
+     */
+    private List<LevelInfo> loadIndex() {
+        if (!Files.isRegularFile(indexFile)) {
+            return List.of();
+        }
+        try {
+            return List.copyOf(MAPPER.readValue(indexFile.toFile(), new TypeReference<List<LevelInfo>>() {}));
+        } catch (IOException e) {
+            System.err.println("Level-Index konnte nicht gelesen werden: " + e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * Schreibt den Index über eine temporäre Datei, damit ein Abbruch keinen halben Index hinterlässt.
+     */
+    private void saveIndex(List<LevelInfo> index) {
+        try {
+            Path directory = indexFile.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, "level-index", ".tmp");
+            MAPPER.writeValue(tmp.toFile(), index);
+            Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Level-Index konnte nicht gespeichert werden: " + e.getMessage());
+        }
+    }
+}
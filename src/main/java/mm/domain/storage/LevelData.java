@@ -9,7 +9,8 @@ import java.util.HashMap;
  * Datenklasse, die alle Informationen eines Levels kapselt.
  * <p>
  * Enthält Name, Schwierigkeitsgrad, Zielbeschreibung, die Liste der platzierten Objekte
- * sowie die Limits für die Anzahl bestimmter Objekttypen. Wird für die Serialisierung,
+ * sowie die Limits für die Anzahl bestimmter Objekttypen. Optional legt ein Level seine eigene
+ * Weltgröße fest; ohne Angabe entspricht die Welt dem Spielfeld. Wird für die Serialisierung,
  * Speicherung und den Austausch von Leveldaten verwendet.
  * </p>
  */
@@ -24,21 +25,42 @@ public class LevelData {
     private final List<ObjectConf> objects;
     /** Limits für die Anzahl bestimmter Objekttypen */
     private final Map<String, Integer> limits;
+    /** Breite der Welt in Metern (0 = Größe des Spielfelds) */
+    private final double worldWidth;
+    /** Höhe der Welt in Metern (0 = Größe des Spielfelds) */
+    private final double worldHeight;
 
     /**
-     * Vollparametrisierter Konstruktor für Leveldaten.
+     * Konstruktor für Level mit eigener Weltgröße.
      * @param name Name des Levels
      * @param difficulty Schwierigkeitsgrad
      * @param objective Zielbeschreibung
      * @param objects Liste der platzierten Objekte
      * @param limits Objekt-Limits
+     * @param worldWidth Breite der Welt in Metern (0 = Größe des Spielfelds)
+     * @param worldHeight Höhe der Welt in Metern (0 = Größe des Spielfelds)
      */
-    public LevelData(String name, Difficulty difficulty, String objective, List<ObjectConf> objects, Map<String, Integer> limits) {
+    public LevelData(String name, Difficulty difficulty, String objective, List<ObjectConf> objects,
+                     Map<String, Integer> limits, double worldWidth, double worldHeight) {
         this.name = name;
         this.difficulty = difficulty;
         this.objective = objective;
         this.objects = objects;
         this.limits = limits != null ? limits : new HashMap<>();
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+    }
+
+    /**
+     * Vollparametrisierter Konstruktor für Leveldaten.
+     * @param name Name des Levels
+     * @param difficulty Schwierigkeitsgrad
+     * @param objective Zielbeschreibung
+     * @param objects Liste der platzierten Objekte
+     * @param limits Objekt-Limits
+     */
+    public LevelData(String name, Difficulty difficulty, String objective, List<ObjectConf> objects, Map<String, Integer> limits) {
+        this(name, difficulty, objective, objects, limits, 0, 0);
     }
 
     /**
@@ -93,4 +115,26 @@ public class LevelData {
     public Map<String, Integer> getLimits() {
         return limits;
     }
+
+    /**
+     * @return Breite der Welt in Metern (0 = Größe des Spielfelds)
+     */
+    public double getWorldWidth() {
+        return worldWidth;
+    }
+
+    /**
+     * @return Höhe der Welt in Metern (0 = Größe des Spielfelds)
+     */
+    public double getWorldHeight() {
+        return worldHeight;
+    }
+
+    /**
+     * Gibt zurück, ob das Level eine eigene Weltgröße festlegt.
+     * @return true, wenn Breite und Höhe gesetzt sind
+     */
+    public boolean hasWorldSize() {
+        return worldWidth > 0 && worldHeight > 0;
+    }
 }
\ No newline at end of file
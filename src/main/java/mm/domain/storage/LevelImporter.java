@@ -0,0 +1,259 @@
+package mm.domain.storage;
+
+import mm.domain.json.LevelValidator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Importiert Level aus einer Datei, einem Verzeichnis oder einem Zip-Archiv.
+ * <p>
+ * Die Dateien werden auf einem Thread-Pool parallel gelesen und geprüft. Gültige Level werden
+ * inhaltsadressiert als {@code <SHA-256>.json} im Zielverzeichnis abgelegt: Gleicher Inhalt unter
+ * verschiedenen Namen wird nur einmal gespeichert, und gleichnamige Level aus verschiedenen
+ * Quellen überschreiben sich nicht. Fehler werden pro Datei gesammelt und brechen den Import
+ * nicht ab.
+ * </p>
+ */
+public class LevelImporter {
+
+    /** Größte importierte Leveldatei in Bytes; größere Einträge (z.B. in Archiven) werden abgelehnt */
+    public static final int MAX_LEVEL_BYTES = 8 * 1024 * 1024;
+
+    /**
+     * Empfängt den Fortschritt eines Imports. Wird von den Import-Threads aufgerufen.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * @param done Anzahl bearbeiteter Dateien
+         * @param total Gesamtzahl der Dateien
+         */
+        void progress(int done, int total);
+    }
+
+    private final Path targetDir;
+    private final int threads;
+
+    /**
+     * @param targetDir Verzeichnis, in dem die importierten Level gespeichert werden
+     */
+    public LevelImporter(Path targetDir) {
+        this.targetDir = targetDir;
+        this.threads = Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * @return Standard-Verzeichnis für importierte Level im Benutzerverzeichnis
+     */
+    public static Path defaultImportDir() {
+        return Path.of(System.getProperty("user.home"), ".madmachines", "levels");
+    }
+
+    /**
+     * Importiert alle Leveldateien einer Quelle.
+     * @param source Einzelne {@code .json}-Datei, Verzeichnis (rekursiv) oder {@code .zip}-Archiv
+     * @param listener Empfänger des Fortschritts
+     * @return Ergebnis mit gespeicherten Dateien und Fehlern pro Quelldatei
+     * @throws IOException wenn die Quelle selbst nicht gelesen werden kann
+     * @throws InterruptedException bei Abbruch
+     * @throws IllegalArgumentException wenn die Quelle weder Leveldatei, Verzeichnis noch Zip-Archiv ist
+     */
+    public ImportReport importFrom(Path source, ProgressListener listener) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        Files.createDirectories(targetDir);
+        if (Files.isDirectory(source)) {
+            List<Path> files;
+            try (Stream<Path> walk = Files.walk(source)) {
+                files = walk.filter(Files::isRegularFile).filter(LevelImporter::isLevelFile).sorted()
+                    .collect(Collectors.toList());
+            }
+            Map<String, Reader> readers = new LinkedHashMap<>();
+            for (Path file : files) {
+                readers.put(source.relativize(file).toString(), () -> read(Files.newInputStream(file)));
+            }
+            return run(readers, listener, start);
+        }
+        String name = source.getFileName().toString().toLowerCase();
+        if (name.endsWith(".zip")) {
+            try (ZipFile zip = new ZipFile(source.toFile())) {
+                Map<String, Reader> readers = new LinkedHashMap<>();
+                Enumeration<? extends ZipEntry> entries = zip.entries();
+                while (entries.hasMoreElements()) {
+                    ZipEntry entry = entries.nextElement();
+                    if (!entry.isDirectory() && entry.getName().toLowerCase().endsWith(".json")) {
+                        // ZipFile erlaubt gleichzeitiges Lesen verschiedener Einträge
+                        readers.put(entry.getName(), () -> read(zip.getInputStream(entry)));
+                    }
+                }
+                return run(readers, listener, start);
+            }
+        }
+        if (isLevelFile(source)) {
+            return run(Map.of(source.getFileName().toString(), () -> read(Files.newInputStream(source))), listener, start);
+        }
+        throw new IllegalArgumentException("Nicht unterstützte Quelle: " + source.getFileName());
+    }
+
+    /**
+     * Liest eine Quelldatei.
+     */
+    @FunctionalInterface
+    private interface Reader {
+        byte[] read() throws IOException;
+    }
+
+    /**
+     * Ergebnis einer einzelnen Quelldatei: gespeicherte Datei oder Fehlermeldung.
+     */
+    private static final class Outcome {
+        final Path level;
+        final boolean created;
+        final String error;
+
+        Outcome(Path level, boolean created, String error) {
+            this.level = level;
+            this.created = created;
+            this.error = error;
+        }
+    }
+
+    private ImportReport run(Map<String, Reader> readers, ProgressListener listener, long start)
+            throws IOException, InterruptedException {
+        Map<String, CompletableFuture<Path>> stored = storedLevels();
+        int total = readers.size();
+        AtomicInteger done = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, total)), runnable -> {
+            Thread thread = new Thread(runnable, "level-import");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Map<String, Future<Outcome>> futures = new LinkedHashMap<>();
+            readers.forEach((name, reader) -> futures.put(name, executor.submit(() -> {
+                Outcome outcome = importOne(reader, stored);
+                listener.progress(done.incrementAndGet(), total);
+                return outcome;
+            })));
+
+            List<Path> levels = new ArrayList<>();
+            Map<String, String> errors = new LinkedHashMap<>();
+            int imported = 0;
+            int duplicates = 0;
+            for (Map.Entry<String, Future<Outcome>> entry : futures.entrySet()) {
+                Outcome outcome;
+                try {
+                    outcome = entry.getValue().get();
+                } catch (ExecutionException e) {
+                    outcome = new Outcome(null, false, String.valueOf(e.getCause().getMessage()));
+                }
+                if (outcome.error != null) {
+                    errors.put(entry.getKey(), outcome.error);
+                } else {
+                    levels.add(outcome.level);
+                    if (outcome.created) {
+                        imported++;
+                    } else {
+                        duplicates++;
+                    }
+                }
+            }
+            return new ImportReport(levels, imported, duplicates, errors, (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Liest, prüft und speichert eine Quelldatei, falls ihr Inhalt noch nicht vorhanden ist.
+     * Schreibt ein anderer Thread gerade denselben Inhalt, wird auf dessen Ergebnis gewartet,
+     * damit ein Duplikat nie auf eine Datei verweist, deren Speichern noch fehlschlagen kann.
+     */
+    private Outcome importOne(Reader reader, Map<String, CompletableFuture<Path>> stored) {
+        byte[] content;
+        try {
+            content = reader.read();
+        } catch (IOException e) {
+            return new Outcome(null, false, "Nicht lesbar: " + e.getMessage());
+        }
+        if (content == null) {
+            return new Outcome(null, false, "Datei ist größer als " + MAX_LEVEL_BYTES + " Bytes");
+        }
+        if (!LevelValidator.isValidLevel(content)) {
+            return new Outcome(null, false, "Ungültiges Level-Format");
+        }
+        String hash = LevelCatalog.hash(content);
+        CompletableFuture<Path> write = new CompletableFuture<>();
+        CompletableFuture<Path> first = stored.putIfAbsent(hash, write);
+        if (first != null) {
+            try {
+                return new Outcome(first.join(), false, null);
+            } catch (CompletionException e) {
+                return new Outcome(null, false, "Speichern fehlgeschlagen: " + e.getCause().getMessage());
+            }
+        }
+        Path target = targetDir.resolve(hash + ".json");
+        try {
+            Path tmp = Files.createTempFile(targetDir, hash, ".tmp");
+            Files.write(tmp, content);
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            write.complete(target);
+            return new Outcome(target, true, null);
+        } catch (IOException e) {
+            write.completeExceptionally(e);
+            return new Outcome(null, false, "Speichern fehlgeschlagen: " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return Bereits im Zielverzeichnis gespeicherte Level nach Hash; neue Einträge stehen für
+     *         Schreibvorgänge, die erst noch abgeschlossen werden
+     */
+    private Map<String, CompletableFuture<Path>> storedLevels() throws IOException {
+        Map<String, CompletableFuture<Path>> levels = new ConcurrentHashMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(targetDir, "*.json")) {
+            for (Path file : stream) {
+                String name = file.getFileName().toString();
+                levels.put(name.substring(0, name.length() - ".json".length()), CompletableFuture.completedFuture(file));
+            }
+        }
+        return levels;
+    }
+
+    private static boolean isLevelFile(Path file) {
+        return file.getFileName().toString().toLowerCase().endsWith(".json");
+    }
+
+    /**
+     * Liest einen Stream vollständig, höchstens aber {@link #MAX_LEVEL_BYTES}.
+     * @return Inhalt oder null, wenn die Grenze überschritten wird
+     */
+    private static byte[] read(InputStream in) throws IOException {
+        try (in) {
+            byte[] content = in.readNBytes(MAX_LEVEL_BYTES + 1);
+            return content.length > MAX_LEVEL_BYTES ? null : content;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package mm.domain.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Metadaten einer Leveldatei für die Levelauswahl.
+ * <p>
+ * Wird vom {@link LevelCatalog} einmal pro Dateiversion aus dem Level gelesen und im Index
+ * gespeichert, damit die Auswahl nicht jedes Level laden muss. Ungültige Dateien werden ebenfalls
+ * aufgenommen und tragen die Fehlermeldung der Prüfung.
+ * </p>
+ */
+public final class LevelInfo {
+
+    /** Absoluter Pfad der Leveldatei */
+    private final String path;
+    /** Name des Levels (Dateiname, wenn das Level keinen Namen hat oder ungültig ist) */
+    private final String name;
+    /** Schwierigkeitsgrad oder null bei ungültigen Dateien */
+    private final Difficulty difficulty;
+    /** Anzahl der vorplatzierten Objekte */
+    private final int objectCount;
+    /** Summe der Limits, d.h. wie viele Objekte der Spieler platzieren darf */
+    private final int playerObjectCount;
+    /** SHA-256-Hash des Dateiinhalts (hex) */
+    private final String contentHash;
+    /** Änderungszeit der Datei in Millisekunden */
+    private final long lastModified;
+    /** Dateigröße in Bytes */
+    private final long size;
+    /** Fehlermeldung der Prüfung oder null, wenn das Level gültig ist */
+    private final String error;
+
+    /**
+     * @param path Absoluter Pfad der Leveldatei
+     * @param name Anzeigename
+     * @param difficulty Schwierigkeitsgrad oder null
+     * @param objectCount Anzahl der vorplatzierten Objekte
+     * @param playerObjectCount Summe der Limits
+     * @param contentHash SHA-256-Hash des Inhalts
+     * @param lastModified Änderungszeit in Millisekunden
+     * @param size Dateigröße in Bytes
+     * @param error Fehlermeldung oder null
+     */
+    @JsonCreator
+    public LevelInfo(
+            @JsonProperty("path")              String path,
+            @JsonProperty("name")              String name,
+            @JsonProperty("difficulty")        Difficulty difficulty,
+            @JsonProperty("objectCount")       int objectCount,
+            @JsonProperty("playerObjectCount") int playerObjectCount,
+            @JsonProperty("contentHash")       String contentHash,
+            @JsonProperty("lastModified")      long lastModified,
+            @JsonProperty("size")              long size,
+            @JsonProperty("error")             String error) {
+        this.path = path;
+        this.name = name;
+        this.difficulty = difficulty;
+        this.objectCount = objectCount;
+        this.playerObjectCount = playerObjectCount;
+        this.contentHash = contentHash;
+        this.lastModified = lastModified;
+        this.size = size;
+        this.error = error;
+    }
+
+    /**
+     * @return Absoluter Pfad der Leveldatei
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return Anzeigename des Levels
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Schwierigkeitsgrad oder null bei ungültigen Dateien
+     */
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    /**
+     * @return Anzahl der vorplatzierten Objekte
+     */
+    public int getObjectCount() {
+        return objectCount;
+    }
+
+    /**
+     * @return Summe der Limits
+     */
+    public int getPlayerObjectCount() {
+        return playerObjectCount;
+    }
+
+    /**
+     * @return SHA-256-Hash des Dateiinhalts (hex)
+     */
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    /**
+     * @return Änderungszeit der Datei in Millisekunden
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * @return Dateigröße in Bytes
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @return Fehlermeldung der Prüfung oder null
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * @return true, wenn das Level die Prüfung bestanden hat
+     */
+    @JsonIgnore
+    public boolean isValid() {
+        return error == null;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
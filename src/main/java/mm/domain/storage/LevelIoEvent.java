@@ -0,0 +1,30 @@
+package mm.domain.storage;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR-Ereignis für das Laden oder Speichern einer Leveldatei.
+ */
+@Name("mm.LevelIo")
+@Label("Level-Ein-/Ausgabe")
+@Category({"Mad Machines", "Level"})
+@Description("Ein Aufruf von LevelStorage.load() oder LevelStorage.save()")
+class LevelIoEvent extends jdk.jfr.Event {
+    /** "load" oder "save" */
+    @Label("Vorgang")
+    String operation;
+    /** Name des Levels */
+    @Label("Level")
+    String levelName;
+    /** Pfad der Datei */
+    @Label("Datei")
+    String path;
+    /** Größe der Datei */
+    @Label("Größe")
+    @DataAmount
+    long bytes;
+}
@@ -32,8 +32,17 @@ public final class LevelStorage {
      * @throws IOException bei Schreibfehlern
      */
     public static void save(LevelData level, Path target) throws IOException {
+        LevelIoEvent event = new LevelIoEvent();
+        event.begin();
         Files.createDirectories(target.getParent());
         MAPPER.writeValue(target.toFile(), level);
+        if (event.shouldCommit()) {
+            event.operation = "save";
+            event.levelName = level.getName();
+            event.path = target.toString();
+            event.bytes = Files.size(target);
+            event.commit();
+        }
     }
 
     /**
@@ -43,6 +52,16 @@ public final class LevelStorage {
      * @throws IOException bei Lesefehlern
      */
     public static LevelData load(Path source) throws IOException {
-        return MAPPER.readValue(source.toFile(), LevelData.class);
+        LevelIoEvent event = new LevelIoEvent();
+        event.begin();
+        LevelData level = MAPPER.readValue(source.toFile(), LevelData.class);
+        if (event.shouldCommit()) {
+            event.operation = "load";
+            event.levelName = level.getName();
+            event.path = source.toString();
+            event.bytes = Files.size(source);
+            event.commit();
+        }
+        return level;
     }
 }
\ No newline at end of file
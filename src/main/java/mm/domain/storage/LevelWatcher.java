@@ -0,0 +1,139 @@
+package mm.domain.storage;
+
+import mm.domain.json.LevelValidator;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Beobachtet Level-Ordner mit einem {@link WatchService} und meldet geänderte Leveldateien.
+ * <p>
+ * Editoren schreiben eine Datei oft in mehreren Schritten (Leeren, Schreiben, Zeitstempel), daher
+ * werden Ereignisse gesammelt, bis {@link #DEBOUNCE_MILLIS} lang Ruhe ist. Danach wird jede
+ * geänderte Datei einzeln gelesen und geprüft; Dateien, deren Inhalt sich seit der letzten Meldung
+ * nicht geändert hat, werden übersprungen. Der Listener wird auf dem Watcher-Thread aufgerufen.
+ * </p>
+ */
+public class LevelWatcher implements AutoCloseable {
+
+    /** Ruhezeit nach dem letzten Ereignis, bevor Änderungen gemeldet werden */
+    public static final long DEBOUNCE_MILLIS = 200;
+
+    /**
+     * Empfängt Änderungen an Leveldateien.
+     */
+    public interface Listener {
+        /**
+         * @param file Geänderte Leveldatei (absolut)
+         * @param level Neu geladene und geprüfte Leveldaten
+         */
+        void levelChanged(Path file, LevelData level);
+
+        /**
+         * @param file Geänderte Leveldatei (absolut)
+         * @param error Grund, warum die Datei nicht übernommen werden kann
+         */
+        void levelRejected(Path file, String error);
+    }
+
+    private final WatchService watchService;
+    private final Listener listener;
+    private final Thread thread;
+    /** Inhalts-Hash der zuletzt gemeldeten Version pro Datei (nur vom Watcher-Thread benutzt) */
+    private final Map<Path, String> delivered = new HashMap<>();
+
+    /**
+     * Startet die Beobachtung. Nicht vorhandene Ordner werden übergangen.
+     * @param directories Level-Ordner
+     * @param listener Empfänger der Änderungen
+     * @throws IOException wenn der WatchService nicht angelegt werden kann
+     */
+    public LevelWatcher(List<Path> directories, Listener listener) throws IOException {
+        this.listener = listener;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        for (Path directory : directories) {
+            if (Files.isDirectory(directory)) {
+                directory.toAbsolutePath().normalize().register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            }
+        }
+        this.thread = new Thread(this::run, "level-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Beendet die Beobachtung.
+     */
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            System.err.println("Level-Beobachtung konnte nicht beendet werden: " + e.getMessage());
+        }
+        thread.interrupt();
+    }
+
+    private void run() {
+        Set<Path> pending = new LinkedHashSet<>();
+        try {
+            while (true) {
+                WatchKey key = pending.isEmpty()
+                    ? watchService.take()
+                    : watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+                if (key == null) {
+                    for (Path file : pending) {
+                        check(file);
+                    }
+                    pending.clear();
+                    continue;
+                }
+                Path directory = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        continue;
+                    }
+                    Path file = directory.resolve((Path) event.context());
+                    if (file.getFileName().toString().endsWith(".json")) {
+                        pending.add(file);
+                    }
+                }
+                key.reset();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Beobachtung beendet
+        }
+    }
+
+    /**
+     * Liest und prüft eine geänderte Datei und meldet sie, falls sich der Inhalt geändert hat.
+     */
+    private void check(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        try {
+            String hash = LevelCatalog.hash(Files.readAllBytes(file));
+            if (hash.equals(delivered.put(file, hash))) {
+                return;
+            }
+            listener.levelChanged(file, LevelValidator.loadValidatedLevel(file.toFile()));
+        } catch (IOException | IllegalArgumentException e) {
+            listener.levelRejected(file, e.getMessage() != null ? e.getMessage() : "Ungültiges Level-Format");
+        }
+    }
+}
@@ -8,12 +8,20 @@ import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 
 import mm.domain.editor.PlacedObject;
+import mm.service.rendering.AdaptiveQualityController;
+import mm.service.rendering.Camera;
 import mm.service.rendering.GameRenderer;
+import mm.service.rendering.RenderQuality;
+import mm.service.rendering.PerformanceHud;
 import mm.service.physics.PhysicsManager;
+import mm.service.profiling.FrameProfiler;
+import mm.service.timing.FramePacer;
 import java.util.List;
 
 /**
@@ -40,6 +48,7 @@ public class GameController extends Controller {
     @FXML private VBox pauseOverlay;
     @FXML private VBox winOverlay;
     @FXML private VBox gameOverOverlay;
+    @FXML private VBox settledOverlay;
     @FXML private Label countdownLabel;
 
     /** Haupt-Spielschleife (AnimationTimer) */
@@ -52,10 +61,25 @@ public class GameController extends Controller {
     private double countdownTime = 3.0;
     /** Gibt an, ob der Countdown angezeigt wird */
     private boolean showingCountdown = true;
+    /** Gibt an, ob der Stillstand der Welt bereits gemeldet wurde */
+    private boolean settledReported = false;
     /** Renderer für die Spielfeldanzeige */
     private GameRenderer gameRenderer;
     /** Physikmanager für die Spielwelt */
     private PhysicsManager physicsManager;
+    /** Kamera für Zoom, Verschieben und Verfolgen des Gameballs */
+    private Camera camera;
+    /** Letzte Mausposition beim Verschieben der Kamera */
+    private double dragX;
+    private double dragY;
+    /** Zeitmessung der Frames für die Leistungsanzeige */
+    private final FrameProfiler frameProfiler = new FrameProfiler();
+    /** Zuschaltbare Leistungsanzeige (F3) */
+    private PerformanceHud performanceHud;
+    /** Taktgeber für gleichmäßige Frame-Abstände bei der Ziel-Bildrate */
+    private FramePacer framePacer;
+    /** Senkt die Render-Qualität, wenn das Frame-Budget knapp wird */
+    private final AdaptiveQualityController qualityController = new AdaptiveQualityController();
 
     /**
      * Initialisiert den Controller und die Spiellogik.
@@ -64,7 +88,10 @@ public class GameController extends Controller {
     @FXML
     private void initialize() {
         setupKeyControls();
+        setupCameraControls();
+        camera = new Camera(gameCanvas.getWidth(), gameCanvas.getHeight());
         gameRenderer = new GameRenderer(gameCanvas);
+        performanceHud = new PerformanceHud(gameCanvas);
         physicsManager = new PhysicsManager(gameCanvas);
         physicsManager.setOnGameWon(this::showWinOverlay);
     }
@@ -76,7 +103,25 @@ public class GameController extends Controller {
      * @param objective Zielbeschreibung
      */
     public void initializeGame(List<PlacedObject> playerObjects, List<PlacedObject> levelObjects, String objective) {
+        initializeGame(playerObjects, levelObjects, objective, 0, 0);
+    }
+
+    /**
+     * Initialisiert das Spiel für ein Level mit eigener Weltgröße.
+     * Ist die Welt größer als das Spielfeld, folgt die Kamera dem Gameball.
+     * @param playerObjects Vom Spieler platzierte Objekte
+     * @param levelObjects Level-Objekte
+     * @param objective Zielbeschreibung
+     * @param worldWidth Breite der Welt in Metern (0 = Größe des Spielfelds)
+     * @param worldHeight Höhe der Welt in Metern (0 = Größe des Spielfelds)
+     */
+    public void initializeGame(List<PlacedObject> playerObjects, List<PlacedObject> levelObjects, String objective,
+                               double worldWidth, double worldHeight) {
         taskLabel.setText(objective);
+        if (worldWidth > 0 && worldHeight > 0) {
+            physicsManager.setWorldSize(worldWidth * 100, worldHeight * 100);
+            camera.setWorldSize(worldWidth, worldHeight);
+        }
         for (PlacedObject po : levelObjects) {
             physicsManager.addObjectToWorld(po, true);
         }
@@ -84,6 +129,9 @@ public class GameController extends Controller {
             physicsManager.addObjectToWorld(po, false);
         }
         physicsManager.createWorldBounds();
+        if (camera.getMinZoom() < 1.0) {
+            camera.follow(physicsManager.findGameBall());
+        }
         startGame();
     }
 
@@ -91,15 +139,22 @@ public class GameController extends Controller {
      * Startet die Spielschleife und den Countdown.
      */
     private void startGame() {
-        SettingsController.resetFPSTimer();
+        framePacer = new FramePacer(SettingsController.getTargetFPS());
         showCountdown();
         
         gameLoop = new AnimationTimer() {
             private long lastUpdate = 0;
             private long lastCountdownUpdate = 0;
+            private long lastPulse = 0;
             
             @Override
             public void handle(long now) {
+                long pulseNanos = lastPulse == 0 ? 0 : now - lastPulse;
+                lastPulse = now;
+                if (!framePacer.shouldRender(now)) {
+                    return;
+                }
+                frameProfiler.beginFrame(now);
                 if (lastUpdate == 0) {
                     lastUpdate = now;
                     lastCountdownUpdate = now;
@@ -130,11 +185,9 @@ public class GameController extends Controller {
                     return;
                 }
                 
-                if (!SettingsController.shouldUpdate()) {
-                    return;
-                }
-                
+                long frameNanos = now - lastUpdate;
                 lastUpdate = now;
+                long workStart = System.nanoTime();
                 
                 if (!isPaused) {
                     double scaledDeltaTime = deltaTime * SettingsController.getTimeScale();
@@ -142,6 +195,10 @@ public class GameController extends Controller {
                 }
                 
                 render();
+                
+                if (!isPaused) {
+                    adaptQuality(frameNanos, System.nanoTime() - workStart, pulseNanos);
+                }
             }
         };
         gameLoop.start();
@@ -162,15 +219,40 @@ public class GameController extends Controller {
             timeLabel.setText(String.format("%.1f", gameTime));
         });
         
+        frameProfiler.beginPhase();
         physicsManager.step();
         physicsManager.applyBalloonBuoyancy();
+        frameProfiler.endPhysics();
+        
+        if (!settledReported && physicsManager.isSettled() && !physicsManager.isGameWon()) {
+            settledReported = true;
+            showSettledOverlay();
+        }
+    }
+
+    /**
+     * Meldet einen Frame an die Qualitätssteuerung und übernimmt eine geänderte Stufe.
+     * @param frameNanos Abstand zum vorherigen Frame
+     * @param workNanos Dauer von Physik und Zeichnen
+     * @param pulseNanos Abstand zum vorherigen Puls des AnimationTimers
+     */
+    private void adaptQuality(long frameNanos, long workNanos, long pulseNanos) {
+        RenderQuality quality = qualityController.recordFrame(frameNanos, workNanos, framePacer.getInterval(),
+            pulseNanos);
+        if (quality != gameRenderer.getQuality()) {
+            gameRenderer.setQuality(quality);
+        }
     }
 
     /**
      * Rendert das Spielfeld.
      */
     private void render() {
-        gameRenderer.render(physicsManager.getBodies());
+        frameProfiler.beginPhase();
+        camera.update();
+        gameRenderer.render(physicsManager.getBodies(), physicsManager.getWorld(), camera);
+        frameProfiler.endRender();
+        performanceHud.render(frameProfiler, framePacer, gameRenderer.getQuality(), physicsManager);
     }
 
     /**
@@ -182,7 +264,47 @@ public class GameController extends Controller {
     }
 
     /**
-     * Behandelt Tastendrücke (Pause, Restart).
+     * Setzt die Maussteuerung der Kamera: Mausrad zoomt, Ziehen verschiebt den Ausschnitt.
+     */
+    private void setupCameraControls() {
+        gameCanvas.setOnScroll(this::handleScroll);
+        gameCanvas.setOnMousePressed(this::handleMousePressed);
+        gameCanvas.setOnMouseDragged(this::handleMouseDragged);
+    }
+
+    /**
+     * Zoomt um die Mausposition.
+     * @param event Das ScrollEvent
+     */
+    private void handleScroll(ScrollEvent event) {
+        double factor = event.getDeltaY() > 0 ? 1.1 : 1 / 1.1;
+        double scale = gameRenderer.getQuality().getResolutionScale();
+        camera.zoomAt(factor, event.getX() / scale, event.getY() / scale);
+    }
+
+    /**
+     * Merkt sich den Startpunkt zum Verschieben der Kamera.
+     * @param event Das MouseEvent
+     */
+    private void handleMousePressed(MouseEvent event) {
+        gameCanvas.requestFocus();
+        dragX = event.getX();
+        dragY = event.getY();
+    }
+
+    /**
+     * Verschiebt die Kamera um die Mausbewegung.
+     * @param event Das MouseEvent
+     */
+    private void handleMouseDragged(MouseEvent event) {
+        double scale = gameRenderer.getQuality().getResolutionScale();
+        camera.pan((event.getX() - dragX) / scale, (event.getY() - dragY) / scale);
+        dragX = event.getX();
+        dragY = event.getY();
+    }
+
+    /**
+     * Behandelt Tastendrücke (Pause, Restart, Leistungsanzeige, Kamera).
      * @param event Das KeyEvent
      */
     private void handleKeyPressed(KeyEvent event) {
@@ -190,6 +312,10 @@ public class GameController extends Controller {
             handlePause();
         } else if (event.getCode() == KeyCode.R) {
             handleRestart();
+        } else if (event.getCode() == KeyCode.F3) {
+            performanceHud.toggle();
+        } else if (event.getCode() == KeyCode.F) {
+            camera.follow(camera.getTarget() == null ? physicsManager.findGameBall() : null);
         }
     }
     
@@ -214,13 +340,24 @@ public class GameController extends Controller {
     }
 
     /**
-     * Startet das Spiel neu und stellt den Editor-Zustand wieder her.
+     * Hält die Spielschleife an und gibt die Physik-Welt frei, damit der nächste Start ihre
+     * JBox2D-Pools übernimmt.
      */
-    @FXML
-    private void handleRestart() {
+    private void stopGame() {
         if (gameLoop != null) {
             gameLoop.stop();
         }
+        if (physicsManager != null) {
+            physicsManager.release();
+        }
+    }
+
+    /**
+     * Startet das Spiel neu und stellt den Editor-Zustand wieder her.
+     */
+    @FXML
+    private void handleRestart() {
+        stopGame();
         if (viewManager != null) {
             viewManager.showGameEditor();
             Object controller = viewManager.getLastController();
@@ -231,14 +368,30 @@ public class GameController extends Controller {
         }
     }
 
+    /**
+     * Wertet den Lauf nach einem Stillstand vorzeitig als verloren.
+     */
+    @FXML
+    private void handleGiveUp() {
+        gameTime = 0;
+        showGameOverOverlay();
+    }
+
+    /**
+     * Blendet den Stillstand-Hinweis aus und lässt die Zeit weiterlaufen.
+     */
+    @FXML
+    private void handleKeepWatching() {
+        settledOverlay.setVisible(false);
+        overlayContainer.setVisible(false);
+    }
+
     /**
      * Beendet das Spiel und kehrt zum Editor zurück.
      */
     @FXML
     private void handleBack() {
-        if (gameLoop != null) {
-            gameLoop.stop();
-        }
+        stopGame();
         if (viewManager != null) {
             viewManager.showGameEditor();
             Object controller = viewManager.getLastController();
@@ -254,9 +407,7 @@ public class GameController extends Controller {
      */
     @FXML
     private void handleToLevelSelection() {
-        if (gameLoop != null) {
-            gameLoop.stop();
-        }
+        stopGame();
         if (viewManager != null) {
             viewManager.showLevelSelection();
         }
@@ -301,6 +452,7 @@ public class GameController extends Controller {
      * Zeigt das Win-Overlay an.
      */
     private void showWinOverlay() {
+        settledOverlay.setVisible(false);
         overlayContainer.setVisible(true);
         winOverlay.setVisible(true);
     }
@@ -309,9 +461,18 @@ public class GameController extends Controller {
      * Zeigt das Game-Over-Overlay an.
      */
     private void showGameOverOverlay() {
+        settledOverlay.setVisible(false);
         overlayContainer.setVisible(true);
         gameOverOverlay.setVisible(true);
     }
+
+    /**
+     * Zeigt den Hinweis an, dass sich nichts mehr bewegt.
+     */
+    private void showSettledOverlay() {
+        overlayContainer.setVisible(true);
+        settledOverlay.setVisible(true);
+    }
     
 
 } 
\ No newline at end of file
@@ -1,5 +1,6 @@
 package mm.gui.controller;
 
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.VBox;
@@ -14,19 +15,35 @@ import javafx.scene.Group;
 import mm.domain.config.*;
 import mm.domain.storage.LevelData;
 import mm.domain.storage.LevelStorage;
+import mm.domain.editor.EditorModel;
+import mm.domain.editor.EditorSnapshot;
+import mm.domain.editor.LevelDiff;
 import mm.domain.editor.PlacedObject;
 import mm.service.command.CommandManager;
 import mm.service.object.ObjectManager;
 import mm.service.selection.SelectionHelper;
 import mm.service.overlay.OverlayHelper;
+import mm.service.rendering.FrameEncoder;
+import mm.service.rendering.GifEncoder;
+import mm.service.rendering.PngSequenceEncoder;
+import mm.service.rendering.RunExporter;
+import mm.service.simulation.LevelSolver;
+import mm.service.simulation.PlacementSampler;
 import javafx.scene.Cursor;
+import javafx.stage.FileChooser;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 import java.nio.file.Path;
+import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Controller für den Game-Editor (Spielobjekt-Editor).
@@ -38,10 +55,23 @@ import java.io.IOException;
  */
 public class GameEditorController extends Controller {
 
-    private static List<PlacedObject> savedPlayerObjects = new ArrayList<>();
-    private static List<PlacedObject> savedLevelObjects = new ArrayList<>();
-    private static String savedObjective = "Bringe den Ball in die Zielzone";
-    private static Map<String, Integer> savedLimits = new HashMap<>();
+    /** Zustand des Editors beim Wechsel ins Spiel */
+    private static EditorSnapshot savedState = EditorSnapshot.EMPTY;
+    /** Objekte des gespeicherten Zustands; ihre Nodes werden beim Wiederherstellen wiederverwendet */
+    private static ObjectManager retainedObjects = new ObjectManager();
+    /** Leveldatei des gespeicherten Zustands */
+    private static Path savedLevelPath;
+
+    /** Geladene Leveldatei (absolut) oder null */
+    private Path levelPath;
+    /** Level-Objekte in Dateireihenfolge, wie sie zuletzt geladen wurden */
+    private List<ObjectConf> levelConfigs = List.of();
+    /** Die dazu erzeugten Objekte (gleicher Index, null bei unbekanntem Typ) */
+    private List<PlacedObject> levelObjects = new ArrayList<>();
+
+    /** Weltgröße des geladenen Levels in Metern (0 = Größe des Spielfelds) */
+    private double worldWidth = 0;
+    private double worldHeight = 0;
 
     /** Container für das Spielfeld und Overlays */
     @FXML 
@@ -75,6 +105,13 @@ public class GameEditorController extends Controller {
     @FXML
     private Button rotateRightButton;
 
+    /** Button für die Lösungssuche; gesperrt, solange eine Suche läuft */
+    @FXML
+    private Button solveButton;
+
+    /** Laufende Lösungssuche oder null */
+    private LevelSolver activeSolver;
+
     /** Aktuell ausgewähltes Node-Objekt */
     private Node selectedNode = null;
 
@@ -84,6 +121,12 @@ public class GameEditorController extends Controller {
     /** Objektmanager für platzierte Objekte */
     private ObjectManager objectManager;
 
+    /** Verzeichnis der mitgelieferten und importierten Level */
+    static final Path LEVEL_DIR = Path.of("src/main/resources/levels");
+
+    /** Zeitbudget des Solvers in Millisekunden */
+    private static final long SOLVER_BUDGET_MILLIS = 60_000;
+
     private boolean checkLimitReached(String type) {
         return objectManager.checkLimitReached(type);
     }
@@ -93,38 +136,34 @@ public class GameEditorController extends Controller {
     }
 
     /**
-     * Lädt ein Level aus einer Datei und platziert die Objekte.
+     * Lädt ein Level aus dem Level-Verzeichnis und platziert die Objekte.
      * @param levelFileName Dateiname des Levels
      */
     public void loadLevel(String levelFileName) {
+        loadLevel(LEVEL_DIR.resolve(levelFileName));
+    }
+
+    /**
+     * Lädt ein Level aus einer Datei und platziert die Objekte.
+     * @param levelPath Pfad zur Leveldatei
+     */
+    public void loadLevel(Path levelPath) {
         try {
-            Path levelPath = Path.of("src/main/resources/levels/" + levelFileName);
             LevelData levelData = LevelStorage.load(levelPath);
-            String objective = levelData.getObjective();
-            if (objective != null && !objective.trim().isEmpty()) {
-                taskLabel.setText(objective);
-            } else {
-                taskLabel.setText("Aufgabe: Bringe den Ball in die Zielzone");
-            }
-            
             objectManager = new ObjectManager(levelData.getLimits());
+            applyLevelSettings(levelData);
             
             editorCanvas.getChildren().clear();
             objectManager.clear();
             
+            levelObjects = new ArrayList<>();
             for (ObjectConf conf : levelData.getObjects()) {
-                double x = conf.getX() * 100;
-                double y = conf.getY() * 100;
-                String type = conf.getClass().getSimpleName()
-                                        .toLowerCase()
-                                        .replace("conf", "");
-                PlacedObject po = objectManager.createPlacedObject(type, x, y, true);
-                if (po != null) {
-                    po.getNode().setRotate(Math.toDegrees(conf.getAngle()));
-                    
-                    objectManager.addPrePlacedObject(po, editorCanvas);
-                }
+                levelObjects.add(addLevelObject(conf));
             }
+            levelConfigs = List.copyOf(levelData.getObjects());
+            this.levelPath = levelPath.toAbsolutePath().normalize();
+            objectManager.rebuildModel();
+            commandManager.reset(objectManager.getModel());
             updateInventoryDisplay();
             
         } catch (IOException ex) {
@@ -133,6 +172,99 @@ public class GameEditorController extends Controller {
         }
     }
 
+    /**
+     * Übernimmt eine neue Version des geladenen Levels, ohne die Zeichenfläche neu aufzubauen.
+     * Unveränderte Level-Objekte behalten ihre Nodes ({@link LevelDiff}), nur entfernte und neue
+     * werden angefasst. Vom Spieler platzierte Objekte bleiben erhalten.
+     * @param levelData Neue Leveldaten
+     */
+    public void reloadLevel(LevelData levelData) {
+        List<ObjectConf> configs = levelData.getObjects();
+        int[] sources = LevelDiff.match(levelConfigs, configs);
+        List<PlacedObject> objects = new ArrayList<>(configs.size());
+        Set<PlacedObject> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int source : sources) {
+            PlacedObject po = source >= 0 ? levelObjects.get(source) : null;
+            objects.add(po);
+            if (po != null) {
+                kept.add(po);
+            }
+        }
+        for (PlacedObject po : new ArrayList<>(objectManager.getPrePlacedObjects())) {
+            if (!kept.contains(po)) {
+                objectManager.removePrePlacedObject(po, editorCanvas);
+            }
+        }
+        for (int i = 0; i < sources.length; i++) {
+            if (sources[i] < 0) {
+                objects.set(i, addLevelObject(configs.get(i)));
+            }
+        }
+        levelObjects = objects;
+        levelConfigs = List.copyOf(configs);
+
+        objectManager.setLimits(levelData.getLimits());
+        applyLevelSettings(levelData);
+        objectManager.rebuildModel();
+        updateInventoryDisplay();
+    }
+
+    /**
+     * Wird vom {@link ViewManager} gemeldet, wenn sich eine Leveldatei geändert hat.
+     * Betrifft sie das geladene Level, wird es mit {@link #reloadLevel} aktualisiert.
+     * @param file Geänderte Datei (absolut)
+     * @param levelData Neue Leveldaten
+     */
+    public void onLevelFileChanged(Path file, LevelData levelData) {
+        if (file.equals(levelPath)) {
+            reloadLevel(levelData);
+            OverlayHelper.showWarning(canvasRoot, "Level neu geladen: " + file.getFileName(), 2);
+        }
+    }
+
+    /**
+     * Wird vom {@link ViewManager} gemeldet, wenn eine geänderte Leveldatei ungültig ist.
+     * Der aktuelle Stand bleibt dann erhalten.
+     * @param file Geänderte Datei (absolut)
+     * @param error Fehlermeldung der Prüfung
+     */
+    public void onLevelFileRejected(Path file, String error) {
+        if (file.equals(levelPath)) {
+            OverlayHelper.showWarning(canvasRoot, "Level nicht übernommen: " + error, 5);
+        }
+    }
+
+    /**
+     * Übernimmt Aufgabe und Weltgröße eines Levels.
+     */
+    private void applyLevelSettings(LevelData levelData) {
+        String objective = levelData.getObjective();
+        if (objective != null && !objective.trim().isEmpty()) {
+            taskLabel.setText(objective);
+        } else {
+            taskLabel.setText("Aufgabe: Bringe den Ball in die Zielzone");
+        }
+        worldWidth = levelData.getWorldWidth();
+        worldHeight = levelData.getWorldHeight();
+    }
+
+    /**
+     * Erzeugt ein vorplatziertes Objekt aus einer Level-Konfiguration und fügt es hinzu.
+     * @return Objekt oder null, wenn der Typ unbekannt ist
+     */
+    private PlacedObject addLevelObject(ObjectConf conf) {
+        double x = conf.getX() * 100;
+        double y = conf.getY() * 100;
+        String type = PlacementSampler.typeOf(conf);
+        PlacedObject po = objectManager.createPlacedObject(type, x, y, true);
+        if (po != null) {
+            po.getNode().setRotate(Math.toDegrees(conf.getAngle()));
+            
+            objectManager.addPrePlacedObject(po, editorCanvas);
+        }
+        return po;
+    }
+
     private Image loadImage(String fileName) {
         try {
             return new Image(getClass().getResource("/assets/entities/" + fileName).toExternalForm());
@@ -154,6 +286,7 @@ public class GameEditorController extends Controller {
         }
         editorCanvas.setStyle("-fx-background-color: white; -fx-border-color: black; -fx-border-width: 1;");
         commandManager = new CommandManager(undoButton, redoButton);
+        commandManager.setListener((previous, version) -> showVersion(version));
 
         itemsContainer.getChildren().clear();
 
@@ -285,7 +418,7 @@ public class GameEditorController extends Controller {
                         objectManager.addPlacedObject(po, editorCanvas);
                         addDraggingToNode(po.getNode());
                         setupObjectSelection(po.getNode());
-                        push(new CommandManager.AddAction(po, po.getNode(), objectManager.getPlacedObjects(), editorCanvas));
+                        commit(po.getNode());
                         updateInventoryDisplay();
                         success = true;
 
@@ -329,67 +462,81 @@ public class GameEditorController extends Controller {
 
 
     /**
-     * Speichert den aktuellen Zustand des Editors (Undo/Redo, Objekte, Limits).
+     * Speichert den aktuellen Zustand des Editors (Objekte, Limits, Weltgröße) als
+     * {@link EditorSnapshot}. Die Nodes werden nicht kopiert, sondern nur für das
+     * Wiederherstellen vorgehalten.
      */
     public void saveCurrentState() {
-        // Debug-Ausgabe
-        System.out.println("Saving state - Player objects: " + objectManager.getPlacedObjects().size());
-        
-        savedPlayerObjects = new ArrayList<>();
-        for (PlacedObject po : objectManager.getPlacedObjects()) {
-            PlacedObject copy = po.copy();
-            savedPlayerObjects.add(copy);
-            System.out.println("Saved player object: " + copy.getConfigClass().getSimpleName() + 
-                             " at (" + copy.getNode().getLayoutX() + ", " + copy.getNode().getLayoutY() + ")");
-        }
-        
-        savedLevelObjects = new ArrayList<>();
-        for (PlacedObject po : objectManager.getPrePlacedObjects()) {
-            savedLevelObjects.add(po.copy());
-        }
-        
-        savedObjective = taskLabel.getText();
-        savedLimits = new HashMap<>(objectManager.getCurrentLimits());
-        
-        System.out.println("State saved - Player objects: " + savedPlayerObjects.size() + 
-                         ", Level objects: " + savedLevelObjects.size());
+        selectedNode = SelectionHelper.clearSelection(editorCanvas, selectedNode);
+        savedState = new EditorSnapshot(
+            objectManager.getLevelModel(),
+            objectManager.getModel(),
+            taskLabel.getText(),
+            objectManager.getCurrentLimits(),
+            worldWidth,
+            worldHeight);
+        retainedObjects = objectManager;
+        savedLevelPath = levelPath;
     }
 
     /**
-     * Stellt den gespeicherten Zustand des Editors wieder her.
+     * Stellt den gespeicherten Zustand des Editors wieder her. Noch vorhandene Nodes werden
+     * übernommen, fehlende aus der Konfiguration neu aufgebaut.
      */
     public void restoreState() {
-        System.out.println("Restoring state - Saved player objects: " + savedPlayerObjects.size());
-        
+        EditorSnapshot state = savedState;
         editorCanvas.getChildren().clear();
         objectManager.clear();
         
-        // Level-Objekte wiederherstellen
-        for (PlacedObject po : savedLevelObjects) {
-            PlacedObject restored = po.copy();
-            objectManager.addPrePlacedObject(restored, editorCanvas);
-            objectManager.setupPrePlacedObjectEvents(restored.getNode());
-        }
+        state.getLevelObjects().forEach((conf, id) -> {
+            PlacedObject restored = restoreObject(id, conf, true);
+            if (restored != null) {
+                objectManager.addPrePlacedObject(restored, editorCanvas);
+                objectManager.setupPrePlacedObjectEvents(restored.getNode());
+            }
+        });
         
-        // Spieler-Objekte wiederherstellen
-        for (PlacedObject po : savedPlayerObjects) {
-            PlacedObject restored = po.copy();
-            objectManager.addPlacedObject(restored, editorCanvas);
-            
-            setupObjectDragging(restored.getNode());
-            setupObjectSelection(restored.getNode());
-            
-            System.out.println("Restored player object: " + restored.getConfigClass().getSimpleName() + 
-                             " at (" + restored.getNode().getLayoutX() + ", " + restored.getNode().getLayoutY() + ")");
-        }
+        state.getPlayerObjects().forEach((conf, id) -> {
+            PlacedObject restored = restoreObject(id, conf, false);
+            if (restored != null) {
+                objectManager.addPlacedObject(restored, editorCanvas);
+                setupObjectDragging(restored.getNode());
+                setupObjectSelection(restored.getNode());
+            }
+        });
+        objectManager.rebuildModel();
+        commandManager.reset(objectManager.getModel());
         
-        taskLabel.setText(savedObjective);
-        objectManager.setLimits(savedLimits);
+        taskLabel.setText(state.getObjective());
+        objectManager.setLimits(state.getLimits());
+        worldWidth = state.getWorldWidth();
+        worldHeight = state.getWorldHeight();
+        // Die Dateireihenfolge ist nach dem Wiederherstellen unbekannt; eine Änderung der Datei
+        // ersetzt deshalb alle Level-Objekte
+        levelPath = savedLevelPath;
+        levelConfigs = List.of();
+        levelObjects = new ArrayList<>();
         
         updateInventoryDisplay();
-        
-        System.out.println("State restored - Player objects: " + objectManager.getPlacedObjects().size() + 
-                         ", Level objects: " + objectManager.getPrePlacedObjects().size());
+    }
+
+    /**
+     * Übernimmt das vorgehaltene Objekt mit der ID, sofern es noch dem Snapshot entspricht,
+     * oder baut es aus der Konfiguration neu auf.
+     * @return Objekt oder null, wenn der Typ unbekannt ist
+     */
+    private PlacedObject restoreObject(long id, ObjectConf conf, boolean prePlaced) {
+        PlacedObject retained = retainedObjects.findById(id);
+        if (retained != null && conf.equals(retained.toConfig())) {
+            retained.getNode().setOpacity(1);
+            return retained;
+        }
+        PlacedObject po = objectManager.createPlacedObject(PlacementSampler.typeOf(conf),
+            conf.getX() * 100, conf.getY() * 100, prePlaced);
+        if (po != null) {
+            po.getNode().setRotate(Math.toDegrees(conf.getAngle()));
+        }
+        return po;
     }
 
     private void setupObjectDragging(Node node) {
@@ -463,7 +610,7 @@ public class GameEditorController extends Controller {
             double endX = node.getLayoutX();
             double endY = node.getLayoutY();
             if (endX != startPos[0] || endY != startPos[1]) {
-                push(new CommandManager.MoveAction(node, startPos[0], startPos[1], endX, endY));
+                commitChange(node);
             }
 
             event.consume(); 
@@ -490,9 +637,8 @@ public class GameEditorController extends Controller {
                 PlacedObject po = objectManager.findPlacedObjectByNode(node);
         
                 if (po != null) {
-                    push(new CommandManager.DeleteAction(po, po.getNode(), objectManager.getPlacedObjects(), editorCanvas));
-        
                     objectManager.removePlacedObject(po, editorCanvas);
+                    commit(po.getNode());
                     updateInventoryDisplay();
         
                     if (selectedNode == node) {
@@ -510,11 +656,41 @@ public class GameEditorController extends Controller {
     }
 
     /**
-     * Fügt eine Aktion zum Undo/Redo-Stack hinzu.
-     * @param a Die auszuführende Aktion
+     * Übernimmt eine hinzugefügte oder entfernte Node ins Modell und legt die neue Version in der
+     * Undo-Historie ab.
+     * @param node Geänderte Node
+     */
+    private void commit(Node node) {
+        commandManager.commit(objectManager.sync(List.of(node)));
+    }
+
+    /**
+     * Übernimmt eine verschobene oder rotierte Node ins Modell. Aufeinanderfolgende Änderungen
+     * desselben Objekts fasst der {@link CommandManager} zusammen.
+     * @param node Geänderte Node
+     */
+    private void commitChange(Node node) {
+        PlacedObject po = objectManager.findPlacedObjectByNode(node);
+        if (po != null) {
+            commandManager.commit(objectManager.sync(List.of(node)), objectManager.idOf(po));
+        }
+    }
+
+    /**
+     * Gleicht die Zeichenfläche an eine Version der Undo-Historie an. Nach einer eigenen Änderung
+     * entspricht das Modell bereits der Version, es gibt dann nichts zu tun.
+     * @param version Anzuzeigende Version
      */
-    private void push(CommandManager.Action a) {
-        commandManager.push(a);
+    private void showVersion(EditorModel version) {
+        objectManager.apply(version, editorCanvas, po -> {
+            addDraggingToNode(po.getNode());
+            setupObjectSelection(po.getNode());
+        });
+        if (selectedNode != null && objectManager.findPlacedObjectByNode(selectedNode) == null) {
+            selectedNode = SelectionHelper.clearSelection(editorCanvas, selectedNode);
+            SelectionHelper.updateRotationButtons(rotateLeftButton, rotateRightButton, selectedNode);
+        }
+        updateInventoryDisplay();
     }
 
     /**
@@ -611,7 +787,7 @@ public class GameEditorController extends Controller {
             double endX = node.getLayoutX();
             double endY = node.getLayoutY();
             if (endX != startPos[0] || endY != startPos[1]) {
-                push(new CommandManager.MoveAction(node, startPos[0], startPos[1], endX, endY));
+                commitChange(node);
             }
         });
         node.setOnMouseEntered(event -> { 
@@ -637,6 +813,7 @@ public class GameEditorController extends Controller {
 
     @FXML
     private void handlePlay() {
+        cancelSolve();
         saveCurrentState();
         
         if (viewManager != null) {
@@ -647,16 +824,157 @@ public class GameEditorController extends Controller {
             viewManager.showGame();
             GameController gameController = (GameController) viewManager.getLastController();
             if (gameController != null) {
-                gameController.initializeGame(playerObjects, levelObjects, objective);
+                gameController.initializeGame(playerObjects, levelObjects, objective, worldWidth, worldHeight);
             }
         }
     }
 
+    /**
+     * Handler für den Lösen-Button. Sucht im Hintergrund eine Lösung und platziert sie.
+     * Während der Suche ist der Button gesperrt. Wurde der Editor inzwischen verändert, wird die
+     * Lösung verworfen, da sie für einen anderen Stand berechnet wurde.
+     */
+    @FXML
+    private void handleSolve() {
+        if (activeSolver != null) {
+            return;
+        }
+        List<ObjectConf> levelObjects = new ArrayList<>();
+        for (PlacedObject po : objectManager.getPrePlacedObjects()) {
+            levelObjects.add(po.toConfig());
+        }
+        LevelData level = new LevelData(null, null, taskLabel.getText(), levelObjects,
+            new HashMap<>(objectManager.getCurrentLimits()), worldWidth, worldHeight);
+        LevelSolver solver = new LevelSolver(level);
+        EditorModel model = objectManager.getModel();
+        EditorModel levelModel = objectManager.getLevelModel();
+        activeSolver = solver;
+        solveButton.setDisable(true);
+        OverlayHelper.showWarning(canvasRoot, "Suche Lösung...", 3);
+        CompletableFuture.supplyAsync(() -> {
+            try {
+                return solver.solve(SOLVER_BUDGET_MILLIS, System.nanoTime());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+        }).whenComplete((result, error) -> Platform.runLater(() -> {
+            if (activeSolver != solver) {
+                // Abgebrochen
+                return;
+            }
+            activeSolver = null;
+            solveButton.setDisable(false);
+            if (error != null) {
+                OverlayHelper.showWarning(canvasRoot, "Lösungssuche fehlgeschlagen: " + error.getMessage(), 5);
+            } else if (objectManager.getModel() != model || objectManager.getLevelModel() != levelModel) {
+                OverlayHelper.showWarning(canvasRoot, "Level wurde geändert, Lösung verworfen", 5);
+            } else if (!result.isSolved()) {
+                OverlayHelper.showWarning(canvasRoot, "Keine Lösung gefunden", 5);
+            } else {
+                applySolution(result.getSolution());
+                OverlayHelper.showWarning(canvasRoot, "Lösung gefunden (" + result.getEvaluations() + " Simulationen)", 5);
+            }
+        }));
+    }
+
+    /**
+     * Bricht eine laufende Lösungssuche ab, z.B. beim Verlassen des Editors.
+     */
+    private void cancelSolve() {
+        if (activeSolver != null) {
+            activeSolver.cancel();
+            activeSolver = null;
+            solveButton.setDisable(false);
+        }
+    }
+
+    /**
+     * Handler für den Export-Button. Zeichnet den Lauf der aktuellen Platzierung im Hintergrund
+     * als GIF oder PNG-Folge auf.
+     */
+    @FXML
+    private void handleExport() {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Lauf exportieren");
+        fileChooser.getExtensionFilters().addAll(
+            new FileChooser.ExtensionFilter("Animiertes GIF", "*.gif"),
+            new FileChooser.ExtensionFilter("PNG-Folge", "*.png")
+        );
+        fileChooser.setInitialFileName("lauf.gif");
+        File file = fileChooser.showSaveDialog(editorCanvas.getScene().getWindow());
+        if (file == null) {
+            return;
+        }
+
+        List<ObjectConf> levelObjects = new ArrayList<>();
+        for (PlacedObject po : objectManager.getPrePlacedObjects()) {
+            levelObjects.add(po.toConfig());
+        }
+        List<ObjectConf> playerObjects = new ArrayList<>();
+        for (PlacedObject po : objectManager.getPlacedObjects()) {
+            playerObjects.add(po.toConfig());
+        }
+        LevelData level = new LevelData(null, null, taskLabel.getText(), levelObjects,
+            new HashMap<>(objectManager.getCurrentLimits()), worldWidth, worldHeight);
+        boolean png = file.getName().toLowerCase().endsWith(".png");
+        OverlayHelper.showWarning(canvasRoot, "Exportiere Lauf...", 3);
+        CompletableFuture.supplyAsync(() -> {
+            try {
+                FrameEncoder encoder = png
+                    ? new PngSequenceEncoder(file.toPath())
+                    : new GifEncoder(file.toPath(), RunExporter.FRAME_DELAY_MILLIS);
+                return new RunExporter(level, playerObjects).export(encoder);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+        }).whenComplete((frames, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                OverlayHelper.showWarning(canvasRoot, "Export fehlgeschlagen: " + error.getMessage(), 5);
+            } else {
+                OverlayHelper.showWarning(canvasRoot, frames + " Bilder exportiert", 5);
+            }
+        }));
+    }
+
+    /**
+     * Ersetzt die Spieler-Objekte durch die angegebene Platzierung, z.B. eine Solver-Lösung.
+     * Das Ersetzen lässt sich als eine Aktion rückgängig machen.
+     * @param solution Zu platzierende Spieler-Objekte
+     */
+    public void applySolution(List<ObjectConf> solution) {
+        selectedNode = SelectionHelper.clearSelection(editorCanvas, selectedNode);
+        SelectionHelper.updateRotationButtons(rotateLeftButton, rotateRightButton, selectedNode);
+
+        commandManager.beginGroup();
+        for (PlacedObject po : new ArrayList<>(objectManager.getPlacedObjects())) {
+            objectManager.removePlacedObject(po, editorCanvas);
+            commit(po.getNode());
+        }
+        for (ObjectConf conf : solution) {
+            PlacedObject po = objectManager.createPlacedObject(PlacementSampler.typeOf(conf),
+                conf.getX() * 100, conf.getY() * 100);
+            if (po != null) {
+                po.getNode().setRotate(Math.toDegrees(conf.getAngle()));
+                objectManager.addPlacedObject(po, editorCanvas);
+                addDraggingToNode(po.getNode());
+                setupObjectSelection(po.getNode());
+                commit(po.getNode());
+            }
+        }
+        commandManager.endGroup();
+        updateInventoryDisplay();
+    }
+
     /**
      * Handler für den Zurück-Button. Wechselt zurück zur Levelauswahl.
      */
     @FXML
     private void handleBack() {
+        cancelSolve();
         if (viewManager != null) {
             viewManager.showLevelSelection();
         }
@@ -671,8 +989,9 @@ public class GameEditorController extends Controller {
             editorCanvas.getChildren().remove(po.getNode());
         }
         objectManager.getPlacedObjects().clear();
+        objectManager.rebuildModel();
         
-        commandManager.clear();
+        commandManager.reset(objectManager.getModel());
         
         selectedNode = SelectionHelper.clearSelection(editorCanvas, selectedNode);
         SelectionHelper.updateRotationButtons(rotateLeftButton, rotateRightButton, selectedNode);
@@ -702,10 +1021,8 @@ public class GameEditorController extends Controller {
     @FXML
     private void handleRotateLeft() {
         if (selectedNode != null) {
-            double oldRotation = selectedNode.getRotate();
-            double newRotation = oldRotation - 10.0;
-            selectedNode.setRotate(newRotation);
-            push(new CommandManager.RotateAction(selectedNode, oldRotation, newRotation));
+            selectedNode.setRotate(selectedNode.getRotate() - 10.0);
+            commitChange(selectedNode);
             SelectionHelper.updateRotationButtons(rotateLeftButton, rotateRightButton, selectedNode);
         }
     }
@@ -716,10 +1033,8 @@ public class GameEditorController extends Controller {
     @FXML
     private void handleRotateRight() {
         if (selectedNode != null) {
-            double oldRotation = selectedNode.getRotate();
-            double newRotation = oldRotation + 10.0;
-            selectedNode.setRotate(newRotation);
-            push(new CommandManager.RotateAction(selectedNode, oldRotation, newRotation));
+            selectedNode.setRotate(selectedNode.getRotate() + 10.0);
+            commitChange(selectedNode);
             SelectionHelper.updateRotationButtons(rotateLeftButton, rotateRightButton, selectedNode);
         }
     }
@@ -739,8 +1054,8 @@ public class GameEditorController extends Controller {
             } else if (event.getButton() == MouseButton.SECONDARY) {
                 PlacedObject po = objectManager.findPlacedObjectByNode(node);
                 if (po != null) {
-                    push(new CommandManager.DeleteAction(po, po.getNode(), objectManager.getPlacedObjects(), editorCanvas));
                     objectManager.removePlacedObject(po, editorCanvas);
+                    commit(po.getNode());
                     updateInventoryDisplay();
                     if (selectedNode == node) {
                         selectedNode = SelectionHelper.clearSelection(editorCanvas, selectedNode);
@@ -1,5 +1,6 @@
 package mm.gui.controller;
 
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.geometry.Pos;
 import javafx.scene.Cursor;
@@ -17,12 +18,16 @@ import mm.domain.storage.LevelData;
 import mm.domain.storage.Difficulty;
 import mm.domain.json.LevelValidator;
 import mm.service.command.CommandManager;
+import mm.service.command.EditorJournal;
 import mm.service.object.ObjectManager;
 import mm.service.selection.SelectionHelper;
 import mm.service.overlay.OverlayHelper;
+import mm.service.simulation.DifficultyEstimator;
+import mm.domain.editor.EditorModel;
 import mm.domain.editor.PlacedObject;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.io.File;
 import java.io.IOException;
 import java.util.stream.Collectors;
@@ -60,6 +65,10 @@ public class LevelEditorController extends Controller {
     private CommandManager commandManager;
     /** Objektmanager für platzierte Objekte */
     private ObjectManager objectManager;
+    /** Journal für die Wiederherstellung nach einem Absturz, über alle Besuche des Editors geteilt */
+    private static EditorJournal journal;
+    /** Ob der Zustand aus dem Journal bereits wiederhergestellt wurde */
+    private static boolean recovered = false;
     /** Level-Metadaten (Name, Schwierigkeit, Ziel, Limits) */
     private LevelData lastMeta = new LevelData(
         "My level",
@@ -94,6 +103,7 @@ public class LevelEditorController extends Controller {
         objectManager = new ObjectManager(defaultLimits()); // <- Initialisierung hinzugefügt
         editorCanvas.setStyle("-fx-background-color: white; -fx-border-color: black; -fx-border-width: 1;");
         commandManager = new CommandManager(undoButton, redoButton);
+        commandManager.setListener(this::showVersion);
 
         itemsContainer.getChildren().clear();
 
@@ -113,6 +123,87 @@ public class LevelEditorController extends Controller {
         setupCanvasDragDrop();
         updateButtonStates();
         SelectionHelper.updateRotationButtons(rotateLeftButton, rotateRightButton, selectedNode);
+        openJournal();
+    }
+
+    /**
+     * Öffnet beim ersten Besuch das Journal und stellt ungespeicherte Arbeit wieder her.
+     * Bei späteren Besuchen beginnt der Editor leer, das Journal wird entsprechend geleert.
+     */
+    private void openJournal() {
+        if (journal == null) {
+            try {
+                journal = new EditorJournal(EditorJournal.defaultDir());
+            } catch (IOException e) {
+                System.err.println("Editor-Journal nicht verfügbar: " + e.getMessage());
+                return;
+            }
+        }
+
+        LevelData level = recovered ? null : journal.getRecovered();
+        recovered = true;
+        if (level == null) {
+            journal.clear();
+            journal.meta(lastMeta);
+            return;
+        }
+        if (level.getName() != null) {
+            lastMeta = level;
+        }
+        placeObjects(level.getObjects());
+        journalAll();
+        if (!level.getObjects().isEmpty()) {
+            OverlayHelper.showWarning(canvasRoot, "Ungespeicherte Arbeit wiederhergestellt", 3);
+        }
+    }
+
+    /**
+     * Gleicht die Zeichenfläche an eine Version der Undo-Historie an und schreibt den Unterschied
+     * zur vorherigen Version ins Journal. Nach einer eigenen Änderung entspricht das Modell bereits
+     * der Version, dann wird nur journalisiert.
+     * @param previous Bisherige Version
+     * @param version Neue Version
+     */
+    private void showVersion(EditorModel previous, EditorModel version) {
+        objectManager.apply(version, editorCanvas, po -> {
+            addDraggingToNode(po.getNode());
+            setupObjectSelection(po.getNode());
+        });
+        if (selectedNode != null && objectManager.findPlacedObjectByNode(selectedNode) == null) {
+            selectedNode = SelectionHelper.clearSelection(editorCanvas, selectedNode);
+            SelectionHelper.updateRotationButtons(rotateLeftButton, rotateRightButton, selectedNode);
+        }
+        if (journal == null) {
+            return;
+        }
+        previous.diff(version, new EditorModel.DiffListener() {
+            @Override
+            public void added(long id, ObjectConf conf) {
+                journal.put(id, conf);
+            }
+
+            @Override
+            public void removed(long id, ObjectConf conf) {
+                journal.remove(id);
+            }
+
+            @Override
+            public void changed(long id, ObjectConf before, ObjectConf after) {
+                journal.put(id, after);
+            }
+        });
+    }
+
+    /**
+     * Ersetzt den Inhalt des Journals durch den aktuellen Zustand.
+     */
+    private void journalAll() {
+        if (journal == null) {
+            return;
+        }
+        journal.clear();
+        journal.meta(lastMeta);
+        objectManager.getModel().forEach((conf, id) -> journal.put(id, conf));
     }
 
     /**
@@ -222,7 +313,7 @@ public class LevelEditorController extends Controller {
                         objectManager.addPlacedObject(po, editorCanvas);
                         addDraggingToNode(po.getNode());
                         setupObjectSelection(po.getNode());
-                        push(new CommandManager.AddAction(po, po.getNode(), objectManager.getPlacedObjects(), editorCanvas));
+                        commit(po.getNode());
                         success = true;
                         System.out.printf("► platziert (%.1f, %.1f)%n",
                                           p.getX(), p.getY());
@@ -272,8 +363,8 @@ public class LevelEditorController extends Controller {
                 PlacedObject po = objectManager.findPlacedObjectByNode(node);
         
                 if (po != null) {
-                    push(new CommandManager.DeleteAction(po, po.getNode(), objectManager.getPlacedObjects(), editorCanvas));
                     objectManager.removePlacedObject(po, editorCanvas);
+                    commit(po.getNode());
                     OverlayHelper.showWarning(canvasRoot, "Object deleted", 1);
                 }
 
@@ -298,6 +389,7 @@ public class LevelEditorController extends Controller {
         editorCanvas.getChildren().clear();
         objectManager.clear();
         commandManager.clear();
+        journalAll();
     }
 
     /**
@@ -315,7 +407,9 @@ public class LevelEditorController extends Controller {
                         meta.getDifficulty(),
                         meta.getObjective(),
                         list,
-                        lastMeta.getLimits()
+                        lastMeta.getLimits(),
+                        lastMeta.getWorldWidth(),
+                        lastMeta.getWorldHeight()
                 );
                 FileChooser fileChooser = new FileChooser();
                 fileChooser.setTitle("Level exportieren");
@@ -330,6 +424,10 @@ public class LevelEditorController extends Controller {
                     }
                     LevelStorage.save(level, file.toPath());
                     lastMeta = level;
+                    journalAll();
+                    if (journal != null) {
+                        journal.saved(file.toPath());
+                    }
                     OverlayHelper.showWarning(canvasRoot, "Level gespeichert: " + file.getName(), 3);
                 }
             } catch (IOException ex) {
@@ -358,17 +456,10 @@ public class LevelEditorController extends Controller {
                 LevelData level = LevelValidator.loadValidatedLevel(file);
                 lastMeta = level;
                 handleReset();
-                for (ObjectConf conf : level.getObjects()) {
-                    double x = conf.getX() * 100;
-                    double y = conf.getY() * 100;
-                    String type = conf.getClass().getSimpleName().toLowerCase().replace("conf", "");
-                    PlacedObject po = objectManager.createPlacedObject(type, x, y);
-                    if (po != null) {
-                        po.getNode().setRotate(Math.toDegrees(conf.getAngle()));
-                        objectManager.addPlacedObject(po, editorCanvas);
-                        addDraggingToNode(po.getNode());
-                        setupObjectSelection(po.getNode());
-                    }
+                placeObjects(level.getObjects());
+                journalAll();
+                if (journal != null) {
+                    journal.saved(file.toPath());
                 }
                 OverlayHelper.showWarning(canvasRoot, "Level geladen – " + level.getName(), 3);
             } catch (IllegalArgumentException ex) {
@@ -379,6 +470,28 @@ public class LevelEditorController extends Controller {
         }
     }
 
+    /**
+     * Platziert Objekte aus einer Level-Konfiguration auf dem Spielfeld. Der neue Zustand ist der
+     * Ausgangsstand einer neuen Undo-Historie.
+     * @param confs Zu platzierende Objekte
+     */
+    private void placeObjects(List<ObjectConf> confs) {
+        for (ObjectConf conf : confs) {
+            double x = conf.getX() * 100;
+            double y = conf.getY() * 100;
+            String type = conf.kind().getKey();
+            PlacedObject po = objectManager.createPlacedObject(type, x, y);
+            if (po != null) {
+                po.getNode().setRotate(Math.toDegrees(conf.getAngle()));
+                objectManager.addPlacedObject(po, editorCanvas);
+                addDraggingToNode(po.getNode());
+                setupObjectSelection(po.getNode());
+            }
+        }
+        objectManager.rebuildModel();
+        commandManager.reset(objectManager.getModel());
+    }
+
     /**
      * Undo-Handler.
      */
@@ -418,11 +531,20 @@ public class LevelEditorController extends Controller {
         objField.setTextFormatter(new TextFormatter<String>(
                 change -> change.getControlNewText().length() <= 50 ? change : null));
 
+        Label estimateLabel = new Label();
+        Button estimateButton = new Button("Schätzen");
+        estimateButton.setOnAction(e -> {
+            estimateButton.setDisable(true);
+            estimateLabel.setText("Simuliere...");
+            estimateDifficulty(diffBox, estimateButton, estimateLabel);
+        });
+
         GridPane grid = new GridPane();
         grid.setHgap(10); grid.setVgap(10);
         grid.addRow(0, new Label("Name:"),       nameField);
-        grid.addRow(1, new Label("Difficulty:"), diffBox);
+        grid.addRow(1, new Label("Difficulty:"), diffBox, estimateButton);
         grid.addRow(2, new Label("Objective:"),  objField);
+        grid.add(estimateLabel, 1, 3, 2, 1);
         dialog.getDialogPane().setContent(grid);
 
         dialog.setResultConverter(btn -> {
@@ -441,6 +563,33 @@ public class LevelEditorController extends Controller {
         return dialog.showAndWait();
     }
 
+    /**
+     * Schätzt die Schwierigkeit des aktuellen Levels im Hintergrund per Monte-Carlo-Simulation
+     * und wählt das Ergebnis in der Auswahlbox aus.
+     * @param diffBox Auswahlbox für den Schwierigkeitsgrad
+     * @param estimateButton Schätzen-Button, wird nach Abschluss wieder aktiviert
+     * @param estimateLabel Label für das Ergebnis
+     */
+    private void estimateDifficulty(ComboBox<Difficulty> diffBox, Button estimateButton, Label estimateLabel) {
+        List<ObjectConf> objects = objectManager.getPlacedObjects().stream()
+                .map(PlacedObject::toConfig)
+                .collect(Collectors.toList());
+        LevelData level = new LevelData(lastMeta.getName(), lastMeta.getDifficulty(),
+                lastMeta.getObjective(), objects, lastMeta.getLimits(),
+                lastMeta.getWorldWidth(), lastMeta.getWorldHeight());
+
+        CompletableFuture.supplyAsync(() -> new DifficultyEstimator(level).estimate(System.nanoTime()))
+            .whenComplete((estimate, error) -> Platform.runLater(() -> {
+                estimateButton.setDisable(false);
+                if (error != null) {
+                    estimateLabel.setText("Schätzung fehlgeschlagen: " + error.getMessage());
+                    return;
+                }
+                estimateLabel.setText(estimate.toString());
+                diffBox.getSelectionModel().select(estimate.getDifficulty());
+            }));
+    }
+
     /**
      * Öffnet einen Dialog zur Festlegung der Objekt-Limits.
      * @return Optional mit den eingegebenen Limits
@@ -495,8 +644,13 @@ public class LevelEditorController extends Controller {
                     lastMeta.getDifficulty(),
                     lastMeta.getObjective(),
                     lastMeta.getObjects(),
-                    limits
+                    limits,
+                    lastMeta.getWorldWidth(),
+                    lastMeta.getWorldHeight()
             );
+            if (journal != null) {
+                journal.meta(lastMeta);
+            }
             OverlayHelper.showWarning(canvasRoot, "Objekt-Limits aktualisiert", 2);
         });
     }
@@ -515,10 +669,8 @@ public class LevelEditorController extends Controller {
     @FXML
     private void handleRotateLeft() {
         if (selectedNode != null) {
-            double oldRotation = selectedNode.getRotate();
-            double newRotation = oldRotation - 10.0;
-            selectedNode.setRotate(newRotation);
-            push(new CommandManager.RotateAction(selectedNode, oldRotation, newRotation));
+            selectedNode.setRotate(selectedNode.getRotate() - 10.0);
+            commitChange(selectedNode);
             SelectionHelper.updateRotationButtons(rotateLeftButton, rotateRightButton, selectedNode);
         }
     }
@@ -529,10 +681,8 @@ public class LevelEditorController extends Controller {
     @FXML
     private void handleRotateRight() {
         if (selectedNode != null) {
-            double oldRotation = selectedNode.getRotate();
-            double newRotation = oldRotation + 10.0; // 10 Grad nach rechts
-            selectedNode.setRotate(newRotation);
-            push(new CommandManager.RotateAction(selectedNode, oldRotation, newRotation));
+            selectedNode.setRotate(selectedNode.getRotate() + 10.0);
+            commitChange(selectedNode);
             SelectionHelper.updateRotationButtons(rotateLeftButton, rotateRightButton, selectedNode);
         }
     }
@@ -540,11 +690,24 @@ public class LevelEditorController extends Controller {
 
 
     /**
-     * Fügt eine Aktion zum Undo/Redo-Stack hinzu.
-     * @param a Die auszuführende Aktion
+     * Übernimmt eine hinzugefügte oder entfernte Node ins Modell und legt die neue Version in der
+     * Undo-Historie ab.
+     * @param node Geänderte Node
      */
-    private void push(CommandManager.Action a) {
-        commandManager.push(a);
+    private void commit(Node node) {
+        commandManager.commit(objectManager.sync(List.of(node)));
+    }
+
+    /**
+     * Übernimmt eine verschobene oder rotierte Node ins Modell. Aufeinanderfolgende Änderungen
+     * desselben Objekts fasst der {@link CommandManager} zusammen.
+     * @param node Geänderte Node
+     */
+    private void commitChange(Node node) {
+        PlacedObject po = objectManager.findPlacedObjectByNode(node);
+        if (po != null) {
+            commandManager.commit(objectManager.sync(List.of(node)), objectManager.idOf(po));
+        }
     }
 
     /**
@@ -611,7 +774,7 @@ public class LevelEditorController extends Controller {
             double endX = node.getLayoutX();
             double endY = node.getLayoutY();
             if (endX != startPos[0] || endY != startPos[1]) {
-                push(new CommandManager.MoveAction(node, startPos[0], startPos[1], endX, endY));
+                commitChange(node);
             }
         });
         node.setOnMouseEntered(event -> { 
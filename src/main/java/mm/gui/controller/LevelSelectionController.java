@@ -1,20 +1,75 @@
 package mm.gui.controller;
 
+import javafx.application.Platform;
 import javafx.fxml.FXML;
+import javafx.geometry.Pos;
 import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import javafx.stage.DirectoryChooser;
 import javafx.stage.FileChooser;
-import mm.domain.json.LevelValidator;
+import mm.domain.storage.ImportReport;
+import mm.domain.storage.LevelCatalog;
+import mm.domain.storage.LevelImporter;
+import mm.domain.storage.LevelInfo;
+import mm.service.rendering.ThumbnailService;
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Controller für die Levelauswahl-Ansicht.
  * <p>
- * Ermöglicht die Auswahl und das Laden von vordefinierten oder eigenen Leveln.
- * Unterstützt das Importieren von benutzerdefinierten Leveldateien und die Navigation zurück zum Hauptmenü.
+ * Zeigt alle Level des Level-Verzeichnisses aus dem {@link LevelCatalog} in einer virtualisierten
+ * Liste an: Es werden nur Zellen für die sichtbaren Einträge erzeugt und beim Scrollen
+ * wiederverwendet, die Ansicht öffnet sich also gleich schnell, egal wie viele Level es gibt.
+ * Zuerst erscheint der gespeicherte Index, der Abgleich mit dem Verzeichnis läuft im Hintergrund.
+ * Vorschaubilder werden erst angefordert, wenn eine Zelle ein Level anzeigt.
+ * </p>
+ * <p>
+ * Eigene Level werden mit dem {@link LevelImporter} einzeln, als Ordner oder als Zip-Archiv in das
+ * Benutzerverzeichnis importiert und erscheinen danach ebenfalls in der Liste.
  * </p>
  */
 public class LevelSelectionController extends Controller {
 
+    /** Level-Katalog, über alle Besuche der Ansicht hinweg geteilt */
+    private static final LevelCatalog CATALOG =
+        new LevelCatalog(LevelCatalog.defaultIndexFile(),
+            List.of(GameEditorController.LEVEL_DIR, LevelImporter.defaultImportDir()));
+
+    /** Import in das Benutzerverzeichnis, inhaltsadressiert */
+    private static final LevelImporter IMPORTER = new LevelImporter(LevelImporter.defaultImportDir());
+
+    /** Der Fortschrittsbalken wird nur alle so viele Dateien aktualisiert */
+    private static final int PROGRESS_STEP = 25;
+
+    /** Höchstzahl der im Fehlerdialog aufgeführten Dateien */
+    private static final int MAX_LISTED_ERRORS = 10;
+
+    /** Höhe einer Listenzeile; feste Höhen ersparen der Liste das Ausmessen jeder Zelle */
+    private static final double CELL_HEIGHT = 110;
+
+    @FXML private ListView<LevelInfo> levelList;
+    @FXML private ProgressBar importProgress;
+    @FXML private Label importStatus;
+
+    /** Vorschaubild-Erzeugung dieser Ansicht; wird beim Verlassen beendet, der Platten-Cache bleibt */
+    private final ThumbnailService thumbnails = new ThumbnailService(ThumbnailService.defaultCacheDir());
+    /** Gesetzt, sobald die Ansicht verlassen wurde */
+    private volatile boolean closed = false;
+
     /**
      * Button zum Beenden oder Verlassen der Ansicht (wird für FileChooser benötigt).
      */
@@ -22,107 +77,231 @@ public class LevelSelectionController extends Controller {
     private Button exitButton;
 
     /**
-     * Handler für den Zurück-Button. Wechselt zurück ins Hauptmenü.
+     * Zeigt den gespeicherten Katalog an und gleicht ihn im Hintergrund mit dem Level-Verzeichnis ab.
+     * Wird automatisch von JavaFX nach dem Laden des FXML aufgerufen.
      */
     @FXML
-    private void handleBack() {
-        if (viewManager != null) {
-            viewManager.showMainMenu();
-        }
+    private void initialize() {
+        levelList.setFixedCellSize(CELL_HEIGHT);
+        levelList.setCellFactory(list -> new LevelCell());
+        levelList.getItems().setAll(CATALOG.getEntries());
+        CompletableFuture.supplyAsync(CATALOG::refresh).whenComplete((entries, error) -> {
+            if (error != null) {
+                System.err.println("Level-Katalog konnte nicht aktualisiert werden: " + error.getMessage());
+            } else {
+                Platform.runLater(() -> levelList.getItems().setAll(entries));
+            }
+        });
     }
-    
+
     /**
-     * Lädt Level 1 in den Game Editor.
+     * Öffnet ein Level im Game Editor; ungültige Level werden nur gemeldet.
      */
-    @FXML
-    private void handleLevel1() {
-        if (viewManager != null) {
-            viewManager.showGameEditorWithLevel("level1.json");
+    private void openLevel(LevelInfo info) {
+        if (!info.isValid()) {
+            showAlert("Ungültiges Level-Format", info.getName() + ": " + info.getError());
+            return;
         }
-    }
-    
-    /**
-     * Lädt Level 2 in den Game Editor.
-     */
-    @FXML
-    private void handleLevel2() {
         if (viewManager != null) {
-            viewManager.showGameEditorWithLevel("level2.json");
+            close();
+            viewManager.showGameEditorWithLevel(Path.of(info.getPath()));
         }
     }
-    
+
     /**
-     * Lädt Level 3 in den Game Editor.
+     * Beendet die Vorschaubild-Erzeugung beim Verlassen der Ansicht.
      */
-    @FXML
-    private void handleLevel3() {
-        if (viewManager != null) {
-            viewManager.showGameEditorWithLevel("level3.json");
-        }
+    private void close() {
+        closed = true;
+        thumbnails.shutdown();
     }
-    
+
     /**
-     * Lädt Level 4 in den Game Editor.
+     * Listenzelle mit Vorschaubild, Name und Eckdaten eines Levels.
+     * Das Vorschaubild wird über den Inhalts-Hash aus dem Katalog gesucht; liegt es im Speicher, wird es
+     * sofort gesetzt, sonst angefordert. Bekommt die Zelle beim Scrollen ein anderes Level, wird eine
+     * noch laufende Anforderung abgebrochen.
      */
-    @FXML
-    private void handleLevel4() {
-        if (viewManager != null) {
-            viewManager.showGameEditorWithLevel("level4.json");
+    private final class LevelCell extends ListCell<LevelInfo> {
+
+        private final ImageView thumbnail = new ImageView();
+        private final Label name = new Label();
+        private final Label details = new Label();
+        private final HBox content;
+        /** Level, für das das Vorschaubild gesetzt oder angefordert wurde */
+        private LevelInfo requested;
+        /** Laufende Anforderung des Vorschaubilds oder null */
+        private CompletableFuture<Image> pending;
+
+        LevelCell() {
+            thumbnail.setFitWidth(ThumbnailService.WIDTH / 2.0);
+            thumbnail.setFitHeight(ThumbnailService.HEIGHT / 2.0);
+            thumbnail.setPreserveRatio(true);
+            name.getStyleClass().add("level-cell-name");
+            details.getStyleClass().add("level-cell-details");
+            content = new HBox(20, thumbnail, new VBox(6, name, details));
+            content.setAlignment(Pos.CENTER_LEFT);
+            setOnMouseClicked(event -> {
+                if (!isEmpty()) {
+                    openLevel(getItem());
+                }
+            });
+        }
+
+        @Override
+        protected void updateItem(LevelInfo info, boolean empty) {
+            super.updateItem(info, empty);
+            if (empty || info == null) {
+                cancelThumbnail();
+                setGraphic(null);
+                return;
+            }
+            name.setText(info.getName());
+            details.setText(info.isValid()
+                ? info.getDifficulty() + " · " + info.getObjectCount() + " Objekte · "
+                    + info.getPlayerObjectCount() + " zum Platzieren"
+                : "Ungültig: " + info.getError());
+            setGraphic(content);
+            if (info != requested) {
+                cancelThumbnail();
+                requested = info;
+                if (info.isValid()) {
+                    requestThumbnail(info);
+                }
+            }
+        }
+
+        private void requestThumbnail(LevelInfo info) {
+            Image cached = thumbnails.cached(info.getContentHash());
+            if (cached != null) {
+                thumbnail.setImage(cached);
+                return;
+            }
+            CompletableFuture<Image> request = thumbnails.thumbnail(Path.of(info.getPath()), info.getContentHash());
+            pending = request;
+            request.whenComplete((image, error) -> {
+                if (request.isCancelled() || closed) {
+                    return;
+                }
+                if (error != null) {
+                    System.err.println("Vorschaubild für " + info.getName() + " fehlgeschlagen: " + error.getMessage());
+                    return;
+                }
+                Platform.runLater(() -> {
+                    if (pending == request) {
+                        pending = null;
+                        thumbnail.setImage(image);
+                    }
+                });
+            });
+        }
+
+        private void cancelThumbnail() {
+            if (pending != null) {
+                pending.cancel(false);
+                pending = null;
+            }
+            requested = null;
+            thumbnail.setImage(null);
         }
     }
-    
+
     /**
-     * Lädt Level 5 in den Game Editor.
+     * Handler für den Zurück-Button. Wechselt zurück ins Hauptmenü.
      */
     @FXML
-    private void handleLevel5() {
+    private void handleBack() {
         if (viewManager != null) {
-            viewManager.showGameEditorWithLevel("level5.json");
+            close();
+            viewManager.showMainMenu();
         }
     }
     
     /**
-     * Öffnet einen Dialog zum Importieren eines benutzerdefinierten Levels (JSON-Datei).
-     * Validiert die Datei und kopiert sie in das Projektverzeichnis, falls gültig.
-     * Zeigt das Level anschließend im Game Editor an.
+     * Öffnet einen Dialog zum Importieren einer Leveldatei oder eines Zip-Archivs mit Leveln.
+     * Eine einzelne gültige Leveldatei wird anschließend im Game Editor angezeigt.
      */
     @FXML
     private void handleCustomLevel() {
         FileChooser fileChooser = new FileChooser();
         fileChooser.setTitle("Level importieren");
         fileChooser.getExtensionFilters().add(
-            new FileChooser.ExtensionFilter("JSON Level-Dateien", "*.json")
+            new FileChooser.ExtensionFilter("Level-Dateien und Archive", "*.json", "*.zip")
         );
 
         File file = fileChooser.showOpenDialog(exitButton.getScene().getWindow());
         if (file != null) {
+            importLevels(file.toPath());
+        }
+    }
+
+    /**
+     * Öffnet einen Dialog zum Importieren aller Leveldateien eines Verzeichnisses.
+     */
+    @FXML
+    private void handleImportFolder() {
+        DirectoryChooser directoryChooser = new DirectoryChooser();
+        directoryChooser.setTitle("Level-Ordner importieren");
+
+        File directory = directoryChooser.showDialog(exitButton.getScene().getWindow());
+        if (directory != null) {
+            importLevels(directory.toPath());
+        }
+    }
+
+    /**
+     * Importiert im Hintergrund mit dem {@link LevelImporter}, zeigt den Fortschritt an und
+     * aktualisiert danach den Katalog.
+     */
+    private void importLevels(Path source) {
+        importProgress.setProgress(0);
+        importProgress.setVisible(true);
+        importStatus.setText("Importiere ...");
+        CompletableFuture.supplyAsync(() -> {
             try {
-                if (!LevelValidator.isValidLevelFile(file)) {
-                    showAlert("Ungültiges Level-Format", "Die ausgewählte Datei enthält kein gültiges Level-Format.");
-                    return;
-                }
+                ImportReport report = IMPORTER.importFrom(source, (done, total) -> {
+                    if (done == total || done % PROGRESS_STEP == 0) {
+                        Platform.runLater(() -> importProgress.setProgress(done / (double) total));
+                    }
+                });
+                CATALOG.refresh();
+                return report;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+        }).whenComplete((report, error) -> Platform.runLater(() -> finishImport(source, report, error)));
+    }
 
-                File targetDir = new File("src/main/resources/levels");
-                if (!targetDir.exists()) {
-                    targetDir.mkdirs();
-                }
-                
-                String fileName = "custom_" + file.getName();
-                File targetFile = new File(targetDir, fileName);
-                java.nio.file.Files.copy(
-                    file.toPath(), 
-                    targetFile.toPath(),
-                    java.nio.file.StandardCopyOption.REPLACE_EXISTING
-                );
-
-                if (viewManager != null) {
-                    viewManager.showGameEditorWithLevel(fileName);
-                }
-            } catch (IllegalArgumentException ex) {
-                showAlert("Fehler", "Ungültiges Level-Format: " + ex.getMessage());
-            } catch (java.io.IOException ex) {
-                showAlert("Fehler", "Fehler beim Laden des Levels: " + ex.getMessage());
+    private void finishImport(Path source, ImportReport report, Throwable error) {
+        importProgress.setVisible(false);
+        levelList.getItems().setAll(CATALOG.getEntries());
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            importStatus.setText("");
+            showAlert("Fehler", "Import fehlgeschlagen: " + cause.getMessage());
+            return;
+        }
+        importStatus.setText(report.getImported() + " importiert, " + report.getDuplicates() + " bereits vorhanden, "
+            + report.getErrors().size() + " fehlerhaft (" + report.getElapsedMillis() + " ms)");
+        report.getErrors().forEach((name, message) ->
+            System.err.println("Import von " + name + " fehlgeschlagen: " + message));
+
+        if (!Files.isDirectory(source) && report.getLevels().size() == 1 && report.getErrors().isEmpty()) {
+            if (viewManager != null) {
+                close();
+                viewManager.showGameEditorWithLevel(report.getLevels().get(0));
+            }
+        } else if (!report.getErrors().isEmpty()) {
+            StringBuilder content = new StringBuilder();
+            report.getErrors().entrySet().stream().limit(MAX_LISTED_ERRORS).forEach(entry ->
+                content.append(entry.getKey()).append(": ").append(entry.getValue()).append('\n'));
+            if (report.getErrors().size() > MAX_LISTED_ERRORS) {
+                content.append("... und ").append(report.getErrors().size() - MAX_LISTED_ERRORS).append(" weitere");
             }
+            showAlert("Nicht alle Level importiert", content.toString());
         }
     }
 
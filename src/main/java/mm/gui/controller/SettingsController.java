@@ -13,7 +13,8 @@ import java.util.ResourceBundle;
  * Controller für das Einstellungsmenü.
  * <p>
  * Ermöglicht die Anpassung der Ziel-FPS und das Aktivieren/Deaktivieren des Zeitlupenmodus.
- * Stellt statische Methoden zur Steuerung der Framerate und Zeitlupe bereit.
+ * Stellt statische Methoden für Ziel-Bildrate und Zeitlupe bereit; den Frame-Takt übernimmt
+ * {@link mm.service.timing.FramePacer}.
  * </p>
  */
 public class SettingsController extends Controller implements Initializable {
@@ -38,7 +39,6 @@ public class SettingsController extends Controller implements Initializable {
 
     private static double targetFPS = 60.0;
     private static boolean slowMotionEnabled = false;
-    private static long lastFrameTime = 0;
     private static final double SLOW_MOTION_SCALE = 0.25;
 
     /**
@@ -99,29 +99,6 @@ public class SettingsController extends Controller implements Initializable {
         }
     }
 
-    /**
-     * Gibt an, ob ein Frame-Update erfolgen soll (basierend auf Ziel-FPS).
-     * @return true, wenn ein Update erfolgen soll
-     */
-    public static boolean shouldUpdate() {
-        long currentTime = System.nanoTime();
-        double targetFrameTime = 1.0 / targetFPS * 1_000_000_000.0;
-        
-        if (lastFrameTime == 0) {
-            lastFrameTime = currentTime;
-            return true;
-        }
-        
-        long timeSinceLastFrame = currentTime - lastFrameTime;
-        
-        if (timeSinceLastFrame >= (targetFrameTime * 0.9)) {
-            lastFrameTime = currentTime;
-            return true;
-        }
-        
-        return false;
-    }
-
     /**
      * Gibt den aktuellen Zeitfaktor zurück (1.0 oder Zeitlupenfaktor).
      * @return Zeitfaktor
@@ -161,11 +138,4 @@ public class SettingsController extends Controller implements Initializable {
     public static void setSlowMotionEnabled(boolean enabled) {
         slowMotionEnabled = enabled;
     }
-
-    /**
-     * Setzt den Frame-Timer zurück (z.B. nach FPS-Änderung).
-     */
-    public static void resetFPSTimer() {
-        lastFrameTime = 0;
-    }
 } 
\ No newline at end of file
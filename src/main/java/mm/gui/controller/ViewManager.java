@@ -1,9 +1,17 @@
 package mm.gui.controller;
 
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
+import mm.domain.storage.LevelData;
+import mm.domain.storage.LevelImporter;
+import mm.domain.storage.LevelWatcher;
+import mm.service.profiling.SceneLoadEvent;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
 
 /**
  * Zentrale Klasse zur Verwaltung und zum Wechseln der GUI-Views (Szenen).
@@ -14,6 +22,8 @@ import javafx.stage.Stage;
 public class ViewManager {
     private static ViewManager instance;
     private Stage primaryStage;
+    /** Beobachtet das Level-Verzeichnis für das Neuladen im Game-Editor */
+    private LevelWatcher levelWatcher;
     
     /**
      * Privater Konstruktor (Singleton).
@@ -41,6 +51,42 @@ public class ViewManager {
         stage.setTitle("Mad Machines");
         stage.setWidth(1920);
         stage.setHeight(1080);
+        startLevelWatcher();
+    }
+
+    /**
+     * Startet die Beobachtung der Level-Verzeichnisse. Geänderte Level werden auf dem FX-Thread an
+     * einen geöffneten Game-Editor weitergegeben, der das betroffene Level neu lädt.
+     */
+    private void startLevelWatcher() {
+        if (levelWatcher != null) {
+            return;
+        }
+        LevelWatcher.Listener listener = new LevelWatcher.Listener() {
+            @Override
+            public void levelChanged(Path file, LevelData level) {
+                Platform.runLater(() -> {
+                    if (lastController instanceof GameEditorController) {
+                        ((GameEditorController) lastController).onLevelFileChanged(file, level);
+                    }
+                });
+            }
+
+            @Override
+            public void levelRejected(Path file, String error) {
+                Platform.runLater(() -> {
+                    if (lastController instanceof GameEditorController) {
+                        ((GameEditorController) lastController).onLevelFileRejected(file, error);
+                    }
+                });
+            }
+        };
+        try {
+            levelWatcher = new LevelWatcher(
+                List.of(GameEditorController.LEVEL_DIR, LevelImporter.defaultImportDir()), listener);
+        } catch (IOException e) {
+            System.err.println("Level-Verzeichnis kann nicht beobachtet werden: " + e.getMessage());
+        }
     }
     
     /**
@@ -76,6 +122,14 @@ public class ViewManager {
      * @param levelFileName Name der Leveldatei
      */
     public void showGameEditorWithLevel(String levelFileName) {
+        showGameEditorWithLevel(GameEditorController.LEVEL_DIR.resolve(levelFileName));
+    }
+
+    /**
+     * Zeigt den Game-Editor mit einer beliebigen Leveldatei an.
+     * @param levelFile Pfad zur Leveldatei
+     */
+    public void showGameEditorWithLevel(Path levelFile) {
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/game_editor.fxml"));
             Parent root = loader.load();
@@ -90,7 +144,8 @@ public class ViewManager {
             if (controller instanceof GameEditorController) {
                 GameEditorController gameController = (GameEditorController) controller;
                 gameController.setViewManager(this);
-                gameController.loadLevel(levelFileName);
+                gameController.loadLevel(levelFile);
+                lastController = gameController;
             }
             
             primaryStage.setScene(scene);
@@ -137,6 +192,9 @@ public class ViewManager {
      * @param fxmlPath Pfad zur FXML-Datei
      */
     private void loadScene(String fxmlPath) {
+        SceneLoadEvent event = new SceneLoadEvent();
+        event.begin();
+        event.fxmlPath = fxmlPath;
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
             Parent root = loader.load();
@@ -157,7 +215,9 @@ public class ViewManager {
             if (!primaryStage.isShowing()) {
                 primaryStage.show();
             }
+            event.success = true;
         } catch (Exception e) {
         }
+        event.commit();
     }
 }
\ No newline at end of file
@@ -2,10 +2,17 @@ package mm.service.collision;
 
 import javafx.scene.Node;
 import javafx.scene.Group;
+import javafx.geometry.BoundingBox;
 import javafx.geometry.Bounds;
 import mm.domain.editor.PlacedObject;
+import mm.domain.config.BallConf;
+import mm.domain.config.BoxConf;
+import mm.domain.config.BucketConf;
 import mm.domain.config.GoalZoneConf;
+import mm.domain.config.ObjectConf;
+import mm.domain.config.ObjectKind;
 import mm.domain.config.RestrictionZoneConf;
+import mm.service.profiling.CollisionCheckEvent;
 import java.util.List;
 
 /**
@@ -16,6 +23,9 @@ import java.util.List;
  * </p>
  */
 public class CollisionManager {
+    /** Pixel pro Meter (wie im PhysicsManager) */
+    private static final double SCALE = 100.0;
+
     /**
      * Prüft, ob ein Node mit bestehenden Objekten (platziert oder vorplatziert) kollidiert.
      * @param n Zu prüfender Node
@@ -25,6 +35,26 @@ public class CollisionManager {
      * @return true, wenn eine Überlappung vorliegt
      */
     public boolean overlapsExisting(Node n, Node ignore, List<PlacedObject> placedObjects, List<PlacedObject> prePlacedObjects) {
+        CollisionCheckEvent event = new CollisionCheckEvent();
+        event.begin();
+        boolean overlaps = findOverlap(n, ignore, placedObjects, prePlacedObjects);
+        if (event.shouldCommit()) {
+            event.objectCount = placedObjects.size() + prePlacedObjects.size();
+            event.overlaps = overlaps;
+            event.commit();
+        }
+        return overlaps;
+    }
+
+    /**
+     * Sucht ein Objekt, mit dem das gegebene Objekt kollidiert.
+     * @param n Zu prüfendes Objekt
+     * @param ignore Objekt, das ignoriert werden soll
+     * @param placedObjects Liste der platzierten Objekte
+     * @param prePlacedObjects Liste der vorplatzierten Objekte
+     * @return true, wenn eine Überlappung existiert
+     */
+    private boolean findOverlap(Node n, Node ignore, List<PlacedObject> placedObjects, List<PlacedObject> prePlacedObjects) {
         for (PlacedObject po : placedObjects) {
             Node other = po.getNode();
             if (other == n || other == ignore) continue;
@@ -44,6 +74,31 @@ public class CollisionManager {
         return false;
     }
 
+    /**
+     * Prüft, ob eine Objekt-Konfiguration mit anderen Konfigurationen überlappt.
+     * <p>
+     * Arbeitet ohne JavaFX-Nodes direkt auf den Spielfeldkoordinaten, z.B. für Simulationen
+     * ohne GUI. Es gelten dieselben Regeln wie im Editor: Zielzonen überlappen nie,
+     * Restriktionszonen dürfen nicht belegt werden.
+     * </p>
+     * @param conf Zu prüfende Konfiguration
+     * @param others Bereits vorhandene Konfigurationen
+     * @return true, wenn eine Überlappung vorliegt
+     */
+    public boolean overlapsExisting(ObjectConf conf, List<ObjectConf> others) {
+        if (conf.kind().getShape() == ObjectKind.Shape.GOALZONE) {
+            return false;
+        }
+        ObjectInfo info = getObjectInfo(conf);
+        for (ObjectConf other : others) {
+            if (other == conf || other.kind().getShape() == ObjectKind.Shape.GOALZONE) continue;
+            if (checkGeneralCollision(info, getObjectInfo(other))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Prüft, ob zwei Nodes kollidieren, unter Berücksichtigung von Spezialregeln (Goalzone, RestrictionZone, Bucket).
      * @param node1 Erstes Objekt
@@ -86,12 +141,12 @@ public class CollisionManager {
     private boolean isGoalzone(Node node, List<PlacedObject> placedObjects, List<PlacedObject> prePlacedObjects) {
         for (PlacedObject po : placedObjects) {
             if (po.getNode() == node) {
-                return po.getConfigClass() == GoalZoneConf.class;
+                return po.getKind().getShape() == ObjectKind.Shape.GOALZONE;
             }
         }
         for (PlacedObject po : prePlacedObjects) {
             if (po.getNode() == node) {
-                return po.getConfigClass() == GoalZoneConf.class;
+                return po.getKind().getShape() == ObjectKind.Shape.GOALZONE;
             }
         }
         return false;
@@ -478,6 +533,61 @@ public class CollisionManager {
         return new ObjectInfo(type, centerX, centerY, width, height, radius, rotation, bounds);
     }
 
+    /**
+     * Leitet die Objektinformationen aus einer Konfiguration ab (in Pixeln, wie im Editor).
+     * Eimer werden als umschließendes Rechteck behandelt.
+     * @param conf Objekt-Konfiguration
+     * @return Objektinfo
+     */
+    private ObjectInfo getObjectInfo(ObjectConf conf) {
+        double centerX = conf.getX() * SCALE;
+        double centerY = conf.getY() * SCALE;
+        double rotation = conf.getAngle();
+        double width;
+        double height;
+
+        ObjectKind kind = conf.kind();
+        if (kind == null) {
+            throw new IllegalArgumentException("Unbekannte Konfiguration: " + conf.getClass());
+        }
+        switch (kind.getShape()) {
+            case CIRCLE: {
+                double radius = ((BallConf) conf).getRadius() * SCALE;
+                Bounds bounds = new BoundingBox(centerX - radius, centerY - radius, 2 * radius, 2 * radius);
+                return new ObjectInfo(ObjectType.CIRCLE, centerX, centerY, 2 * radius, 2 * radius, radius, rotation, bounds);
+            }
+            case BOX:
+                width = ((BoxConf) conf).getWidth() * SCALE;
+                height = ((BoxConf) conf).getHeight() * SCALE;
+                break;
+            case BUCKET: {
+                BucketConf bucket = (BucketConf) conf;
+                width = (bucket.getWidth() + 2 * bucket.getThickness()) * SCALE;
+                height = (bucket.getHeight() + bucket.getThickness() / 2) * SCALE;
+                // Der Ursprung liegt am Boden, die Wände ragen nach oben
+                double offset = (bucket.getThickness() / 2 - height / SCALE) / 2 * SCALE;
+                centerX -= Math.sin(rotation) * offset;
+                centerY += Math.cos(rotation) * offset;
+                break;
+            }
+            case GOALZONE:
+                width = ((GoalZoneConf) conf).getWidth() * SCALE;
+                height = ((GoalZoneConf) conf).getHeight() * SCALE;
+                break;
+            default:
+                width = ((RestrictionZoneConf) conf).getWidth() * SCALE;
+                height = ((RestrictionZoneConf) conf).getHeight() * SCALE;
+                break;
+        }
+
+        double cos = Math.abs(Math.cos(rotation));
+        double sin = Math.abs(Math.sin(rotation));
+        double boundsWidth = width * cos + height * sin;
+        double boundsHeight = width * sin + height * cos;
+        Bounds bounds = new BoundingBox(centerX - boundsWidth / 2, centerY - boundsHeight / 2, boundsWidth, boundsHeight);
+        return new ObjectInfo(ObjectType.RECTANGLE, centerX, centerY, width, height, 0, rotation, bounds);
+    }
+
     /**
      * Interne Aufzählung für Objekttypen.
      */
@@ -1,42 +1,71 @@
 package mm.service.command;
 
-import javafx.scene.Node;
 import javafx.scene.control.Button;
-import java.util.Deque;
-import java.util.ArrayDeque;
+import mm.domain.editor.EditorModel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
 
 /**
- * Verwaltet Undo/Redo-Befehle für Aktionen im Editor (Command Pattern).
+ * Verwaltet Undo/Redo im Editor als Folge von Versionen des {@link EditorModel}.
+ * <p>
+ * Jede Änderung im Editor legt mit {@link #commit} die neue, unveränderliche Version ab. Da die
+ * Versionen ihre unveränderten Teile teilen, kostet ein Eintrag nur die O(log n) neuen Knoten der
+ * Änderung; die Historie ist deshalb nicht begrenzt. Undo und Redo verschieben lediglich einen
+ * Zeiger auf eine ältere bzw. neuere Version. Nodes hält die Historie nicht fest: Der Listener
+ * gleicht die Szene über {@link EditorModel#diff} an die neue Version an.
+ * </p>
  * <p>
- * Unterstützt das Rückgängig-Machen und Wiederherstellen von Aktionen wie Hinzufügen, Löschen, Verschieben und Rotieren von Objekten.
- * Die Historie ist begrenzt, Buttons können optional angebunden werden.
+ * Aufeinanderfolgende Änderungen desselben Objekts (Verschieben, Rotieren) innerhalb von
+ * {@value #COALESCE_WINDOW_MILLIS} ms werden zu einem Eintrag zusammengefasst. Mit
+ * {@link #beginGroup()} und {@link #endGroup()} lassen sich mehrere Änderungen zu einem Eintrag
+ * bündeln. Buttons können optional angebunden werden.
  * </p>
  */
 public class CommandManager {
-    
-    private final Deque<Action> undoStack = new ArrayDeque<>();
-    private final Deque<Action> redoStack = new ArrayDeque<>();
-    private static final int MAX_HISTORY = 20;
-    
+
+    /** Zeitfenster, in dem Änderungen desselben Objekts zusammengefasst werden */
+    public static final long COALESCE_WINDOW_MILLIS = 1000;
+    /** Objekt-ID für Änderungen, die nie zusammengefasst werden */
+    public static final long NO_OBJECT = -1;
+
+    /** Alle Versionen; Index 0 ist der Ausgangsstand */
+    private final List<EditorModel> versions = new ArrayList<>();
+    /** Index der aktuellen Version */
+    private int current = 0;
+    /** Zeitpunkt der letzten Änderung */
+    private long lastCommitMillis;
+    /** Objekt der letzten Änderung, solange sie noch zusammengefasst werden darf */
+    private long lastObjectId = NO_OBJECT;
+    private int groupDepth = 0;
+    /** Ob die offene Gruppe bereits einen Eintrag angelegt hat */
+    private boolean groupCommitted;
+
     private Button undoButton;
     private Button redoButton;
-    
+    /** Erhält bei jedem Wechsel der aktuellen Version die vorherige und die neue Version */
+    private BiConsumer<EditorModel, EditorModel> listener;
+
     /**
-     * Erstellt einen CommandManager ohne Buttons.
+     * Erstellt einen CommandManager ohne Buttons mit leerem Ausgangsstand.
      */
-    public CommandManager() {}
-    
+    public CommandManager() {
+        versions.add(EditorModel.empty());
+    }
+
     /**
      * Erstellt einen CommandManager mit Undo/Redo-Buttons.
      * @param undoButton Button für Undo
      * @param redoButton Button für Redo
      */
     public CommandManager(Button undoButton, Button redoButton) {
+        this();
         this.undoButton = undoButton;
         this.redoButton = redoButton;
         updateButtonStates();
     }
-    
+
     /**
      * Setzt die Buttons für Undo/Redo nachträglich.
      * @param undoButton Button für Undo
@@ -47,261 +76,185 @@ public class CommandManager {
         this.redoButton = redoButton;
         updateButtonStates();
     }
-    
+
+    /**
+     * Legt eine neue Version ab und verwirft die Redo-Historie.
+     * @param version Neue Version
+     */
+    public void commit(EditorModel version) {
+        commit(version, NO_OBJECT, System.currentTimeMillis());
+    }
+
     /**
-     * Fügt eine Aktion zum Undo-Stack hinzu und leert den Redo-Stack.
-     * @param action Die auszuführende Aktion
+     * Legt eine neue Version nach der Änderung eines einzelnen Objekts ab.
+     * @param version Neue Version
+     * @param objectId ID des geänderten Objekts
      */
-    public void push(Action action) {
-        undoStack.push(action);
-        redoStack.clear();
-        
-        if (undoStack.size() > MAX_HISTORY) {
-            undoStack.removeLast();
+    public void commit(EditorModel version, long objectId) {
+        commit(version, objectId, System.currentTimeMillis());
+    }
+
+    /**
+     * Legt eine neue Version mit angegebenem Zeitpunkt ab. Betrifft die Änderung dasselbe Objekt
+     * wie die vorige und liegt diese höchstens {@value #COALESCE_WINDOW_MILLIS} ms zurück, ersetzt
+     * die neue Version die vorige, statt einen weiteren Eintrag anzulegen.
+     * @param version Neue Version
+     * @param objectId ID des geänderten Objekts oder {@link #NO_OBJECT}
+     * @param timestampMillis Zeitpunkt der Änderung in Millisekunden
+     */
+    public void commit(EditorModel version, long objectId, long timestampMillis) {
+        EditorModel previous = versions.get(current);
+        if (version == previous) {
+            return;
+        }
+        versions.subList(current + 1, versions.size()).clear();
+
+        boolean replace;
+        if (groupDepth > 0) {
+            replace = groupCommitted;
+            groupCommitted = true;
+        } else {
+            replace = current > 0 && objectId != NO_OBJECT && objectId == lastObjectId
+                && timestampMillis - lastCommitMillis <= COALESCE_WINDOW_MILLIS;
+            lastObjectId = objectId;
+            lastCommitMillis = timestampMillis;
+        }
+        if (replace) {
+            versions.set(current, version);
+        } else {
+            versions.add(version);
+            current++;
         }
-        
+        notifyListener(previous, version);
         updateButtonStates();
     }
-    
+
+    /**
+     * Beginnt eine Gruppe: Alle Versionen bis {@link #endGroup()} bilden zusammen einen Eintrag.
+     * Gruppen dürfen verschachtelt werden.
+     */
+    public void beginGroup() {
+        if (groupDepth++ == 0) {
+            groupCommitted = false;
+        }
+    }
+
+    /**
+     * Beendet die Gruppe.
+     */
+    public void endGroup() {
+        if (groupDepth == 0) {
+            throw new IllegalStateException("Keine offene Gruppe");
+        }
+        if (--groupDepth == 0) {
+            lastObjectId = NO_OBJECT;
+        }
+    }
+
     /**
-     * Macht die letzte Aktion rückgängig (Undo).
+     * Kehrt zur vorherigen Version zurück (Undo).
+     * @return Neue aktuelle Version
      */
-    public void undo() {
-        if (!undoStack.isEmpty()) {
-            Action action = undoStack.pop();
-            action.undo();
-            redoStack.push(action);
-            updateButtonStates();
+    public EditorModel undo() {
+        if (canUndo()) {
+            move(current - 1);
         }
+        return getCurrent();
     }
-    
+
     /**
-     * Stellt die zuletzt rückgängig gemachte Aktion wieder her (Redo).
+     * Stellt die zuletzt rückgängig gemachte Version wieder her (Redo).
+     * @return Neue aktuelle Version
      */
-    public void redo() {
-        if (!redoStack.isEmpty()) {
-            Action action = redoStack.pop();
-            action.redo();
-            undoStack.push(action);
-            updateButtonStates();
+    public EditorModel redo() {
+        if (canRedo()) {
+            move(current + 1);
         }
+        return getCurrent();
     }
-    
+
+    private void move(int index) {
+        EditorModel previous = versions.get(current);
+        current = index;
+        lastObjectId = NO_OBJECT;
+        notifyListener(previous, versions.get(current));
+        updateButtonStates();
+    }
+
     /**
      * Gibt zurück, ob ein Undo möglich ist.
      * @return true, wenn Undo möglich ist
      */
     public boolean canUndo() {
-        return !undoStack.isEmpty();
+        return current > 0;
     }
-    
+
     /**
      * Gibt zurück, ob ein Redo möglich ist.
      * @return true, wenn Redo möglich ist
      */
     public boolean canRedo() {
-        return !redoStack.isEmpty();
+        return current < versions.size() - 1;
     }
-    
+
     /**
-     * Leert die Undo- und Redo-Stacks.
+     * @return Aktuelle Version
      */
-    public void clear() {
-        undoStack.clear();
-        redoStack.clear();
-        updateButtonStates();
+    public EditorModel getCurrent() {
+        return versions.get(current);
     }
-    
+
     /**
-     * Aktualisiert die Aktivierung der Undo/Redo-Buttons.
+     * @return Anzahl der Einträge in der Historie (ohne Ausgangsstand)
      */
-    private void updateButtonStates() {
-        if (undoButton != null) {
-            undoButton.setDisable(!canUndo());
-        }
-        if (redoButton != null) {
-            redoButton.setDisable(!canRedo());
-        }
+    public int getHistorySize() {
+        return versions.size() - 1;
     }
-    
+
     /**
-     * Interface für Aktionen, die rückgängig gemacht und wiederholt werden können.
+     * Setzt den Listener, der bei jedem Wechsel der aktuellen Version (Änderung, Undo, Redo)
+     * benachrichtigt wird, z.B. um die Szene abzugleichen oder den Unterschied zu journalisieren.
+     * @param listener Empfänger von vorheriger und neuer Version oder null
      */
-    public interface Action {
-        void undo();
-        void redo();
+    public void setListener(BiConsumer<EditorModel, EditorModel> listener) {
+        this.listener = listener;
     }
-    
-    /**
-     * Aktion zum Hinzufügen eines Objekts (Undo: entfernt, Redo: fügt hinzu).
-     */
-    public static class AddAction implements Action {
-        private final Node node;
-        private final Object object;
-        private final java.util.List<Object> list;
-        private final javafx.scene.Parent parent;
-        
-        /**
-         * Erstellt eine AddAction.
-         * @param object Das hinzuzufügende Objekt
-         * @param node Die zugehörige Node
-         * @param list Die Liste, in die eingefügt wird
-         * @param parent Parent-Node (optional)
-         */
-        @SuppressWarnings("unchecked")
-        public AddAction(Object object, Node node, java.util.List<?> list, javafx.scene.Parent parent) {
-            this.object = object;
-            this.node = node;
-            this.list = (java.util.List<Object>) list;
-            this.parent = parent;
-        }
-        
-        @SuppressWarnings("unchecked")
-        public AddAction(Object object, Node node, java.util.List<?> list, javafx.scene.layout.Pane parent) {
-            this.object = object;
-            this.node = node;
-            this.list = (java.util.List<Object>) list;
-            this.parent = parent;
-        }
-        
-        @SuppressWarnings("unchecked")
-        public AddAction(Object object, Node node, java.util.List<?> list) {
-            this.object = object;
-            this.node = node;
-            this.list = (java.util.List<Object>) list;
-            this.parent = null;
-        }
-        
-        @Override
-        public void undo() {
-            list.remove(object);
-            if (parent instanceof javafx.scene.layout.Pane) {
-                ((javafx.scene.layout.Pane) parent).getChildren().remove(node);
-            }
-        }
-        
-        @Override
-        public void redo() {
-            list.add(object);
-            if (parent instanceof javafx.scene.layout.Pane) {
-                ((javafx.scene.layout.Pane) parent).getChildren().add(node);
-            }
+
+    private void notifyListener(EditorModel previous, EditorModel version) {
+        if (listener != null) {
+            listener.accept(previous, version);
         }
     }
-    
+
     /**
-     * Aktion zum Löschen eines Objekts (Undo: fügt hinzu, Redo: entfernt).
+     * Verwirft die Historie und beginnt mit einem neuen Ausgangsstand, z.B. nach dem Laden eines
+     * Levels. Der Listener wird nicht benachrichtigt.
+     * @param base Neuer Ausgangsstand
      */
-    public static class DeleteAction implements Action {
-        private final Node node;
-        private final Object object;
-        private final java.util.List<Object> list;
-        private final javafx.scene.Parent parent;
-        
-        @SuppressWarnings("unchecked")
-        public DeleteAction(Object object, Node node, java.util.List<?> list, javafx.scene.Parent parent) {
-            this.object = object;
-            this.node = node;
-            this.list = (java.util.List<Object>) list;
-            this.parent = parent;
-        }
-        
-        @SuppressWarnings("unchecked")
-        public DeleteAction(Object object, Node node, java.util.List<?> list, javafx.scene.layout.Pane parent) {
-            this.object = object;
-            this.node = node;
-            this.list = (java.util.List<Object>) list;
-            this.parent = parent;
-        }
-        
-        @SuppressWarnings("unchecked")
-        public DeleteAction(Object object, Node node, java.util.List<?> list) {
-            this.object = object;
-            this.node = node;
-            this.list = (java.util.List<Object>) list;
-            this.parent = null;
-        }
-        
-        @Override
-        public void undo() {
-            list.add(object);
-            if (parent instanceof javafx.scene.layout.Pane) {
-                ((javafx.scene.layout.Pane) parent).getChildren().add(node);
-            }
-        }
-        
-        @Override
-        public void redo() {
-            list.remove(object);
-            if (parent instanceof javafx.scene.layout.Pane) {
-                ((javafx.scene.layout.Pane) parent).getChildren().remove(node);
-            }
-        }
+    public void reset(EditorModel base) {
+        versions.clear();
+        versions.add(base);
+        current = 0;
+        lastObjectId = NO_OBJECT;
+        updateButtonStates();
     }
-    
+
     /**
-     * Aktion zum Verschieben eines Objekts (Undo/Redo setzt die Position zurück).
+     * Verwirft die Historie und beginnt mit einem leeren Ausgangsstand.
      */
-    public static class MoveAction implements Action {
-        private final Node node;
-        private final double oldX, oldY, newX, newY;
-        
-        /**
-         * Erstellt eine MoveAction.
-         * @param node Die zu bewegende Node
-         * @param oldX Alte X-Position
-         * @param oldY Alte Y-Position
-         * @param newX Neue X-Position
-         * @param newY Neue Y-Position
-         */
-        public MoveAction(Node node, double oldX, double oldY, double newX, double newY) {
-            this.node = node;
-            this.oldX = oldX;
-            this.oldY = oldY;
-            this.newX = newX;
-            this.newY = newY;
-        }
-        
-        @Override
-        public void undo() {
-            node.setLayoutX(oldX);
-            node.setLayoutY(oldY);
-        }
-        
-        @Override
-        public void redo() {
-            node.setLayoutX(newX);
-            node.setLayoutY(newY);
-        }
+    public void clear() {
+        reset(EditorModel.empty());
     }
-    
+
     /**
-     * Aktion zum Rotieren eines Objekts (Undo/Redo setzt die Rotation zurück).
+     * Aktualisiert die Aktivierung der Undo/Redo-Buttons.
      */
-    public static class RotateAction implements Action {
-        private final Node node;
-        private final double oldRotation, newRotation;
-        
-        /**
-         * Erstellt eine RotateAction.
-         * @param node Die zu rotierende Node
-         * @param oldRotation Alte Rotation
-         * @param newRotation Neue Rotation
-         */
-        public RotateAction(Node node, double oldRotation, double newRotation) {
-            this.node = node;
-            this.oldRotation = oldRotation;
-            this.newRotation = newRotation;
-        }
-        
-        @Override
-        public void undo() {
-            node.setRotate(oldRotation);
+    private void updateButtonStates() {
+        if (undoButton != null) {
+            undoButton.setDisable(!canUndo());
         }
-        
-        @Override
-        public void redo() {
-            node.setRotate(newRotation);
+        if (redoButton != null) {
+            redoButton.setDisable(!canRedo());
         }
     }
-} 
\ No newline at end of file
+}
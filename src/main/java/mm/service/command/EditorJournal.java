@@ -0,0 +1,376 @@
+package mm.service.command;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import mm.domain.config.ObjectConf;
+import mm.domain.storage.LevelData;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Absturzsicheres Journal des Editor-Zustands.
+ * <p>
+ * Jede Änderung an einem Objekt (Hinzufügen, Löschen, Verschieben, Rotieren, auch per Undo/Redo)
+ * wird als Zeile im JSON-Format an {@value #JOURNAL_FILE} angehängt. Geschrieben wird ausschließlich
+ * von einem eigenen Thread; die Aufrufer legen die Einträge nur in eine Warteschlange und werden nie
+ * blockiert. Der Thread sammelt alle Einträge, die innerhalb von {@value #COMMIT_DELAY_MILLIS} ms
+ * eintreffen, und schreibt sie mit einem einzigen {@code fsync} (Group Commit).
+ * </p>
+ * <p>
+ * Die Einträge beschreiben den neuen Zustand eines Objekts, nicht die Aktion. Das Wiederholen ist
+ * dadurch idempotent. Nach {@value #COMPACT_AFTER} Einträgen wird der aktuelle Zustand als
+ * {@value #SNAPSHOT_FILE} geschrieben und das Journal geleert, sodass beim Wiederherstellen nie
+ * mehr als ein Snapshot und ein kurzer Rest gelesen werden. Eine beim Absturz halb geschriebene
+ * letzte Zeile wird verworfen.
+ * </p>
+ * <p>
+ * Nach dem Speichern oder Laden eines Levels markiert {@link #saved} den Zustand als gesichert.
+ * Folgt darauf keine weitere Änderung, liefert {@link #getRecovered()} beim nächsten Start nichts,
+ * denn der Stand liegt bereits in der Level-Datei. Der Inhalt bleibt trotzdem im Journal, damit
+ * spätere Änderungen zusammen mit dem gespeicherten Stand wiederhergestellt werden.
+ * </p>
+ */
+public class EditorJournal implements Closeable {
+
+    /** Dateiname des Journals */
+    public static final String JOURNAL_FILE = "editor.journal";
+    /** Dateiname des Snapshots */
+    public static final String SNAPSHOT_FILE = "editor.snapshot.json";
+    /** Wartezeit, in der weitere Einträge für denselben Schreibvorgang gesammelt werden */
+    public static final long COMMIT_DELAY_MILLIS = 50;
+    /** Anzahl Einträge im Journal, nach der ein neuer Snapshot geschrieben wird */
+    public static final int COMPACT_AFTER = 500;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().findAndRegisterModules();
+    /** Signal für den Schreib-Thread, sich zu beenden */
+    private static final ObjectNode STOP = MAPPER.createObjectNode();
+
+    private final Path dir;
+    private final FileChannel channel;
+    private final BlockingQueue<ObjectNode> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+
+    /** Zustand nach allen geschriebenen Einträgen; nur vom Schreib-Thread benutzt */
+    private final Map<Long, JsonNode> objects = new LinkedHashMap<>();
+    private JsonNode meta;
+    /** true, wenn seit dem letzten {@link #saved} nichts geändert wurde */
+    private boolean clean;
+    private int tailRecords;
+    private final LevelData recovered;
+
+    private long enqueued = 0;
+    private long written = 0;
+
+    /**
+     * Öffnet das Journal im angegebenen Verzeichnis, stellt den letzten Zustand wieder her und
+     * startet den Schreib-Thread.
+     * @param dir Verzeichnis für Journal und Snapshot
+     * @throws IOException wenn das Verzeichnis oder die Dateien nicht geöffnet werden können
+     */
+    public EditorJournal(Path dir) throws IOException {
+        this.dir = dir;
+        Files.createDirectories(dir);
+        readSnapshot();
+        long validBytes = readTail();
+        this.recovered = clean || (meta == null && objects.isEmpty()) ? null : toLevel();
+
+        this.channel = FileChannel.open(dir.resolve(JOURNAL_FILE), StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE);
+        channel.truncate(validBytes);
+        channel.position(validBytes);
+
+        this.writer = new Thread(this::run, "editor-journal");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * @return Standard-Verzeichnis im Benutzerverzeichnis
+     */
+    public static Path defaultDir() {
+        return Path.of(System.getProperty("user.home"), ".madmachines", "journal");
+    }
+
+    /**
+     * Gibt den beim Öffnen wiederhergestellten Zustand zurück.
+     * @return Metadaten und Objekte oder null, wenn das Journal leer war oder der Zustand
+     *         seit dem letzten {@link #saved} unverändert ist
+     */
+    public LevelData getRecovered() {
+        return recovered;
+    }
+
+    /**
+     * Merkt den aktuellen Zustand eines Objekts vor.
+     * @param id ID des Objekts
+     * @param conf Aktuelle Konfiguration
+     */
+    public void put(long id, ObjectConf conf) {
+        ObjectNode record = MAPPER.createObjectNode();
+        record.put("op", "put");
+        record.put("id", id);
+        record.set("conf", MAPPER.valueToTree(conf));
+        enqueue(record);
+    }
+
+    /**
+     * Merkt das Entfernen eines Objekts vor.
+     * @param id ID des Objekts
+     */
+    public void remove(long id) {
+        ObjectNode record = MAPPER.createObjectNode();
+        record.put("op", "remove");
+        record.put("id", id);
+        enqueue(record);
+    }
+
+    /**
+     * Merkt neue Level-Metadaten vor (Name, Schwierigkeit, Ziel, Limits, Weltgröße).
+     * Die Objektliste der Metadaten wird ignoriert.
+     * @param level Metadaten
+     */
+    public void meta(LevelData level) {
+        ObjectNode record = MAPPER.createObjectNode();
+        record.put("op", "meta");
+        ObjectNode node = MAPPER.valueToTree(level);
+        node.remove("objects");
+        record.set("level", node);
+        enqueue(record);
+    }
+
+    /**
+     * Merkt das Entfernen aller Objekte vor, z.B. beim Zurücksetzen oder Laden.
+     */
+    public void clear() {
+        ObjectNode record = MAPPER.createObjectNode();
+        record.put("op", "clear");
+        enqueue(record);
+    }
+
+    /**
+     * Merkt vor, dass der aktuelle Zustand in einer Level-Datei gesichert ist.
+     * @param file Gespeicherte oder geladene Level-Datei
+     */
+    public void saved(Path file) {
+        ObjectNode record = MAPPER.createObjectNode();
+        record.put("op", "saved");
+        record.put("path", file.toString());
+        enqueue(record);
+    }
+
+    /**
+     * Wartet, bis alle bisher vorgemerkten Einträge dauerhaft geschrieben sind.
+     * Nicht für den FX-Thread gedacht.
+     * @throws InterruptedException bei Abbruch
+     */
+    public void flush() throws InterruptedException {
+        synchronized (this) {
+            long target = enqueued;
+            while (written < target && writer.isAlive()) {
+                wait(100);
+            }
+        }
+    }
+
+    /**
+     * Schreibt alle vorgemerkten Einträge und beendet den Schreib-Thread.
+     * @throws IOException beim Schließen der Datei
+     */
+    @Override
+    public void close() throws IOException {
+        queue.add(STOP);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+    }
+
+    private void enqueue(ObjectNode record) {
+        synchronized (this) {
+            enqueued++;
+        }
+        queue.add(record);
+    }
+
+    /**
+     * Schreib-Thread: sammelt Einträge, schreibt sie gemeinsam und komprimiert bei Bedarf.
+     */
+    private void run() {
+        List<ObjectNode> batch = new ArrayList<>();
+        boolean running = true;
+        while (running) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(COMMIT_DELAY_MILLIS);
+                long remaining;
+                while ((remaining = deadline - System.nanoTime()) > 0 && batch.get(batch.size() - 1) != STOP) {
+                    ObjectNode next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            }
+            if (!batch.isEmpty() && batch.get(batch.size() - 1) == STOP) {
+                batch.remove(batch.size() - 1);
+                running = false;
+            }
+            try {
+                write(batch);
+                if (tailRecords >= COMPACT_AFTER) {
+                    compact();
+                }
+            } catch (IOException e) {
+                System.err.println("Editor-Journal konnte nicht geschrieben werden: " + e.getMessage());
+            }
+            synchronized (this) {
+                written += batch.size();
+                notifyAll();
+            }
+            batch.clear();
+        }
+    }
+
+    private void write(List<ObjectNode> batch) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        StringBuilder lines = new StringBuilder();
+        for (ObjectNode record : batch) {
+            lines.append(MAPPER.writeValueAsString(record)).append('\n');
+            apply(record);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+        tailRecords += batch.size();
+    }
+
+    /**
+     * Schreibt den aktuellen Zustand atomar als Snapshot und leert danach das Journal.
+     * Stürzt das Programm dazwischen ab, werden die Einträge beim nächsten Start erneut
+     * angewendet, was wegen der Zustands-Einträge unschädlich ist.
+     */
+    private void compact() throws IOException {
+        ObjectNode snapshot = MAPPER.createObjectNode();
+        snapshot.set("meta", meta);
+        snapshot.put("clean", clean);
+        ArrayNode list = snapshot.putArray("objects");
+        objects.forEach((id, conf) -> list.addObject().put("id", id).set("conf", conf));
+
+        Path tmp = dir.resolve(SNAPSHOT_FILE + ".tmp");
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(MAPPER.writeValueAsBytes(snapshot));
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(true);
+        }
+        Files.move(tmp, dir.resolve(SNAPSHOT_FILE), StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+        channel.truncate(0);
+        channel.position(0);
+        channel.force(true);
+        tailRecords = 0;
+    }
+
+    private void apply(JsonNode record) {
+        String op = record.path("op").asText();
+        clean = op.equals("saved");
+        switch (op) {
+            case "put":
+                objects.put(record.get("id").asLong(), record.get("conf"));
+                break;
+            case "remove":
+                objects.remove(record.get("id").asLong());
+                break;
+            case "meta":
+                meta = record.get("level");
+                break;
+            case "clear":
+                objects.clear();
+                break;
+            case "saved":
+                break;
+            default:
+                System.err.println("Unbekannter Journal-Eintrag: " + record);
+        }
+    }
+
+    private void readSnapshot() throws IOException {
+        Path file = dir.resolve(SNAPSHOT_FILE);
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        JsonNode snapshot = MAPPER.readTree(file.toFile());
+        meta = snapshot.hasNonNull("meta") ? snapshot.get("meta") : null;
+        clean = snapshot.path("clean").asBoolean(false);
+        for (JsonNode entry : snapshot.path("objects")) {
+            objects.put(entry.get("id").asLong(), entry.get("conf"));
+        }
+    }
+
+    /**
+     * Wendet die vollständigen Zeilen des Journals an.
+     * @return Länge des gültigen Teils in Bytes; danach folgt höchstens eine abgebrochene Zeile
+     */
+    private long readTail() throws IOException {
+        Path file = dir.resolve(JOURNAL_FILE);
+        if (!Files.isRegularFile(file)) {
+            return 0;
+        }
+        byte[] content = Files.readAllBytes(file);
+        int start = 0;
+        for (int i = 0; i < content.length; i++) {
+            if (content[i] != '\n') {
+                continue;
+            }
+            try {
+                apply(MAPPER.readTree(new String(content, start, i - start, StandardCharsets.UTF_8)));
+            } catch (IOException e) {
+                System.err.println("Journal ab Byte " + start + " unlesbar, Rest wird verworfen");
+                return start;
+            }
+            tailRecords++;
+            start = i + 1;
+        }
+        return start;
+    }
+
+    private LevelData toLevel() throws IOException {
+        List<ObjectConf> confs = new ArrayList<>();
+        for (JsonNode conf : objects.values()) {
+            confs.add(MAPPER.treeToValue(conf, ObjectConf.class));
+        }
+        if (meta == null) {
+            return new LevelData(null, null, null, confs);
+        }
+        LevelData level = MAPPER.treeToValue(meta, LevelData.class);
+        return new LevelData(level.getName(), level.getDifficulty(), level.getObjective(), confs,
+            level.getLimits(), level.getWorldWidth(), level.getWorldHeight());
+    }
+}
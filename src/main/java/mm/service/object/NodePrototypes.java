@@ -0,0 +1,460 @@
+package mm.service.object;
+
+import javafx.collections.ObservableList;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.ImagePattern;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Line;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.Shape;
+
+import mm.domain.config.BallConf;
+import mm.domain.config.BoxConf;
+import mm.domain.config.BucketConf;
+import mm.domain.config.GoalZoneConf;
+import mm.domain.config.ObjectKind;
+import mm.domain.config.RestrictionZoneConf;
+
+/**
+ * Erzeugt die Editor-Nodes der Objektarten nach dem Prototyp-Prinzip.
+ * <p>
+ * Pro Objektart (und getrennt für vorplatzierte Objekte) wird beim ersten Bedarf einmal eine
+ * Prototyp-Node am Ursprung gebaut; das Skin-Bild wird dabei nur einmal pro Art dekodiert. Neue
+ * Nodes entstehen durch Kopieren der Eigenschaften des Prototyps, Paints und Bilder werden
+ * gemeinsam genutzt. Mit {@link #reset} lässt sich eine nicht mehr benutzte Node derselben Art
+ * wieder in den Ausgangszustand versetzen, sodass der {@link ObjectManager} sie wiederverwenden kann.
+ * Fehlt für eine {@link ObjectKind} die Node-Fabrik, schlägt bereits das Laden der Klasse fehl.
+ * </p>
+ */
+final class NodePrototypes {
+
+    private static final double SCALE = 100.0;
+
+    /** Prototypen, indiziert über {@link #index} */
+    private static final Node[] PROTOTYPES = new Node[ObjectKind.count() * 2];
+    /** Skin-Bilder, indiziert über {@link ObjectKind#getId()} */
+    private static final ImagePattern[] SKINS = new ImagePattern[ObjectKind.count()];
+    private static final boolean[] SKIN_LOADED = new boolean[ObjectKind.count()];
+
+    private NodePrototypes() {}
+
+    /**
+     * Erzeugt eine neue Node der angegebenen Art, zentriert um (x, y).
+     * @param kind Objektart
+     * @param x X-Position
+     * @param y Y-Position
+     * @param isPrePlaced true, wenn vorplatziert
+     * @return Neue Node
+     */
+    static Node create(ObjectKind kind, double x, double y, boolean isPrePlaced) {
+        Node prototype = prototype(kind, isPrePlaced);
+        Node node = instantiate(prototype);
+        copy(prototype, node);
+        place(prototype, node, x, y);
+        return node;
+    }
+
+    /**
+     * Versetzt eine nicht mehr benutzte Node in den Zustand einer neuen Node der Art, zentriert um (x, y).
+     * @param kind Objektart
+     * @param node Wiederzuverwendende Node
+     * @param x X-Position
+     * @param y Y-Position
+     * @return true, wenn die Node zum Prototyp passt und zurückgesetzt wurde
+     */
+    static boolean reset(ObjectKind kind, Node node, double x, double y) {
+        Node prototype = prototype(kind, false);
+        if (!sameStructure(prototype, node)) {
+            return false;
+        }
+        copy(prototype, node);
+        place(prototype, node, x, y);
+        return true;
+    }
+
+    private static int index(ObjectKind kind, boolean isPrePlaced) {
+        return kind.getId() * 2 + (isPrePlaced ? 1 : 0);
+    }
+
+    private static Node prototype(ObjectKind kind, boolean isPrePlaced) {
+        int index = index(kind, isPrePlaced);
+        Node prototype = PROTOTYPES[index];
+        if (prototype == null) {
+            prototype = NODE_FACTORIES[kind.getId()].create(kind, 0, 0, isPrePlaced);
+            PROTOTYPES[index] = prototype;
+        }
+        return prototype;
+    }
+
+    /**
+     * Verschiebt die Node so, dass sie wie der Prototyp relativ zu (x, y) liegt.
+     */
+    private static void place(Node prototype, Node node, double x, double y) {
+        node.setLayoutX(x + prototype.getLayoutX());
+        node.setLayoutY(y + prototype.getLayoutY());
+    }
+
+    /**
+     * Legt eine leere Node mit derselben Struktur (Klassen, Kinder) wie der Prototyp an.
+     */
+    private static Node instantiate(Node prototype) {
+        if (prototype instanceof Circle) {
+            return new Circle();
+        } else if (prototype instanceof Rectangle) {
+            return new Rectangle();
+        } else if (prototype instanceof Line) {
+            return new Line();
+        } else if (prototype instanceof ImageView) {
+            return new ImageView();
+        } else if (prototype instanceof Group) {
+            Group group = new Group();
+            for (Node child : ((Group) prototype).getChildren()) {
+                group.getChildren().add(instantiate(child));
+            }
+            return group;
+        }
+        throw new IllegalStateException("Unsupported prototype node: " + prototype.getClass());
+    }
+
+    private static boolean sameStructure(Node prototype, Node node) {
+        if (prototype.getClass() != node.getClass()) {
+            return false;
+        }
+        if (prototype instanceof Group) {
+            ObservableList<Node> expected = ((Group) prototype).getChildren();
+            ObservableList<Node> actual = ((Group) node).getChildren();
+            if (expected.size() != actual.size()) {
+                return false;
+            }
+            for (int i = 0; i < expected.size(); i++) {
+                if (!sameStructure(expected.get(i), actual.get(i))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Überträgt alle Eigenschaften, die die Node-Fabriken oder der Editor setzen, vom Prototyp.
+     */
+    private static void copy(Node prototype, Node node) {
+        node.setOpacity(prototype.getOpacity());
+        node.setRotate(prototype.getRotate());
+        node.setMouseTransparent(prototype.isMouseTransparent());
+        if (prototype instanceof Shape) {
+            Shape from = (Shape) prototype;
+            Shape to = (Shape) node;
+            to.setFill(from.getFill());
+            to.setStroke(from.getStroke());
+            to.setStrokeWidth(from.getStrokeWidth());
+            to.getStrokeDashArray().setAll(from.getStrokeDashArray());
+        }
+        if (prototype instanceof Circle) {
+            Circle from = (Circle) prototype;
+            Circle to = (Circle) node;
+            to.setRadius(from.getRadius());
+            to.setCenterX(from.getCenterX());
+            to.setCenterY(from.getCenterY());
+        } else if (prototype instanceof Rectangle) {
+            Rectangle from = (Rectangle) prototype;
+            Rectangle to = (Rectangle) node;
+            to.setWidth(from.getWidth());
+            to.setHeight(from.getHeight());
+        } else if (prototype instanceof Line) {
+            Line from = (Line) prototype;
+            Line to = (Line) node;
+            to.setStartX(from.getStartX());
+            to.setStartY(from.getStartY());
+            to.setEndX(from.getEndX());
+            to.setEndY(from.getEndY());
+        } else if (prototype instanceof ImageView) {
+            ImageView from = (ImageView) prototype;
+            ImageView to = (ImageView) node;
+            to.setImage(from.getImage());
+            to.setFitWidth(from.getFitWidth());
+            to.setFitHeight(from.getFitHeight());
+            to.setPreserveRatio(from.isPreserveRatio());
+            to.setX(from.getX());
+            to.setY(from.getY());
+        } else if (prototype instanceof Group) {
+            ObservableList<Node> from = ((Group) prototype).getChildren();
+            ObservableList<Node> to = ((Group) node).getChildren();
+            for (int i = 0; i < from.size(); i++) {
+                copy(from.get(i), to.get(i));
+                to.get(i).setLayoutX(from.get(i).getLayoutX());
+                to.get(i).setLayoutY(from.get(i).getLayoutY());
+            }
+        }
+    }
+
+    /**
+     * Baut die Editor-Node einer Objektart, zentriert um (x, y).
+     */
+    @FunctionalInterface
+    private interface NodeFactory {
+        Node create(ObjectKind kind, double x, double y, boolean isPrePlaced);
+    }
+    
+    /** Node-Fabriken, indiziert über {@link ObjectKind#getId()} */
+    private static final NodeFactory[] NODE_FACTORIES = new NodeFactory[ObjectKind.count()];
+    
+    static {
+        register(ObjectKind.TENNISBALL, (k, x, y, pre) -> ball(k, x, y, pre, Color.YELLOW, Color.BLACK));
+        register(ObjectKind.BOWLINGBALL, (k, x, y, pre) -> ball(k, x, y, pre, Color.BROWN, Color.BLACK));
+        register(ObjectKind.BILLIARDBALL, (k, x, y, pre) -> ball(k, x, y, pre, Color.WHITE, Color.BLACK));
+        register(ObjectKind.BALLOON, NodePrototypes::balloon);
+        register(ObjectKind.LOG, NodePrototypes::log);
+        register(ObjectKind.PLANK, (k, x, y, pre) -> box(k, x, y, pre, Color.SADDLEBROWN, Color.BROWN));
+        register(ObjectKind.DOMINO, (k, x, y, pre) -> box(k, x, y, pre, Color.GRAY, Color.DARKGRAY));
+        register(ObjectKind.CRATEBOX, (k, x, y, pre) -> box(k, x, y, pre, Color.ORANGE, Color.DARKORANGE));
+        register(ObjectKind.BUCKET, NodePrototypes::bucket);
+        register(ObjectKind.GAMEBALL, (k, x, y, pre) -> ball(k, x, y, pre, Color.GREEN, Color.DARKGREEN));
+        register(ObjectKind.GOALZONE, (k, x, y, pre) -> {
+            GoalZoneConf zone = (GoalZoneConf) k.getTemplate();
+            return zone(k, x, y, zone.getWidth(), zone.getHeight(), Color.GREEN, Color.DARKGREEN);
+        });
+        register(ObjectKind.RESTRICTIONZONE, (k, x, y, pre) -> {
+            RestrictionZoneConf zone = (RestrictionZoneConf) k.getTemplate();
+            return zone(k, x, y, zone.getWidth(), zone.getHeight(), Color.RED, Color.DARKRED);
+        });
+        for (ObjectKind kind : ObjectKind.values()) {
+            if (NODE_FACTORIES[kind.getId()] == null) {
+                throw new IllegalStateException("No node factory for object kind: " + kind);
+            }
+        }
+    }
+    
+    private static void register(ObjectKind kind, NodeFactory factory) {
+        NODE_FACTORIES[kind.getId()] = factory;
+    }
+    
+    /**
+     * Kreis mit Skin oder Ersatzfarbe (Bälle).
+     */
+    private static Node ball(ObjectKind kind, double x, double y, boolean isPrePlaced, Color fill, Color stroke) {
+        double radius = ((BallConf) kind.getTemplate()).getRadius() * SCALE;
+        Circle circle = new Circle(radius);
+        circle.setCenterX(radius);
+        circle.setCenterY(radius);
+        
+        ImagePattern pattern = loadSkinPattern(kind);
+        if (pattern != null) {
+            circle.setFill(pattern);
+        } else {
+            circle.setFill(isPrePlaced ? fill.darker() : fill);
+        }
+        circle.setStroke(stroke);
+        circle.setLayoutX(x - radius);
+        circle.setLayoutY(y - radius);
+        return circle;
+    }
+    
+    /**
+     * Ballon als Group aus Bild (oder farbigem Kreis) und transparenter Hitbox.
+     */
+    private static Node balloon(ObjectKind kind, double x, double y, boolean isPrePlaced) {
+        double radius = ((BallConf) kind.getTemplate()).getRadius() * SCALE;
+        
+        // Erstelle eine Group für Ballon + Schnur
+        Group balloonGroup = new Group();
+        
+        // Hauptkreis für die physikalische Hitbox (normale Größe)
+        Circle circle = new Circle(radius);
+        circle.setCenterX(radius);
+        circle.setCenterY(radius);
+        circle.setFill(Color.TRANSPARENT); // Transparent für Hitbox
+        circle.setStroke(Color.TRANSPARENT); // Kein sichtbarer Rand
+        
+        // ImageView für das Ballon-Bild (unten überhängend für Schnur)
+        ImagePattern pattern = loadSkinPattern(kind);
+        if (pattern != null) {
+            // Verwende das Bild mit korrekter Größe
+            Image balloonImage = pattern.getImage();
+            if (balloonImage != null) {
+                ImageView imageView = new ImageView(balloonImage);
+                // Skaliere das Bild so, dass es mehr nach oben und unten überhängt
+                double imageSize = radius * 2.8; // Noch größer für mehr Überhang
+                imageView.setFitWidth(imageSize);
+                imageView.setFitHeight(imageSize);
+                // Positioniere das Bild so, dass es mehr nach oben und unten überhängt
+                imageView.setX(radius - imageSize/2); // Zentriert horizontal
+                imageView.setY(radius - imageSize/2 + radius * 0.4); // Mehr nach unten verschoben
+                balloonGroup.getChildren().add(imageView);
+            }
+        } else {
+            // Fallback: Farbiger Kreis
+            Circle colorCircle = new Circle(radius);
+            colorCircle.setCenterX(radius);
+            colorCircle.setCenterY(radius);
+            colorCircle.setFill(isPrePlaced ? Color.RED.darker() : Color.RED);
+            colorCircle.setStroke(Color.BLACK);
+            balloonGroup.getChildren().add(colorCircle);
+        }
+        
+        // Füge die Hitbox als letztes hinzu (wichtig für CollisionManager)
+        balloonGroup.getChildren().add(circle);
+        
+        balloonGroup.setLayoutX(x - radius);
+        balloonGroup.setLayoutY(y - radius);
+        return balloonGroup;
+    }
+    
+    /**
+     * Baumstamm als Group aus Bild (oder farbigem Kreis) und transparenter Hitbox.
+     */
+    private static Node log(ObjectKind kind, double x, double y, boolean isPrePlaced) {
+        double radius = ((BallConf) kind.getTemplate()).getRadius() * SCALE;
+        
+        // Erstelle eine Group für Log + Bild
+        Group logGroup = new Group();
+        
+        // Hauptkreis für die physikalische Hitbox
+        Circle circle = new Circle(radius);
+        circle.setCenterX(radius);
+        circle.setCenterY(radius);
+        circle.setFill(Color.TRANSPARENT); // Transparent für Hitbox
+        circle.setStroke(Color.TRANSPARENT); // Kein sichtbarer Rand
+        
+        // ImageView für das Log-Bild
+        ImagePattern pattern = loadSkinPattern(kind);
+        if (pattern != null) {
+            // Verwende das Bild mit korrekter Größe
+            Image logImage = pattern.getImage();
+            if (logImage != null) {
+                ImageView imageView = new ImageView(logImage);
+                // Skaliere das Bild so, dass es die runde Form zeigt
+                double imageSize = radius * 2;
+                imageView.setFitWidth(imageSize);
+                imageView.setFitHeight(imageSize);
+                imageView.setPreserveRatio(true);
+                imageView.setX(radius - imageSize/2);
+                imageView.setY(radius - imageSize/2);
+                logGroup.getChildren().add(imageView);
+            }
+        } else {
+            // Fallback: Braune Farbe für Log
+            Circle visualCircle = new Circle(radius);
+            visualCircle.setCenterX(radius);
+            visualCircle.setCenterY(radius);
+            visualCircle.setFill(isPrePlaced ? Color.BROWN.darker() : Color.BROWN);
+            visualCircle.setStroke(Color.DARKGOLDENROD);
+            logGroup.getChildren().add(visualCircle);
+        }
+        
+        // Füge den transparenten Hitbox-Kreis hinzu
+        logGroup.getChildren().add(circle);
+        
+        logGroup.setLayoutX(x - radius);
+        logGroup.setLayoutY(y - radius);
+        return logGroup;
+    }
+    
+    /**
+     * Rechteck mit Skin oder Ersatzfarbe (Planke, Domino, Kiste).
+     */
+    private static Node box(ObjectKind kind, double x, double y, boolean isPrePlaced, Color fill, Color stroke) {
+        BoxConf tempConf = (BoxConf) kind.getTemplate();
+        double width = tempConf.getWidth() * SCALE;
+        double height = tempConf.getHeight() * SCALE;
+        Rectangle rect = new Rectangle(width, height);
+        
+        ImagePattern pattern = loadSkinPattern(kind);
+        if (pattern != null) {
+            rect.setFill(pattern);
+        } else {
+            rect.setFill(isPrePlaced ? fill.darker() : fill);
+        }
+        rect.setStroke(stroke);
+        rect.setLayoutX(x - width / 2);
+        rect.setLayoutY(y - height / 2);
+        return rect;
+    }
+    
+    /**
+     * Eimer als Group aus Boden und zwei schrägen Wänden.
+     */
+    private static Node bucket(ObjectKind kind, double x, double y, boolean isPrePlaced) {
+        BucketConf tempConf = (BucketConf) kind.getTemplate();
+        double width = tempConf.getWidth() * SCALE;
+        double height = tempConf.getHeight() * SCALE;
+        double thickness = tempConf.getThickness() * SCALE;
+        double wallAngle = tempConf.getWallAngle(); // 85° in Radiant
+        
+        // Gruppe für die drei Linien
+        Group bucketGroup = new Group();
+        
+        Color bucketColor = isPrePlaced ? Color.BLUE.darker() : Color.BLUE;
+        
+        // Bodenlinie (horizontal, zentriert)
+        Line bottomLine = new Line(-width/2, 0, width/2, 0);
+        bottomLine.setStroke(bucketColor);
+        bottomLine.setStrokeWidth(thickness);
+        
+        // Linke Seitenwand (schräg nach außen, 85°)
+        double sideOffsetX = height * Math.cos(wallAngle);
+        double sideOffsetY = height * Math.sin(wallAngle);
+        Line leftWall = new Line(-width/2, 0, -width/2 - sideOffsetX, -sideOffsetY);
+        leftWall.setStroke(bucketColor);
+        leftWall.setStrokeWidth(thickness);
+        
+        // Rechte Seitenwand (schräg nach außen, 85°)
+        Line rightWall = new Line(width/2, 0, width/2 + sideOffsetX, -sideOffsetY);
+        rightWall.setStroke(bucketColor);
+        rightWall.setStrokeWidth(thickness);
+        
+        bucketGroup.getChildren().addAll(bottomLine, leftWall, rightWall);
+        bucketGroup.setLayoutX(x);
+        bucketGroup.setLayoutY(y);
+        return bucketGroup;
+    }
+    
+    /**
+     * Halbtransparentes, gestricheltes Rechteck (Ziel- und Sperrzone).
+     */
+    private static Node zone(ObjectKind kind, double x, double y, float zoneWidth, float zoneHeight,
+                             Color fill, Color stroke) {
+        double width = zoneWidth * SCALE;
+        double height = zoneHeight * SCALE;
+        Rectangle rect = new Rectangle(width, height);
+        
+        ImagePattern pattern = loadSkinPattern(kind);
+        if (pattern != null) {
+            rect.setFill(pattern);
+            rect.setOpacity(0.7);
+        } else {
+            rect.setFill(fill.deriveColor(0, 1, 1, 0.3));
+        }
+        rect.setStroke(stroke);
+        rect.setStrokeWidth(2);
+        rect.getStrokeDashArray().addAll(5d, 5d);
+        
+        rect.setLayoutX(x - width / 2);
+        rect.setLayoutY(y - height / 2);
+        return rect;
+    }
+
+    /**
+     * Lädt das Skin-Bild einer Art als Pattern; jedes Bild wird nur einmal dekodiert.
+     * @param kind Objektart
+     * @return ImagePattern oder null
+     */
+    private static ImagePattern loadSkinPattern(ObjectKind kind) {
+        int id = kind.getId();
+        if (!SKIN_LOADED[id]) {
+            SKIN_LOADED[id] = true;
+            try {
+                String path = "/assets/entities/" + kind.getKey() + ".png";
+                Image img = new Image(NodePrototypes.class.getResourceAsStream(path));
+                SKINS[id] = new ImagePattern(img);
+            } catch (Exception e) {
+                SKINS[id] = null;
+            }
+        }
+        return SKINS[id];
+    }
+}
@@ -2,64 +2,80 @@ package mm.service.object;
 
 import javafx.scene.Node;
 import javafx.scene.Group;
-import javafx.scene.image.Image;
-import javafx.scene.paint.Color;
-import javafx.scene.paint.ImagePattern;
-import javafx.scene.shape.Circle;
-import javafx.scene.shape.Rectangle;
 import javafx.scene.input.MouseButton;
 import javafx.scene.layout.Pane;
-import javafx.scene.image.ImageView;
-import javafx.scene.shape.Line;
 
-import mm.domain.editor.PlacedObject;
 import mm.domain.config.ObjectConf;
-import mm.domain.config.TennisballConf;
-import mm.domain.config.BowlingballConf;
-import mm.domain.config.BilliardballConf;
-import mm.domain.config.BalloonConf;
-import mm.domain.config.LogConf;
-import mm.domain.config.PlankConf;
-import mm.domain.config.DominoConf;
-import mm.domain.config.CrateboxConf;
-import mm.domain.config.BucketConf;
-import mm.domain.config.GameBallConf;
-import mm.domain.config.GoalZoneConf;
-import mm.domain.config.RestrictionZoneConf;
+import mm.domain.editor.EditorModel;
+import mm.domain.editor.PlacedObject;
+import mm.domain.config.ObjectKind;
 import mm.service.collision.CollisionManager;
 
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.function.Consumer;
 
 /**
  * Verwaltet das Platzieren, Entfernen und Verwalten von Objekten im Editor.
  * <p>
  * Unterstützt das Erstellen von Objekten, Limit-Prüfungen, Drag & Drop, Kollisionserkennung und das Handling von PrePlaced-Objekten.
  * </p>
+ * <p>
+ * Neben den Listen führt der ObjectManager unveränderliche Versionen ({@link EditorModel}) der
+ * platzierten und vorplatzierten Objekte, in denen jedes Objekt eine feste ID hat. Nach einer
+ * Änderung an Nodes wird das Modell mit {@link #sync} in O(log n) pro Node nachgeführt; die Listen
+ * führen dazu einen Index von Node auf Objekt. Umgekehrt gleicht {@link #apply} die Nodes an eine
+ * beliebige Version an (Undo/Redo) und besucht dabei nur die Unterschiede.
+ * </p>
+ * <p>
+ * Nodes entstehen als Kopien vorgefertigter Prototypen ({@link NodePrototypes}). Nodes gelöschter
+ * Objekte nimmt {@link #recycle} zurück; neue Objekte derselben Art verwenden sie wieder. Ein per
+ * Undo zurückkehrendes Objekt erhält so eine Node aus dem Pool und behält seine ID.
+ * </p>
  */
 public class ObjectManager {
     
-    private final List<PlacedObject> placedObjects = new ArrayList<>();
-    private final List<PlacedObject> prePlacedObjects = new ArrayList<>();
+    private final NodeIndexedList placedObjects = new NodeIndexedList();
+    private final NodeIndexedList prePlacedObjects = new NodeIndexedList();
     private final Map<String, Integer> currentLimits = new HashMap<>();
     private final CollisionManager collisionManager = new CollisionManager();
+    /** Aktuelle Version der platzierten Objekte */
+    private EditorModel model = EditorModel.empty();
+    /** Aktuelle Version der vorplatzierten Objekte */
+    private EditorModel levelModel = EditorModel.empty();
+    /** IDs der Objekte nach Node (Identität) */
+    private final Map<Node, Long> ids = new IdentityHashMap<>();
+    /** Platzierte und vorplatzierte Objekte nach ID */
+    private final Map<Long, PlacedObject> objectsById = new HashMap<>();
+    private long nextId = 1;
+    /** Wiederverwendbare Nodes gelöschter Objekte, indiziert über {@link ObjectKind#getId()} */
+    private final List<Deque<Node>> pools = new ArrayList<>();
     
-    private static final List<String> UNIQUE_ITEMS = List.of("gameball", "goalzone");
-    
-    private static final double SCALE = 100.0;
+    /** Höchstzahl wiederverwendbarer Nodes pro Objektart */
+    public static final int MAX_POOLED_NODES = 32;
     
     /**
      * Erstellt einen leeren ObjectManager.
      */
-    public ObjectManager() {}
+    public ObjectManager() {
+        for (int i = 0; i < ObjectKind.count(); i++) {
+            pools.add(new ArrayDeque<>());
+        }
+    }
     
     /**
      * Erstellt einen ObjectManager mit Limits.
      * @param limits Map mit Objekt-Limits
      */
     public ObjectManager(Map<String, Integer> limits) {
+        this();
         this.currentLimits.putAll(limits);
     }
     
@@ -102,6 +118,123 @@ public class ObjectManager {
     public void clear() {
         placedObjects.clear();
         prePlacedObjects.clear();
+        model = EditorModel.empty();
+        levelModel = EditorModel.empty();
+        ids.clear();
+        objectsById.clear();
+    }
+    
+    /**
+     * @return Aktuelle Version der platzierten Objekte
+     */
+    public EditorModel getModel() {
+        return model;
+    }
+    
+    /**
+     * @return Aktuelle Version der vorplatzierten Objekte
+     */
+    public EditorModel getLevelModel() {
+        return levelModel;
+    }
+    
+    /**
+     * Gibt die ID eines Objekts zurück und vergibt bei Bedarf eine neue.
+     * @param po PlacedObject
+     * @return ID des Objekts
+     */
+    public long idOf(PlacedObject po) {
+        long id = ids.computeIfAbsent(po.getNode(), node -> nextId++);
+        objectsById.put(id, po);
+        return id;
+    }
+    
+    /**
+     * @param id ID eines Objekts
+     * @return Objekt mit dieser ID oder null
+     */
+    public PlacedObject findById(long id) {
+        return objectsById.get(id);
+    }
+    
+    /**
+     * Führt das Modell der platzierten Objekte für geänderte Nodes nach: Liegt die Node in der
+     * Liste der platzierten Objekte, wird ihr aktueller Zustand übernommen, sonst wird das Objekt
+     * entfernt und seine Node zur Wiederverwendung zurückgenommen.
+     * @param nodes Geänderte Nodes
+     * @return Neue Version
+     */
+    public EditorModel sync(Collection<Node> nodes) {
+        for (Node node : nodes) {
+            PlacedObject po = placedObjects.byNode(node);
+            if (po != null) {
+                model = model.with(idOf(po), po.toConfig());
+            } else {
+                Long id = ids.get(node);
+                if (id != null) {
+                    model = model.without(id);
+                    recycle(node);
+                }
+            }
+        }
+        return model;
+    }
+
+    /**
+     * Bringt die platzierten Objekte auf den Stand einer anderen Version, z.B. bei Undo/Redo.
+     * Nur die Unterschiede zur aktuellen Version werden angewendet: Verschwundene Objekte werden
+     * entfernt und ihre Nodes zurückgenommen, neue Objekte mit ihrer ID angelegt (bevorzugt aus dem
+     * Pool) und geänderte Objekte auf ihre Position und Rotation gesetzt.
+     * @param target Neue Version
+     * @param editorCanvas Zeichenfläche
+     * @param onCreated Erhält neu angelegte Objekte, z.B. um Event-Handler zu setzen
+     */
+    public void apply(EditorModel target, Pane editorCanvas, Consumer<PlacedObject> onCreated) {
+        model.diff(target, new EditorModel.DiffListener() {
+            @Override
+            public void added(long id, ObjectConf conf) {
+                PlacedObject po = createPlacedObject(conf.kind().getKey(), 0, 0);
+                po.moveTo(conf);
+                ids.put(po.getNode(), id);
+                objectsById.put(id, po);
+                addPlacedObject(po, editorCanvas);
+                onCreated.accept(po);
+            }
+
+            @Override
+            public void removed(long id, ObjectConf conf) {
+                PlacedObject po = objectsById.get(id);
+                if (po != null) {
+                    removePlacedObject(po, editorCanvas);
+                    recycle(po.getNode());
+                }
+            }
+
+            @Override
+            public void changed(long id, ObjectConf before, ObjectConf after) {
+                PlacedObject po = objectsById.get(id);
+                if (po != null) {
+                    po.moveTo(after);
+                }
+            }
+        });
+        model = target;
+        nextId = Math.max(nextId, target.maxId() + 1);
+    }
+    
+    /**
+     * Baut beide Modelle aus den Listen neu auf, z.B. nach dem Laden eines Levels.
+     * Bereits vergebene IDs bleiben erhalten.
+     */
+    public void rebuildModel() {
+        model = EditorModel.empty();
+        for (PlacedObject po : placedObjects) {
+            model = model.with(idOf(po), po.toConfig());
+        }
+        levelModel = EditorModel.empty();
+        for (PlacedObject po : prePlacedObjects) {
+            levelModel = levelModel.with(idOf(po), po.toConfig());
+        }
     }
     
     /**
@@ -110,12 +243,8 @@ public class ObjectManager {
      * @return true, wenn das Limit erreicht ist
      */
     public boolean checkLimitReached(String type) {
-        long already = placedObjects.stream()
-                .map(po -> po.getConfigClass().getSimpleName().toLowerCase().replace("conf", ""))
-                .filter(t -> t.equals(type))
-                .count();
         int allowed = currentLimits.getOrDefault(type, 999);
-        return already >= allowed;
+        return getCurrentCount(type) >= allowed;
     }
     
     /**
@@ -124,10 +253,17 @@ public class ObjectManager {
      * @return Anzahl
      */
     public int getCurrentCount(String type) {
-        return (int) placedObjects.stream()
-                .map(po -> po.getConfigClass().getSimpleName().toLowerCase().replace("conf", ""))
-                .filter(t -> t.equals(type))
-                .count();
+        ObjectKind kind = ObjectKind.byKey(type);
+        if (kind == null) {
+            return 0;
+        }
+        int count = 0;
+        for (PlacedObject po : placedObjects) {
+            if (po.getKind() == kind) {
+                count++;
+            }
+        }
+        return count;
     }
     
     /**
@@ -136,15 +272,11 @@ public class ObjectManager {
      * @return true, wenn das Limit erreicht ist
      */
     public boolean isUniqueItemLimitReached(String type) {
-        if (!UNIQUE_ITEMS.contains(type)) {
+        ObjectKind kind = ObjectKind.byKey(type);
+        if (kind == null || !kind.isUnique()) {
             return false;
         }
-        
-        long existing = placedObjects.stream()
-                .map(po -> po.getConfigClass().getSimpleName().toLowerCase().replace("conf", ""))
-                .filter(t -> t.equals(type))
-                .count();
-        return existing >= 1;
+        return getCurrentCount(type) >= 1;
     }
     
     /**
@@ -167,344 +299,35 @@ public class ObjectManager {
      * @return PlacedObject oder null
      */
     public PlacedObject createPlacedObject(String type, double x, double y, boolean isPrePlaced) {
-        Node node;
-        Class<? extends ObjectConf> cfg;
-        
-        switch (type) {
-            case "tennisball": {
-                TennisballConf tempConf = new TennisballConf(0, 0, 0, false);
-                double radius = tempConf.getRadius() * SCALE;
-                Circle circle = new Circle(radius);
-                circle.setCenterX(radius);
-                circle.setCenterY(radius);
-                
-                ImagePattern pattern = loadSkinPattern(tempConf.getSkinId());
-                if (pattern != null) {
-                    circle.setFill(pattern);
-                } else {
-                    circle.setFill(isPrePlaced ? Color.YELLOW.darker() : Color.YELLOW);
-                }
-                circle.setStroke(Color.BLACK);
-                circle.setLayoutX(x - radius);
-                circle.setLayoutY(y - radius);
-                node = circle;
-                cfg = TennisballConf.class;
-                break;
-            }
-            
-            case "bowlingball": {
-                BowlingballConf tempConf = new BowlingballConf(0, 0, 0, false);
-                double radius = tempConf.getRadius() * SCALE;
-                Circle circle = new Circle(radius);
-                circle.setCenterX(radius);
-                circle.setCenterY(radius);
-                
-                ImagePattern pattern = loadSkinPattern(tempConf.getSkinId());
-                if (pattern != null) {
-                    circle.setFill(pattern);
-                } else {
-                    circle.setFill(isPrePlaced ? Color.BROWN.darker() : Color.BROWN);
-                }
-                circle.setStroke(Color.BLACK);
-                circle.setLayoutX(x - radius);
-                circle.setLayoutY(y - radius);
-                node = circle;
-                cfg = BowlingballConf.class;
-                break;
-            }
-            
-            case "billiardball": {
-                BilliardballConf tempConf = new BilliardballConf(0, 0, 0, false);
-                double radius = tempConf.getRadius() * SCALE;
-                Circle circle = new Circle(radius);
-                circle.setCenterX(radius);
-                circle.setCenterY(radius);
-                
-                ImagePattern pattern = loadSkinPattern(tempConf.getSkinId());
-                if (pattern != null) {
-                    circle.setFill(pattern);
-                } else {
-                    circle.setFill(isPrePlaced ? Color.WHITE.darker() : Color.WHITE);
-                }
-                circle.setStroke(Color.BLACK);
-                circle.setLayoutX(x - radius);
-                circle.setLayoutY(y - radius);
-                node = circle;
-                cfg = BilliardballConf.class;
-                break;
-            }
-            
-            case "balloon": {
-                BalloonConf tempConf = new BalloonConf(0, 0, 0, false);
-                double radius = tempConf.getRadius() * SCALE;
-                
-                // Erstelle eine Group für Ballon + Schnur
-                Group balloonGroup = new Group();
-                
-                // Hauptkreis für die physikalische Hitbox (normale Größe)
-                Circle circle = new Circle(radius);
-                circle.setCenterX(radius);
-                circle.setCenterY(radius);
-                circle.setFill(Color.TRANSPARENT); // Transparent für Hitbox
-                circle.setStroke(Color.TRANSPARENT); // Kein sichtbarer Rand
-                
-                // ImageView für das Ballon-Bild (unten überhängend für Schnur)
-                ImagePattern pattern = loadSkinPattern(tempConf.getSkinId());
-                if (pattern != null) {
-                    // Verwende das Bild mit korrekter Größe
-                    Image balloonImage = pattern.getImage();
-                    if (balloonImage != null) {
-                        ImageView imageView = new ImageView(balloonImage);
-                        // Skaliere das Bild so, dass es mehr nach oben und unten überhängt
-                        double imageSize = radius * 2.8; // Noch größer für mehr Überhang
-                        imageView.setFitWidth(imageSize);
-                        imageView.setFitHeight(imageSize);
-                        // Positioniere das Bild so, dass es mehr nach oben und unten überhängt
-                        imageView.setX(radius - imageSize/2); // Zentriert horizontal
-                        imageView.setY(radius - imageSize/2 + radius * 0.4); // Mehr nach unten verschoben
-                        balloonGroup.getChildren().add(imageView);
-                    }
-                } else {
-                    // Fallback: Farbiger Kreis
-                    Circle colorCircle = new Circle(radius);
-                    colorCircle.setCenterX(radius);
-                    colorCircle.setCenterY(radius);
-                    colorCircle.setFill(isPrePlaced ? Color.RED.darker() : Color.RED);
-                    colorCircle.setStroke(Color.BLACK);
-                    balloonGroup.getChildren().add(colorCircle);
-                }
-                
-                // Füge die Hitbox als letztes hinzu (wichtig für CollisionManager)
-                balloonGroup.getChildren().add(circle);
-                
-                balloonGroup.setLayoutX(x - radius);
-                balloonGroup.setLayoutY(y - radius);
-                node = balloonGroup;
-                cfg = BalloonConf.class;
-                break;
-            }
-            
-            case "log": {
-                LogConf tempConf = new LogConf(0, 0, 0, false);
-                double radius = tempConf.getRadius() * SCALE;
-                
-                // Erstelle eine Group für Log + Bild
-                Group logGroup = new Group();
-                
-                // Hauptkreis für die physikalische Hitbox
-                Circle circle = new Circle(radius);
-                circle.setCenterX(radius);
-                circle.setCenterY(radius);
-                circle.setFill(Color.TRANSPARENT); // Transparent für Hitbox
-                circle.setStroke(Color.TRANSPARENT); // Kein sichtbarer Rand
-                
-                // ImageView für das Log-Bild
-                ImagePattern pattern = loadSkinPattern(tempConf.getSkinId());
-                if (pattern != null) {
-                    // Verwende das Bild mit korrekter Größe
-                    Image logImage = pattern.getImage();
-                    if (logImage != null) {
-                        ImageView imageView = new ImageView(logImage);
-                        // Skaliere das Bild so, dass es die runde Form zeigt
-                        double imageSize = radius * 2;
-                        imageView.setFitWidth(imageSize);
-                        imageView.setFitHeight(imageSize);
-                        imageView.setPreserveRatio(true);
-                        imageView.setX(radius - imageSize/2);
-                        imageView.setY(radius - imageSize/2);
-                        logGroup.getChildren().add(imageView);
-                    }
-                } else {
-                    // Fallback: Braune Farbe für Log
-                    Circle visualCircle = new Circle(radius);
-                    visualCircle.setCenterX(radius);
-                    visualCircle.setCenterY(radius);
-                    visualCircle.setFill(isPrePlaced ? Color.BROWN.darker() : Color.BROWN);
-                    visualCircle.setStroke(Color.DARKGOLDENROD);
-                    logGroup.getChildren().add(visualCircle);
-                }
-                
-                // Füge den transparenten Hitbox-Kreis hinzu
-                logGroup.getChildren().add(circle);
-                
-                logGroup.setLayoutX(x - radius);
-                logGroup.setLayoutY(y - radius);
-                node = logGroup;
-                cfg = LogConf.class;
-                break;
-            }
-            
-            case "plank": {
-                PlankConf tempConf = new PlankConf(0, 0, 0, false);
-                double width = tempConf.getWidth() * SCALE;
-                double height = tempConf.getHeight() * SCALE;
-                Rectangle rect = new Rectangle(width, height);
-                
-                ImagePattern pattern = loadSkinPattern(tempConf.getSkinId());
-                if (pattern != null) {
-                    rect.setFill(pattern);
-                } else {
-                    rect.setFill(isPrePlaced ? Color.SADDLEBROWN.darker() : Color.SADDLEBROWN);
-                }
-                rect.setStroke(Color.BROWN);
-                rect.setLayoutX(x - width / 2);
-                rect.setLayoutY(y - height / 2);
-                node = rect;
-                cfg = PlankConf.class;
-                break;
-            }
-            
-            case "domino": {
-                DominoConf tempConf = new DominoConf(0, 0, 0, false);
-                double width = tempConf.getWidth() * SCALE;
-                double height = tempConf.getHeight() * SCALE;
-                Rectangle rect = new Rectangle(width, height);
-                
-                ImagePattern pattern = loadSkinPattern(tempConf.getSkinId());
-                if (pattern != null) {
-                    rect.setFill(pattern);
-                } else {
-                    rect.setFill(isPrePlaced ? Color.GRAY.darker() : Color.GRAY);
-                }
-                rect.setStroke(Color.DARKGRAY);
-                rect.setLayoutX(x - width / 2);
-                rect.setLayoutY(y - height / 2);
-                node = rect;
-                cfg = DominoConf.class;
-                break;
-            }
-            
-            case "cratebox": {
-                CrateboxConf tempConf = new CrateboxConf(0, 0, 0, false);
-                double width = tempConf.getWidth() * SCALE;
-                double height = tempConf.getHeight() * SCALE;
-                Rectangle rect = new Rectangle(width, height);
-                
-                ImagePattern pattern = loadSkinPattern(tempConf.getSkinId());
-                if (pattern != null) {
-                    rect.setFill(pattern);
-                } else {
-                    rect.setFill(isPrePlaced ? Color.ORANGE.darker() : Color.ORANGE);
-                }
-                rect.setStroke(Color.DARKORANGE);
-                rect.setLayoutX(x - width / 2);
-                rect.setLayoutY(y - height / 2);
-                node = rect;
-                cfg = CrateboxConf.class;
-                break;
-            }
-            
-            case "bucket": {
-                BucketConf tempConf = new BucketConf(0, 0, 0, false);
-                double width = tempConf.getWidth() * SCALE;
-                double height = tempConf.getHeight() * SCALE;
-                double thickness = tempConf.getThickness() * SCALE;
-                double wallAngle = tempConf.getWallAngle(); // 85° in Radiant
-                
-                // Gruppe für die drei Linien
-                Group bucketGroup = new Group();
-                
-                Color bucketColor = isPrePlaced ? Color.BLUE.darker() : Color.BLUE;
-                
-                // Bodenlinie (horizontal, zentriert)
-                Line bottomLine = new Line(-width/2, 0, width/2, 0);
-                bottomLine.setStroke(bucketColor);
-                bottomLine.setStrokeWidth(thickness);
-                
-                // Linke Seitenwand (schräg nach außen, 85°)
-                double sideOffsetX = height * Math.cos(wallAngle);
-                double sideOffsetY = height * Math.sin(wallAngle);
-                Line leftWall = new Line(-width/2, 0, -width/2 - sideOffsetX, -sideOffsetY);
-                leftWall.setStroke(bucketColor);
-                leftWall.setStrokeWidth(thickness);
-                
-                // Rechte Seitenwand (schräg nach außen, 85°)
-                Line rightWall = new Line(width/2, 0, width/2 + sideOffsetX, -sideOffsetY);
-                rightWall.setStroke(bucketColor);
-                rightWall.setStrokeWidth(thickness);
-                
-                bucketGroup.getChildren().addAll(bottomLine, leftWall, rightWall);
-                bucketGroup.setLayoutX(x);
-                bucketGroup.setLayoutY(y);
-                node = bucketGroup;
-                cfg = BucketConf.class;
-                break;
-            }
-            
-            case "gameball": {
-                GameBallConf tempConf = new GameBallConf(0, 0, 0, false);
-                double radius = tempConf.getRadius() * SCALE;
-                Circle circle = new Circle(radius);
-                circle.setCenterX(radius);
-                circle.setCenterY(radius);
-                
-                ImagePattern pattern = loadSkinPattern(tempConf.getSkinId());
-                if (pattern != null) {
-                    circle.setFill(pattern);
-                } else {
-                    circle.setFill(isPrePlaced ? Color.GREEN.darker() : Color.GREEN);
-                }
-                circle.setStroke(Color.DARKGREEN);
-                circle.setLayoutX(x - radius);
-                circle.setLayoutY(y - radius);
-                node = circle;
-                cfg = GameBallConf.class;
-                break;
-            }
-            
-            case "goalzone": {
-                GoalZoneConf tempConf = new GoalZoneConf(0, 0, 0, true);
-                double width = tempConf.getWidth() * SCALE;
-                double height = tempConf.getHeight() * SCALE;
-                Rectangle rect = new Rectangle(width, height);
-                
-                ImagePattern pattern = loadSkinPattern(tempConf.getSkinId());
-                if (pattern != null) {
-                    rect.setFill(pattern);
-                    rect.setOpacity(0.7);
-                } else {
-                    rect.setFill(Color.GREEN.deriveColor(0, 1, 1, 0.3));
-                }
-                rect.setStroke(Color.DARKGREEN);
-                rect.setStrokeWidth(2);
-                rect.getStrokeDashArray().addAll(5d, 5d);
-                
-                rect.setLayoutX(x - width / 2);
-                rect.setLayoutY(y - height / 2);
-                node = rect;
-                cfg = GoalZoneConf.class;
-                break;
-            }
-            
-            case "restrictionzone": {
-                RestrictionZoneConf tempConf = new RestrictionZoneConf(0, 0, 0, true);
-                double width = tempConf.getWidth() * SCALE;
-                double height = tempConf.getHeight() * SCALE;
-                Rectangle rect = new Rectangle(width, height);
-                
-                ImagePattern pattern = loadSkinPattern(tempConf.getSkinId());
-                if (pattern != null) {
-                    rect.setFill(pattern);
-                    rect.setOpacity(0.7);
-                } else {
-                    rect.setFill(Color.RED.deriveColor(0, 1, 1, 0.3));
-                }
-                rect.setStroke(Color.DARKRED);
-                rect.setStrokeWidth(2);
-                rect.getStrokeDashArray().addAll(5d, 5d);
-                
-                rect.setLayoutX(x - width / 2);
-                rect.setLayoutY(y - height / 2);
-                node = rect;
-                cfg = RestrictionZoneConf.class;
-                break;
-            }
-            
-            default:
-                return null;
+        ObjectKind kind = ObjectKind.byKey(type);
+        if (kind == null) {
+            return null;
+        }
+        Node node = isPrePlaced ? null : pools.get(kind.getId()).poll();
+        if (node == null || !NodePrototypes.reset(kind, node, x, y)) {
+            node = NodePrototypes.create(kind, x, y, isPrePlaced);
+        }
+        return new PlacedObject(node, kind.getConfigClass());
+    }
+    
+    /**
+     * Nimmt die Node eines gelöschten Objekts zur Wiederverwendung zurück. Objekte, die noch
+     * platziert sind, werden ignoriert.
+     * @param node Nicht mehr benutzte Node
+     */
+    public void recycle(Node node) {
+        Long id = ids.get(node);
+        PlacedObject po = id == null ? null : objectsById.get(id);
+        if (po == null || po.getKind() == null || placedObjects.byNode(node) != null
+                || prePlacedObjects.byNode(node) != null) {
+            return;
+        }
+        ids.remove(node);
+        objectsById.remove(id);
+        Deque<Node> pool = pools.get(po.getKind().getId());
+        if (pool.size() < MAX_POOLED_NODES) {
+            pool.push(node);
         }
-        
-        return new PlacedObject(node, cfg);
     }
     
     /**
@@ -582,10 +405,7 @@ public class ObjectManager {
      * @return PlacedObject oder null
      */
     public PlacedObject findPlacedObjectByNode(Node node) {
-        return placedObjects.stream()
-                .filter(p -> p.getNode() == node)
-                .findFirst()
-                .orElse(null);
+        return placedObjects.byNode(node);
     }
     
     /**
@@ -594,10 +414,7 @@ public class ObjectManager {
      * @return PlacedObject oder null
      */
     public PlacedObject findPrePlacedObjectByNode(Node node) {
-        return prePlacedObjects.stream()
-                .filter(p -> p.getNode() == node)
-                .findFirst()
-                .orElse(null);
+        return prePlacedObjects.byNode(node);
     }
     
     /**
@@ -660,21 +477,6 @@ public class ObjectManager {
         node.setOnMouseReleased(event -> event.consume());
     }
     
-    /**
-     * Lädt ein Skin-Bild als Pattern.
-     * @param skinId Skin-ID
-     * @return ImagePattern oder null
-     */
-    private ImagePattern loadSkinPattern(String skinId) {
-        try {
-            String path = "/assets/entities/" + skinId + ".png";
-            Image img = new Image(getClass().getResourceAsStream(path));
-            return new ImagePattern(img);
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
     /**
      * Klemmt einen Wert zwischen zwei Grenzen ein.
      * @param v Wert
@@ -685,4 +487,55 @@ public class ObjectManager {
     public static double clamp(double v, double lo, double hi) {
         return (v < lo) ? lo : (v > hi) ? hi : v;
     }
-} 
\ No newline at end of file
+
+    /**
+     * Liste von Objekten mit Index von Node auf Objekt (Identität). Alle Änderungen laufen bei
+     * {@link AbstractList} über {@link #add(int, PlacedObject)}, {@link #set} und {@link #remove(int)},
+     * der Index bleibt also auch bei direktem Zugriff über {@link ObjectManager#getPlacedObjects()} aktuell.
+     */
+    private static final class NodeIndexedList extends AbstractList<PlacedObject> {
+        private final List<PlacedObject> objects = new ArrayList<>();
+        private final Map<Node, PlacedObject> byNode = new IdentityHashMap<>();
+
+        PlacedObject byNode(Node node) {
+            return byNode.get(node);
+        }
+
+        @Override
+        public PlacedObject get(int index) {
+            return objects.get(index);
+        }
+
+        @Override
+        public int size() {
+            return objects.size();
+        }
+
+        @Override
+        public PlacedObject set(int index, PlacedObject po) {
+            PlacedObject old = objects.set(index, po);
+            byNode.remove(old.getNode());
+            byNode.put(po.getNode(), po);
+            return old;
+        }
+
+        @Override
+        public void add(int index, PlacedObject po) {
+            objects.add(index, po);
+            byNode.put(po.getNode(), po);
+        }
+
+        @Override
+        public PlacedObject remove(int index) {
+            PlacedObject old = objects.remove(index);
+            byNode.remove(old.getNode());
+            return old;
+        }
+
+        @Override
+        public void clear() {
+            objects.clear();
+            byNode.clear();
+        }
+    }
+}
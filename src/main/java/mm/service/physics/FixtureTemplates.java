@@ -0,0 +1,179 @@
+package mm.service.physics;
+
+import mm.domain.config.BallConf;
+import mm.domain.config.BoxConf;
+import mm.domain.config.BucketConf;
+import mm.domain.config.GoalZoneConf;
+import mm.domain.config.ObjectConf;
+import mm.domain.config.ObjectKind;
+import mm.domain.config.RestrictionZoneConf;
+import org.jbox2d.collision.shapes.CircleShape;
+import org.jbox2d.collision.shapes.PolygonShape;
+import org.jbox2d.common.Vec2;
+import org.jbox2d.dynamics.FixtureDef;
+
+/**
+ * Vorberechnete Fixture-Definitionen pro Objektart.
+ * <p>
+ * Alle Konfigurationen einer Art haben dieselben Maße und Materialwerte, daher werden Shapes und
+ * {@link FixtureDef}s einmal beim Laden der Klasse aus {@link ObjectKind#getTemplate()} gebaut und für
+ * jeden Körper wiederverwendet. JBox2D kopiert die Shape beim Anlegen eines Fixtures, die Vorlagen
+ * werden also nie verändert und dürfen von mehreren Welten und Threads gleichzeitig benutzt werden.
+ * Nur Konfigurationen mit abweichenden Maßen bekommen eigene Definitionen.
+ * </p>
+ */
+final class FixtureTemplates {
+
+    /** Vorlagen, indiziert über {@link ObjectKind#getId()} */
+    private static final FixtureDef[][] TEMPLATES = new FixtureDef[ObjectKind.count()][];
+
+    static {
+        for (int id = 0; id < TEMPLATES.length; id++) {
+            TEMPLATES[id] = build(ObjectKind.byId(id).getTemplate());
+        }
+    }
+
+    private FixtureTemplates() {}
+
+    /**
+     * Gibt die Fixture-Definitionen für eine Konfiguration zurück. Die Ergebnisse dürfen nicht
+     * verändert werden.
+     * @param config Objekt-Konfiguration
+     * @return Fixture-Definitionen in Anlegereihenfolge
+     */
+    static FixtureDef[] forConfig(ObjectConf config) {
+        ObjectKind kind = config.kind();
+        if (kind != null && sameSize(kind.getTemplate(), config)) {
+            return TEMPLATES[kind.getId()];
+        }
+        return build(config);
+    }
+
+    /**
+     * Prüft, ob zwei Konfigurationen dieselben Maße und Materialwerte haben.
+     */
+    private static boolean sameSize(ObjectConf template, ObjectConf config) {
+        if (template.getClass() != config.getClass()) {
+            return false;
+        }
+        switch (config.kind().getShape()) {
+            case CIRCLE: {
+                BallConf a = (BallConf) template;
+                BallConf b = (BallConf) config;
+                return a.getRadius() == b.getRadius() && a.getDensity() == b.getDensity()
+                    && a.getFriction() == b.getFriction() && a.getRestitution() == b.getRestitution();
+            }
+            case BOX: {
+                BoxConf a = (BoxConf) template;
+                BoxConf b = (BoxConf) config;
+                return a.getWidth() == b.getWidth() && a.getHeight() == b.getHeight() && a.getDensity() == b.getDensity()
+                    && a.getFriction() == b.getFriction() && a.getRestitution() == b.getRestitution();
+            }
+            case BUCKET: {
+                BucketConf a = (BucketConf) template;
+                BucketConf b = (BucketConf) config;
+                return a.getWidth() == b.getWidth() && a.getHeight() == b.getHeight()
+                    && a.getThickness() == b.getThickness() && a.getWallAngle() == b.getWallAngle();
+            }
+            case GOALZONE: {
+                GoalZoneConf a = (GoalZoneConf) template;
+                GoalZoneConf b = (GoalZoneConf) config;
+                return a.getWidth() == b.getWidth() && a.getHeight() == b.getHeight();
+            }
+            default: {
+                RestrictionZoneConf a = (RestrictionZoneConf) template;
+                RestrictionZoneConf b = (RestrictionZoneConf) config;
+                return a.getWidth() == b.getWidth() && a.getHeight() == b.getHeight();
+            }
+        }
+    }
+
+    /**
+     * Baut die Fixture-Definitionen für eine Konfiguration.
+     */
+    private static FixtureDef[] build(ObjectConf config) {
+        switch (config.kind().getShape()) {
+            case CIRCLE:
+                return circle((BallConf) config);
+            case BOX:
+                return box((BoxConf) config);
+            case BUCKET:
+                return bucket((BucketConf) config);
+            case GOALZONE: {
+                GoalZoneConf zone = (GoalZoneConf) config;
+                return sensor(zone.getWidth(), zone.getHeight());
+            }
+            default: {
+                RestrictionZoneConf zone = (RestrictionZoneConf) config;
+                return sensor(zone.getWidth(), zone.getHeight());
+            }
+        }
+    }
+
+    private static FixtureDef[] circle(BallConf config) {
+        CircleShape circle = new CircleShape();
+        circle.m_radius = config.getRadius();
+
+        FixtureDef fixtureDef = new FixtureDef();
+        fixtureDef.shape = circle;
+        fixtureDef.density = config.getDensity();
+        fixtureDef.friction = config.getFriction();
+        fixtureDef.restitution = config.getRestitution();
+        return new FixtureDef[] { fixtureDef };
+    }
+
+    private static FixtureDef[] box(BoxConf config) {
+        PolygonShape box = new PolygonShape();
+        box.setAsBox(config.getWidth() / 2, config.getHeight() / 2);
+
+        FixtureDef fixtureDef = new FixtureDef();
+        fixtureDef.shape = box;
+        fixtureDef.density = config.getDensity();
+        fixtureDef.friction = config.getFriction();
+        fixtureDef.restitution = config.getRestitution();
+        return new FixtureDef[] { fixtureDef };
+    }
+
+    /**
+     * Boden und zwei schräge Wände des Eimers.
+     */
+    private static FixtureDef[] bucket(BucketConf config) {
+        float width = config.getWidth();
+        float height = config.getHeight();
+        float thickness = config.getThickness();
+        float wallAngle = config.getWallAngle();
+
+        PolygonShape bottom = new PolygonShape();
+        bottom.setAsBox(width / 2, thickness / 2, new Vec2(0, 0), 0);
+
+        PolygonShape leftWall = new PolygonShape();
+        leftWall.setAsBox(thickness / 2, height / 2, new Vec2(-width / 2 - thickness / 2, -height / 2), wallAngle);
+
+        PolygonShape rightWall = new PolygonShape();
+        rightWall.setAsBox(thickness / 2, height / 2, new Vec2(width / 2 + thickness / 2, -height / 2), -wallAngle);
+
+        return new FixtureDef[] { bucketPart(bottom), bucketPart(leftWall), bucketPart(rightWall) };
+    }
+
+    private static FixtureDef bucketPart(PolygonShape shape) {
+        FixtureDef fixtureDef = new FixtureDef();
+        fixtureDef.shape = shape;
+        fixtureDef.density = 1.0f;
+        fixtureDef.friction = 0.3f;
+        fixtureDef.restitution = 0.2f;
+        return fixtureDef;
+    }
+
+    /**
+     * Rechteckiger Sensor (Ziel- und Sperrzone).
+     */
+    private static FixtureDef[] sensor(float width, float height) {
+        PolygonShape zone = new PolygonShape();
+        zone.setAsBox(width / 2, height / 2);
+
+        FixtureDef fixtureDef = new FixtureDef();
+        fixtureDef.shape = zone;
+        fixtureDef.isSensor = true;
+        return new FixtureDef[] { fixtureDef };
+    }
+}
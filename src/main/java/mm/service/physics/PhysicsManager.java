@@ -4,13 +4,13 @@ import javafx.scene.canvas.Canvas;
 import javafx.scene.paint.Color;
 import mm.domain.editor.PlacedObject;
 import mm.domain.config.ObjectConf;
+import mm.domain.config.ObjectKind;
 import mm.domain.config.BallConf;
-import mm.domain.config.BalloonConf;
-import mm.domain.config.GameBallConf;
 import mm.domain.config.BoxConf;
 import mm.domain.config.BucketConf;
 import mm.domain.config.GoalZoneConf;
 import mm.domain.config.RestrictionZoneConf;
+import mm.service.profiling.PhysicsStepEvent;
 import mm.service.rendering.GameRenderer;
 import org.jbox2d.common.Vec2;
 import org.jbox2d.dynamics.*;
@@ -19,12 +19,14 @@ import org.jbox2d.collision.shapes.*;
 import org.jbox2d.callbacks.ContactListener;
 import org.jbox2d.callbacks.ContactImpulse;
 import org.jbox2d.collision.Manifold;
+import org.jbox2d.pooling.IWorldPool;
 import javafx.application.Platform;
 
 import java.util.List;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Verwaltet die Physiksimulation mit JBox2D für das Spiel.
@@ -39,22 +41,72 @@ public class PhysicsManager {
     private static final float TIME_STEP = 1.0f / 60.0f;
     private static final int VELOCITY_ITERATIONS = 6;
     private static final int POSITION_ITERATIONS = 2;
+    /** Lineare Geschwindigkeit (m/s), unter der ein Körper als ruhend gilt */
+    private static final float SETTLE_LINEAR_VELOCITY = 0.02f;
+    /** Winkelgeschwindigkeit (rad/s), unter der ein Körper als ruhend gilt */
+    private static final float SETTLE_ANGULAR_VELOCITY = 0.05f;
+    /** Anzahl aufeinanderfolgender Ruheschritte, bis die Welt als eingeschlafen gilt */
+    private static final int SETTLE_STEPS = 60;
+    /** Render-Farben, indiziert über {@link ObjectKind#getId()} */
+    private static final Color[] SKIN_COLORS = new Color[ObjectKind.count()];
+    
+    static {
+        for (int id = 0; id < SKIN_COLORS.length; id++) {
+            ObjectKind kind = ObjectKind.byId(id);
+            SKIN_COLORS[id] = Color.web(kind.getColor(), kind.getOpacity());
+        }
+    }
     
     private World world;
-    private Canvas gameCanvas;
-    private Map<Body, GameRenderer.RenderInfo> bodies = new HashMap<>();
+    /** Ausgeliehener JBox2D-Pool der Welt, null nach {@link #release()} */
+    private IWorldPool pool;
+    /** Breite der Welt in Pixeln */
+    private double worldWidth;
+    /** Höhe der Welt in Pixeln */
+    private double worldHeight;
+    /** Gibt an, ob Render-Infos (inkl. Skin-Bilder) für die Körper erzeugt werden */
+    private final boolean renderable;
+    /** Gerenderte Körper in Anlegereihenfolge (bestimmt die Zeichenreihenfolge) */
+    private Map<Body, GameRenderer.RenderInfo> bodies = new LinkedHashMap<>();
     private List<Body> goalZones = new ArrayList<>();
     private List<Body> restrictionZones = new ArrayList<>();
     
     private boolean gameWon = false;
     private Runnable onGameWon;
+    private int restingSteps = 0;
     
     /**
      * Erstellt einen neuen PhysicsManager für das angegebene Canvas.
      * @param gameCanvas Zeichenfläche für das Spiel
      */
     public PhysicsManager(Canvas gameCanvas) {
-        this.gameCanvas = gameCanvas;
+        this(gameCanvas.getWidth(), gameCanvas.getHeight(), true);
+    }
+
+    /**
+     * Erstellt einen neuen PhysicsManager ohne Zeichenfläche, z.B. für Simulationen ohne GUI.
+     * <p>
+     * Es werden keine Render-Infos erzeugt, {@link #getBodies()} bleibt also leer und es
+     * werden keine Skin-Bilder geladen. Das hält den Aufbau vieler Welten billig.
+     * </p>
+     * @param worldWidth Breite des Spielfelds in Pixeln
+     * @param worldHeight Höhe des Spielfelds in Pixeln
+     */
+    public PhysicsManager(double worldWidth, double worldHeight) {
+        this(worldWidth, worldHeight, false);
+    }
+
+    /**
+     * Erstellt einen neuen PhysicsManager ohne Zeichenfläche mit wählbarer Erzeugung der Render-Infos,
+     * z.B. um eine Simulation abseits des Bildschirms zu zeichnen.
+     * @param worldWidth Breite des Spielfelds in Pixeln
+     * @param worldHeight Höhe des Spielfelds in Pixeln
+     * @param renderable true, wenn Render-Infos (inkl. Skin-Bilder) erzeugt werden sollen
+     */
+    public PhysicsManager(double worldWidth, double worldHeight, boolean renderable) {
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.renderable = renderable;
         setupPhysicsWorld();
     }
     
@@ -91,15 +143,170 @@ public class PhysicsManager {
     }
     
     /**
-     * Führt einen Simulationsschritt aus.
+     * Gibt die Anzahl der Körper in der Welt zurück (inklusive Weltgrenzen).
+     * @return Anzahl der Körper
+     */
+    public int getBodyCount() {
+        return world.getBodyCount();
+    }
+
+    /**
+     * Gibt die Anzahl der aktuellen Kontakte in der Welt zurück.
+     * @return Anzahl der Kontakte
+     */
+    public int getContactCount() {
+        return world.getContactCount();
+    }
+
+    /**
+     * Setzt die Weltgröße, z.B. für Level, die größer als das Spielfeld sind.
+     * Muss vor {@link #createWorldBounds()} aufgerufen werden.
+     * @param worldWidth Breite der Welt in Pixeln
+     * @param worldHeight Höhe der Welt in Pixeln
+     */
+    public void setWorldSize(double worldWidth, double worldHeight) {
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+    }
+
+    /**
+     * @return Breite der Welt in Pixeln
+     */
+    public double getWorldWidth() {
+        return worldWidth;
+    }
+
+    /**
+     * @return Höhe der Welt in Pixeln
+     */
+    public double getWorldHeight() {
+        return worldHeight;
+    }
+
+    /**
+     * Sucht den Körper des Gameballs.
+     * @return Gameball oder null, wenn das Level keinen enthält
+     */
+    public Body findGameBall() {
+        for (Body body = world.getBodyList(); body != null; body = body.getNext()) {
+            if (isGameBall(body)) {
+                return body;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Zählt die dynamischen Körper, die gerade nicht schlafen.
+     * @return Anzahl der wachen Körper
+     */
+    public int getAwakeBodyCount() {
+        int awake = 0;
+        for (Body body = world.getBodyList(); body != null; body = body.getNext()) {
+            if (body.getType() == BodyType.DYNAMIC && body.isAwake()) {
+                awake++;
+            }
+        }
+        return awake;
+    }
+
+    /**
+     * Gibt zurück, ob die Simulation zur Ruhe gekommen ist.
+     * <p>
+     * Das ist der Fall, wenn seit {@value #SETTLE_STEPS} Schritten alle dynamischen Körper
+     * schlafen oder unter den Geschwindigkeitsschwellen liegen. Ballons gelten als aktive
+     * Kraftfelder und zählen nur als ruhend, wenn sie sich trotz Auftrieb nicht mehr bewegen.
+     * Eine eingeschlafene Welt ändert sich ohne Eingriff nicht mehr, der Lauf kann also
+     * vorzeitig als verloren gewertet werden.
+     * </p>
+     * @return true, wenn die Welt eingeschlafen ist
+     */
+    public boolean isSettled() {
+        return restingSteps >= SETTLE_STEPS;
+    }
+
+    /**
+     * @return Anzahl aufeinanderfolgender Schritte, in denen alle dynamischen Körper ruhten
+     */
+    public int getRestingSteps() {
+        return restingSteps;
+    }
+
+    /**
+     * Setzt die Ruheerkennung, wenn eine Simulation aus einem festgehaltenen Zustand fortgesetzt wird.
+     * @param restingSteps Anzahl aufeinanderfolgender Ruheschritte bis zu diesem Zustand
+     */
+    public void setRestingSteps(int restingSteps) {
+        this.restingSteps = restingSteps;
+    }
+    
+    /**
+     * Führt einen Simulationsschritt aus und aktualisiert die Ruheerkennung.
      */
     public void step() {
+        PhysicsStepEvent event = new PhysicsStepEvent();
+        event.begin();
         world.step(TIME_STEP, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
+        if (event.shouldCommit()) {
+            event.bodyCount = world.getBodyCount();
+            event.contactCount = world.getContactCount();
+            event.commit();
+        }
+        
+        if (isAtRest()) {
+            restingSteps++;
+        } else {
+            restingSteps = 0;
+        }
+    }
+    
+    /**
+     * Prüft, ob sich im aktuellen Schritt kein dynamischer Körper mehr bewegt.
+     * @return true, wenn alle dynamischen Körper ruhen
+     */
+    private boolean isAtRest() {
+        for (Body body = world.getBodyList(); body != null; body = body.getNext()) {
+            if (body.getType() != BodyType.DYNAMIC) {
+                continue;
+            }
+            boolean forceField = "balloon".equals(body.getUserData());
+            if (!forceField && !body.isAwake()) {
+                continue;
+            }
+            if (body.getLinearVelocity().lengthSquared() > SETTLE_LINEAR_VELOCITY * SETTLE_LINEAR_VELOCITY
+                    || Math.abs(body.getAngularVelocity()) > SETTLE_ANGULAR_VELOCITY) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Entfernt alle Körper und gibt den JBox2D-Pool der Welt an den {@link WorldPool} zurück.
+     * Die Kontakte der Welt landen dabei im Pool und stehen der nächsten Welt zur Verfügung.
+     * Danach darf der PhysicsManager nicht mehr simuliert werden; mehrfacher Aufruf ist erlaubt.
+     */
+    public void release() {
+        if (pool == null) {
+            return;
+        }
+        Body body = world.getBodyList();
+        while (body != null) {
+            Body next = body.getNext();
+            world.destroyBody(body);
+            body = next;
+        }
+        bodies.clear();
+        goalZones.clear();
+        restrictionZones.clear();
+        WorldPool.release(pool);
+        pool = null;
     }
     
     private void setupPhysicsWorld() {
         Vec2 gravity = new Vec2(0.0f, 9.8f);
-        world = new World(gravity);
+        pool = WorldPool.acquire();
+        world = new World(gravity, pool);
         
         world.setContactListener(new ContactListener() {
             @Override
@@ -119,7 +326,15 @@ public class PhysicsManager {
      * @param fromLevel true, wenn aus Level geladen
      */
     public void addObjectToWorld(PlacedObject placedObject, boolean fromLevel) {
-        ObjectConf config = placedObject.toConfig();
+        addObjectToWorld(placedObject.toConfig());
+    }
+
+    /**
+     * Fügt ein Objekt anhand seiner Konfiguration der Physikwelt hinzu.
+     * @param config Objekt-Konfiguration
+     * @return Der erzeugte Körper
+     */
+    public Body addObjectToWorld(ObjectConf config) {
         Body body = null;
         
         float x = config.getX();
@@ -134,158 +349,68 @@ public class PhysicsManager {
         
         body = world.createBody(bodyDef);
         
-        if (config instanceof BallConf) {
-            BallConf ballConf = (BallConf) config;
-            createCircleFixture(body, ballConf);
-            
-            if (ballConf instanceof BalloonConf) {
-                body.setUserData("balloon");
-            } else if (ballConf instanceof GameBallConf) {
-                body.setUserData("gameball");
-            }
-            
-            bodies.put(body, new GameRenderer.RenderInfo(GameRenderer.RenderType.CIRCLE, ballConf.getRadius(), 0, 0, getColorForSkin(ballConf.getSkinId()), ballConf.getSkinId()));
-            
-        } else if (config instanceof BoxConf) {
-            BoxConf boxConf = (BoxConf) config;
-            createBoxFixture(body, boxConf);
-            
-            bodies.put(body, new GameRenderer.RenderInfo(GameRenderer.RenderType.BOX, boxConf.getWidth(), boxConf.getHeight(), 0, getColorForSkin(boxConf.getSkinId()), boxConf.getSkinId()));
-            
-        } else if (config instanceof BucketConf) {
-            BucketConf bucketConf = (BucketConf) config;
-            createBucketFixture(body, bucketConf);
-            
-            bodies.put(body, new GameRenderer.RenderInfo(GameRenderer.RenderType.BUCKET, bucketConf.getWidth(), bucketConf.getHeight(), bucketConf.getThickness(), getColorForSkin(bucketConf.getSkinId()), bucketConf.getSkinId()));
-            
-        } else if (config instanceof GoalZoneConf) {
-            GoalZoneConf goalConf = (GoalZoneConf) config;
-            createGoalZoneFixture(body, goalConf);
-            
-            body.setUserData("goalzone");
-            goalZones.add(body);
-            
-            bodies.put(body, new GameRenderer.RenderInfo(GameRenderer.RenderType.GOALZONE, goalConf.getWidth(), goalConf.getHeight(), 0, getColorForSkin(goalConf.getSkinId()), goalConf.getSkinId()));
-        } else if (config instanceof RestrictionZoneConf) {
-            RestrictionZoneConf restrictionConf = (RestrictionZoneConf) config;
-            createRestrictionZoneFixture(body, restrictionConf);
-            
-            body.setUserData("restrictionzone");
-            restrictionZones.add(body);
-            
-            bodies.put(body, new GameRenderer.RenderInfo(GameRenderer.RenderType.RESTRICTIONZONE, restrictionConf.getWidth(), restrictionConf.getHeight(), 0, getColorForSkin(restrictionConf.getSkinId()), restrictionConf.getSkinId()));
+        ObjectKind kind = config.kind();
+        if (kind == null) {
+            return body;
+        }
+        Color color = SKIN_COLORS[kind.getId()];
+        String skinId = kind.getKey();
+        if (kind.isTagged()) {
+            body.setUserData(skinId);
+        }
+        for (FixtureDef fixtureDef : FixtureTemplates.forConfig(config)) {
+            body.createFixture(fixtureDef);
         }
-    }
-    
-    /**
-     * Erstellt ein Kreis-Fixture für einen Ball.
-     * @param body Zielkörper
-     * @param config Ball-Konfiguration
-     */
-    private void createCircleFixture(Body body, BallConf config) {
-        CircleShape circle = new CircleShape();
-        circle.m_radius = config.getRadius();
-        
-        FixtureDef fixtureDef = new FixtureDef();
-        fixtureDef.shape = circle;
-        fixtureDef.density = config.getDensity();
-        fixtureDef.friction = config.getFriction();
-        fixtureDef.restitution = config.getRestitution();
-        
-        body.createFixture(fixtureDef);
-    }
-    
-    /**
-     * Erstellt ein Rechteck-Fixture für eine Box.
-     * @param body Zielkörper
-     * @param config Box-Konfiguration
-     */
-    private void createBoxFixture(Body body, BoxConf config) {
-        PolygonShape box = new PolygonShape();
-        box.setAsBox(config.getWidth() / 2, config.getHeight() / 2);
-        
-        FixtureDef fixtureDef = new FixtureDef();
-        fixtureDef.shape = box;
-        fixtureDef.density = config.getDensity();
-        fixtureDef.friction = config.getFriction();
-        fixtureDef.restitution = config.getRestitution();
-        
-        body.createFixture(fixtureDef);
-    }
-    
-    /**
-     * Erstellt ein Bucket-Fixture (Boden und Wände).
-     * @param body Zielkörper
-     * @param config Bucket-Konfiguration
-     */
-    private void createBucketFixture(Body body, BucketConf config) {
-        float width = config.getWidth();
-        float height = config.getHeight();
-        float thickness = config.getThickness();
-        float wallAngle = config.getWallAngle();
-        
-        PolygonShape bottom = new PolygonShape();
-        bottom.setAsBox(width / 2, thickness / 2, new Vec2(0, 0), 0);
-        
-        PolygonShape leftWall = new PolygonShape();
-        leftWall.setAsBox(thickness / 2, height / 2, new Vec2(-width / 2 - thickness / 2, -height / 2), wallAngle);
-        
-        PolygonShape rightWall = new PolygonShape();
-        rightWall.setAsBox(thickness / 2, height / 2, new Vec2(width / 2 + thickness / 2, -height / 2), -wallAngle);
-        
-        FixtureDef fixtureDef = new FixtureDef();
-        fixtureDef.density = 1.0f;
-        fixtureDef.friction = 0.3f;
-        fixtureDef.restitution = 0.2f;
-        
-        fixtureDef.shape = bottom;
-        body.createFixture(fixtureDef);
-        
-        fixtureDef.shape = leftWall;
-        body.createFixture(fixtureDef);
-        
-        fixtureDef.shape = rightWall;
-        body.createFixture(fixtureDef);
-    }
-    
-    /**
-     * Erstellt ein Fixture für die Zielzone.
-     * @param body Zielkörper
-     * @param config Zielzonen-Konfiguration
-     */
-    private void createGoalZoneFixture(Body body, GoalZoneConf config) {
-        PolygonShape goalZone = new PolygonShape();
-        goalZone.setAsBox(config.getWidth() / 2, config.getHeight() / 2);
-        
-        FixtureDef fixtureDef = new FixtureDef();
-        fixtureDef.shape = goalZone;
-        fixtureDef.isSensor = true;
         
-        body.createFixture(fixtureDef);
+        switch (kind.getShape()) {
+            case CIRCLE: {
+                BallConf ballConf = (BallConf) config;
+                trackBody(body, () -> new GameRenderer.RenderInfo(GameRenderer.RenderType.CIRCLE, ballConf.getRadius(), 0, 0, color, skinId));
+                break;
+            }
+            case BOX: {
+                BoxConf boxConf = (BoxConf) config;
+                trackBody(body, () -> new GameRenderer.RenderInfo(GameRenderer.RenderType.BOX, boxConf.getWidth(), boxConf.getHeight(), 0, color, skinId));
+                break;
+            }
+            case BUCKET: {
+                BucketConf bucketConf = (BucketConf) config;
+                trackBody(body, () -> new GameRenderer.RenderInfo(GameRenderer.RenderType.BUCKET, bucketConf.getWidth(), bucketConf.getHeight(), bucketConf.getThickness(), color, skinId));
+                break;
+            }
+            case GOALZONE: {
+                GoalZoneConf goalConf = (GoalZoneConf) config;
+                goalZones.add(body);
+                trackBody(body, () -> new GameRenderer.RenderInfo(GameRenderer.RenderType.GOALZONE, goalConf.getWidth(), goalConf.getHeight(), 0, color, skinId));
+                break;
+            }
+            case RESTRICTIONZONE: {
+                RestrictionZoneConf restrictionConf = (RestrictionZoneConf) config;
+                restrictionZones.add(body);
+                trackBody(body, () -> new GameRenderer.RenderInfo(GameRenderer.RenderType.RESTRICTIONZONE, restrictionConf.getWidth(), restrictionConf.getHeight(), 0, color, skinId));
+                break;
+            }
+        }
+        return body;
     }
     
     /**
-     * Erstellt ein Fixture für die Restriktionszone.
-     * @param body Zielkörper
-     * @param config Restriktionszonen-Konfiguration
+     * Merkt sich die Render-Info eines Körpers, sofern gerendert wird.
+     * @param body Körper
+     * @param renderInfo Erzeugt die Render-Info bei Bedarf
      */
-    private void createRestrictionZoneFixture(Body body, RestrictionZoneConf config) {
-        PolygonShape restrictionZone = new PolygonShape();
-        restrictionZone.setAsBox(config.getWidth() / 2, config.getHeight() / 2);
-        
-        FixtureDef fixtureDef = new FixtureDef();
-        fixtureDef.shape = restrictionZone;
-        fixtureDef.isSensor = true;
-        
-        body.createFixture(fixtureDef);
+    private void trackBody(Body body, Supplier<GameRenderer.RenderInfo> renderInfo) {
+        if (renderable) {
+            bodies.put(body, renderInfo.get());
+        }
     }
-    
+
     /**
      * Erstellt die Begrenzungswände der Welt.
      */
     public void createWorldBounds() {
-        float canvasWidth = (float)(gameCanvas.getWidth() / SCALE);
-        float canvasHeight = (float)(gameCanvas.getHeight() / SCALE);
+        float canvasWidth = (float)(worldWidth / SCALE);
+        float canvasHeight = (float)(worldHeight / SCALE);
         
         createWall(canvasWidth / 2, -0.1f, canvasWidth, 0.2f, false);
         createWall(canvasWidth / 2, canvasHeight + 0.1f, canvasWidth, 0.2f, true);
@@ -373,8 +498,7 @@ public class PhysicsManager {
      * Wendet Auftrieb und Luftwiderstand auf Ballons an.
      */
     public void applyBalloonBuoyancy() {
-        for (Map.Entry<Body, GameRenderer.RenderInfo> entry : bodies.entrySet()) {
-            Body body = entry.getKey();
+        for (Body body = world.getBodyList(); body != null; body = body.getNext()) {
             Object userData = body.getUserData();
             
             if ("balloon".equals(userData)) {
@@ -399,27 +523,4 @@ public class PhysicsManager {
             }
         }
     }
-    
-    /**
-     * Gibt die Farbe für einen Skin zurück.
-     * @param skinId Skin-ID
-     * @return JavaFX-Farbe
-     */
-    private Color getColorForSkin(String skinId) {
-        switch (skinId) {
-            case "tennisball": return Color.LIME;
-            case "bowlingball": return Color.web("#2C3E50");
-            case "billiardball": return Color.web("#ECF0F1");
-            case "balloon": return Color.web("#E91E63");
-            case "log": return Color.web("#8B4513");
-            case "plank": return Color.web("#D2691E");
-            case "domino": return Color.web("#95A5A6");
-            case "cratebox": return Color.web("#FF6347");
-            case "bucket": return Color.web("#3498DB");
-            case "gameball": return Color.ORANGE;
-            case "goalzone": return Color.LIGHTGREEN.deriveColor(0, 1, 1, 0.7);
-            case "restrictionzone": return Color.RED.deriveColor(0, 1, 1, 0.7);
-            default: return Color.web("#7F8C8D");
-        }
-    }
 } 
\ No newline at end of file
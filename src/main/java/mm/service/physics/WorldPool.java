@@ -0,0 +1,66 @@
+package mm.service.physics;
+
+import org.jbox2d.pooling.IWorldPool;
+import org.jbox2d.pooling.normal.DefaultWorldPool;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Hält die internen Objekt-Pools von JBox2D ({@link IWorldPool}) zwischen Welten warm.
+ * <p>
+ * Jede neue {@code World} legt sonst einen eigenen Pool mit Kontakten, Vektoren und
+ * Kollisions-Hilfsobjekten an, der nach dem Lauf weggeworfen wird. Ein {@link PhysicsManager} leiht
+ * sich stattdessen einen Pool und gibt ihn mit {@link PhysicsManager#release()} zurück; die nächste
+ * Welt (z.B. der nächste Spielstart oder die nächste Stichprobe einer Batch-Simulation) übernimmt
+ * ihn samt der zurückgegebenen Kontakte.
+ * </p>
+ * <p>
+ * Die Welt selbst wird bewusst nicht wiederverwendet: Proxy-IDs der Broadphase und die Reihenfolge
+ * der Körper bestimmen die Reihenfolge der Kontakte, eine zurückgesetzte Welt würde also andere,
+ * nicht mehr bitgenau reproduzierbare Läufe liefern. Pool-Objekte werden dagegen vor jeder
+ * Verwendung vollständig neu initialisiert.
+ * </p>
+ * <p>
+ * Ein Pool gehört immer genau einer Welt; die Verwaltung ist threadsicher.
+ * </p>
+ */
+public final class WorldPool {
+
+    /** Höchstzahl ruhender Pools (genug für eine Welt pro Prozessor) */
+    public static final int MAX_IDLE = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    /** Größe der Stapel für Vektoren, Matrizen usw. (wie im Standard-Konstruktor von World) */
+    private static final int POOL_SIZE = 100;
+    /** Größe der Container für Polygon-Hilfsarrays (wie im Standard-Konstruktor von World) */
+    private static final int CONTAINER_SIZE = 10;
+
+    private static final ConcurrentLinkedDeque<IWorldPool> IDLE = new ConcurrentLinkedDeque<>();
+
+    private WorldPool() {}
+
+    /**
+     * Leiht einen Pool aus, bevorzugt einen bereits benutzten.
+     * @return Pool für genau eine Welt
+     */
+    static IWorldPool acquire() {
+        IWorldPool pool = IDLE.pollFirst();
+        return pool != null ? pool : new DefaultWorldPool(POOL_SIZE, CONTAINER_SIZE);
+    }
+
+    /**
+     * Gibt einen Pool zurück. Die Welt, die ihn benutzt hat, darf danach nicht mehr verwendet werden.
+     * @param pool Ausgeliehener Pool
+     */
+    static void release(IWorldPool pool) {
+        if (IDLE.size() < MAX_IDLE) {
+            IDLE.offerFirst(pool);
+        }
+    }
+
+    /**
+     * @return Anzahl ruhender Pools
+     */
+    public static int idleCount() {
+        return IDLE.size();
+    }
+}
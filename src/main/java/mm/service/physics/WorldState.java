@@ -0,0 +1,84 @@
+package mm.service.physics;
+
+import org.jbox2d.common.Vec2;
+import org.jbox2d.dynamics.Body;
+
+import java.util.List;
+
+/**
+ * Unveränderlicher Zustand einer Liste von Körpern zu einem Zeitpunkt.
+ * <p>
+ * JBox2D kann Welten nicht klonen. Stattdessen wird die Welt aus denselben Konfigurationen neu
+ * aufgebaut und der Zustand (Position, Winkel, Geschwindigkeiten, Schlafzustand) auf die Körper
+ * in derselben Reihenfolge übertragen. Kontakt-Caches (Warmstart-Impulse) gehen dabei verloren;
+ * ein fortgesetzter Lauf ist deshalb reproduzierbar, aber nicht bitgenau gleich einem Lauf ohne
+ * Unterbrechung.
+ * </p>
+ */
+public final class WorldState {
+
+    /** Werte pro Körper: x, y, Winkel, vx, vy, Winkelgeschwindigkeit, Schlafzeit */
+    private static final int STRIDE = 7;
+
+    private final float[] values;
+    private final boolean[] awake;
+
+    private WorldState(float[] values, boolean[] awake) {
+        this.values = values;
+        this.awake = awake;
+    }
+
+    /**
+     * Hält den aktuellen Zustand der Körper fest.
+     * @param bodies Körper in fester Reihenfolge
+     * @return Zustand
+     */
+    public static WorldState capture(List<Body> bodies) {
+        float[] values = new float[bodies.size() * STRIDE];
+        boolean[] awake = new boolean[bodies.size()];
+        for (int i = 0; i < bodies.size(); i++) {
+            Body body = bodies.get(i);
+            int o = i * STRIDE;
+            values[o] = body.getPosition().x;
+            values[o + 1] = body.getPosition().y;
+            values[o + 2] = body.getAngle();
+            values[o + 3] = body.getLinearVelocity().x;
+            values[o + 4] = body.getLinearVelocity().y;
+            values[o + 5] = body.getAngularVelocity();
+            values[o + 6] = body.m_sleepTime;
+            awake[i] = body.isAwake();
+        }
+        return new WorldState(values, awake);
+    }
+
+    /**
+     * Überträgt den Zustand auf Körper, die aus denselben Konfigurationen erzeugt wurden.
+     * @param bodies Körper in derselben Reihenfolge wie beim Festhalten
+     * @throws IllegalArgumentException bei abweichender Anzahl
+     */
+    public void restore(List<Body> bodies) {
+        if (bodies.size() != size()) {
+            throw new IllegalArgumentException("Erwartet " + size() + " Körper, erhalten " + bodies.size());
+        }
+        for (int i = 0; i < bodies.size(); i++) {
+            Body body = bodies.get(i);
+            int o = i * STRIDE;
+            body.setTransform(new Vec2(values[o], values[o + 1]), values[o + 2]);
+            if (awake[i]) {
+                body.setAwake(true);
+                body.setLinearVelocity(new Vec2(values[o + 3], values[o + 4]));
+                body.setAngularVelocity(values[o + 5]);
+                body.m_sleepTime = values[o + 6];
+            } else {
+                body.setAwake(false);
+            }
+        }
+    }
+
+    /**
+     * @return Anzahl der erfassten Körper
+     */
+    public int size() {
+        return awake.length;
+    }
+}
@@ -0,0 +1,22 @@
+package mm.service.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR-Ereignis für eine Überlappungsprüfung im Editor.
+ */
+@Name("mm.CollisionCheck")
+@Label("Kollisionsprüfung")
+@Category({"Mad Machines", "Editor"})
+@Description("Ein Aufruf von CollisionManager.overlapsExisting()")
+public class CollisionCheckEvent extends jdk.jfr.Event {
+    /** Anzahl der geprüften Objekte */
+    @Label("Objekte")
+    public int objectCount;
+    /** Ergebnis der Prüfung */
+    @Label("Überlappung")
+    public boolean overlaps;
+}
@@ -0,0 +1,67 @@
+package mm.service.profiling;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+
+/**
+ * Startet bei Bedarf eine JDK-Flight-Recorder-Aufzeichnung für die laufende Sitzung.
+ * <p>
+ * Die Aufzeichnung wird über die System-Property {@value #PROPERTY} aktiviert, z.B.
+ * {@code -Dmm.jfr=sitzung.jfr}. Der Wert ist der Zielpfad; {@code true} schreibt nach
+ * {@value #DEFAULT_FILE}. Die Datei wird beim Beenden der JVM geschrieben und kann in
+ * JDK Mission Control geöffnet werden. Ohne aktive Aufzeichnung kosten die Ereignisse
+ * des Spiels praktisch nichts.
+ * </p>
+ */
+public final class FlightRecording {
+
+    /** System-Property, die die Aufzeichnung aktiviert */
+    public static final String PROPERTY = "mm.jfr";
+    /** Standard-Zieldatei, wenn die Property nur auf {@code true} gesetzt ist */
+    public static final String DEFAULT_FILE = "madmachines.jfr";
+
+    private static Recording recording;
+
+    /**
+     * Privater Konstruktor, um Instanziierung zu verhindern.
+     */
+    private FlightRecording() {}
+
+    /**
+     * Startet die Aufzeichnung, falls die System-Property gesetzt ist.
+     * @return true, wenn eine Aufzeichnung läuft
+     */
+    public static synchronized boolean startIfRequested() {
+        if (recording != null) {
+            return true;
+        }
+        String value = System.getProperty(PROPERTY);
+        if (value == null || value.isBlank() || "false".equalsIgnoreCase(value)) {
+            return false;
+        }
+        Path target = Paths.get("true".equalsIgnoreCase(value) ? DEFAULT_FILE : value);
+        try {
+            Recording r = new Recording(Configuration.getConfiguration("profile"));
+            r.enable(PhysicsStepEvent.class);
+            r.enable(RenderEvent.class);
+            r.enable(CollisionCheckEvent.class);
+            r.enable(SceneLoadEvent.class);
+            r.enable("mm.LevelIo");
+            r.enable("mm.LevelValidation");
+            r.setDestination(target);
+            r.setDumpOnExit(true);
+            r.start();
+            recording = r;
+            System.out.println("JFR-Aufzeichnung gestartet: " + target.toAbsolutePath());
+            return true;
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            System.err.println("JFR-Aufzeichnung konnte nicht gestartet werden: " + e.getMessage());
+            return false;
+        }
+    }
+}
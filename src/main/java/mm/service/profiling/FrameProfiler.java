@@ -0,0 +1,140 @@
+package mm.service.profiling;
+
+import java.util.Arrays;
+
+/**
+ * Misst die Dauer der einzelnen Frames und ihrer Phasen (Physik, Rendern).
+ * <p>
+ * Die Messwerte werden mit {@link System#nanoTime()} erfasst und in Ringpuffern fester
+ * Größe abgelegt, sodass die Messung selbst keine Objekte erzeugt. Perzentile werden über
+ * das rollende Fenster der letzten {@link #WINDOW_SIZE} Frames berechnet.
+ * </p>
+ */
+public class FrameProfiler {
+
+    /** Anzahl der Frames im rollenden Fenster */
+    public static final int WINDOW_SIZE = 240;
+
+    private final long[] frameTimes = new long[WINDOW_SIZE];
+    private final long[] physicsTimes = new long[WINDOW_SIZE];
+    private final long[] renderTimes = new long[WINDOW_SIZE];
+    /** Arbeitskopie für die Perzentilberechnung */
+    private final long[] sorted = new long[WINDOW_SIZE];
+
+    private int index = 0;
+    private int count = 0;
+    private long lastFrameStart = 0;
+    private long phaseStart = 0;
+
+    /**
+     * Markiert den Beginn eines neuen Frames und legt die Dauer des vorherigen ab.
+     * @param now Zeitstempel in Nanosekunden
+     */
+    public void beginFrame(long now) {
+        if (lastFrameStart != 0) {
+            index = (index + 1) % WINDOW_SIZE;
+            frameTimes[index] = now - lastFrameStart;
+            physicsTimes[index] = 0;
+            renderTimes[index] = 0;
+            if (count < WINDOW_SIZE) {
+                count++;
+            }
+        }
+        lastFrameStart = now;
+    }
+
+    /**
+     * Startet die Zeitmessung einer Phase.
+     */
+    public void beginPhase() {
+        phaseStart = System.nanoTime();
+    }
+
+    /**
+     * Beendet die Physik-Phase des aktuellen Frames.
+     */
+    public void endPhysics() {
+        physicsTimes[index] += System.nanoTime() - phaseStart;
+    }
+
+    /**
+     * Beendet die Render-Phase des aktuellen Frames.
+     */
+    public void endRender() {
+        renderTimes[index] += System.nanoTime() - phaseStart;
+    }
+
+    /**
+     * Verwirft alle bisherigen Messwerte.
+     */
+    public void reset() {
+        Arrays.fill(frameTimes, 0);
+        Arrays.fill(physicsTimes, 0);
+        Arrays.fill(renderTimes, 0);
+        index = 0;
+        count = 0;
+        lastFrameStart = 0;
+    }
+
+    /**
+     * Gibt die Anzahl der Frames im Fenster zurück.
+     * @return Anzahl der gemessenen Frames
+     */
+    public int getSampleCount() {
+        return count;
+    }
+
+    /**
+     * Berechnet die Bildrate über das Fenster.
+     * @return Frames pro Sekunde oder 0 ohne Messwerte
+     */
+    public double getFps() {
+        long total = sum(frameTimes);
+        return total == 0 ? 0 : count * 1e9 / total;
+    }
+
+    /**
+     * Berechnet ein Perzentil der Frame-Dauer (Nearest-Rank).
+     * @param percentile Perzentil zwischen 0 und 100
+     * @return Frame-Dauer in Millisekunden
+     */
+    public double getFrameTimePercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        System.arraycopy(frameTimes, 0, sorted, 0, WINDOW_SIZE);
+        // Ungenutzte Plätze enthalten 0 und landen beim Sortieren vorne.
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        rank = Math.max(1, Math.min(count, rank));
+        return sorted[WINDOW_SIZE - count + rank - 1] / 1e6;
+    }
+
+    /**
+     * Gibt die durchschnittliche Physik-Dauer pro Frame zurück.
+     * @return Dauer in Millisekunden
+     */
+    public double getAveragePhysicsTime() {
+        return average(physicsTimes);
+    }
+
+    /**
+     * Gibt die durchschnittliche Render-Dauer pro Frame zurück.
+     * @return Dauer in Millisekunden
+     */
+    public double getAverageRenderTime() {
+        return average(renderTimes);
+    }
+
+    private double average(long[] values) {
+        return count == 0 ? 0 : sum(values) / 1e6 / count;
+    }
+
+    private long sum(long[] values) {
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            total += values[(index - i + WINDOW_SIZE) % WINDOW_SIZE];
+        }
+        return total;
+    }
+}
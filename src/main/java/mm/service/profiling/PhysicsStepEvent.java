@@ -0,0 +1,22 @@
+package mm.service.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR-Ereignis für einen einzelnen Physikschritt.
+ */
+@Name("mm.PhysicsStep")
+@Label("Physikschritt")
+@Category({"Mad Machines", "Physik"})
+@Description("Ein Aufruf von PhysicsManager.step()")
+public class PhysicsStepEvent extends jdk.jfr.Event {
+    /** Anzahl der Körper in der Welt */
+    @Label("Körper")
+    public int bodyCount;
+    /** Anzahl der Kontakte in der Welt */
+    @Label("Kontakte")
+    public int contactCount;
+}
@@ -0,0 +1,19 @@
+package mm.service.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR-Ereignis für das Zeichnen eines Frames.
+ */
+@Name("mm.Render")
+@Label("Rendern")
+@Category({"Mad Machines", "Rendering"})
+@Description("Ein Aufruf von GameRenderer.render()")
+public class RenderEvent extends jdk.jfr.Event {
+    /** Anzahl der gezeichneten Objekte */
+    @Label("Objekte")
+    public int objectCount;
+}
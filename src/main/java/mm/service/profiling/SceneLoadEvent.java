@@ -0,0 +1,22 @@
+package mm.service.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR-Ereignis für das Laden einer FXML-Ansicht.
+ */
+@Name("mm.SceneLoad")
+@Label("Ansicht laden")
+@Category({"Mad Machines", "GUI"})
+@Description("Ein Aufruf von ViewManager.loadScene()")
+public class SceneLoadEvent extends jdk.jfr.Event {
+    /** Pfad der FXML-Datei */
+    @Label("FXML")
+    public String fxmlPath;
+    /** Gibt an, ob die Ansicht erfolgreich geladen wurde */
+    @Label("Erfolgreich")
+    public boolean success;
+}
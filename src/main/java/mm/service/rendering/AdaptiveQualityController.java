@@ -0,0 +1,119 @@
+package mm.service.rendering;
+
+/**
+ * Passt die {@link RenderQuality} an die gemessenen Frame-Zeiten an.
+ * <p>
+ * Ausgewertet wird in Fenstern von {@value #WINDOW_FRAMES} Frames. Verpasst mehr als ein
+ * Fünftel der Frames seinen Sollzeitpunkt oder liegt die mittlere Arbeitszeit (Physik und
+ * Zeichnen) über {@value #DOWNGRADE_LOAD} des Budgets, wird eine Stufe heruntergeschaltet.
+ * Frames können nur auf Pulsen des Bildschirms liegen; Budget und Sollabstand werden deshalb
+ * auf den kürzesten beobachteten Pulsabstand gerundet. Eine Ziel-Bildrate über der
+ * Bildwiederholrate oder die Rasterung bei z.B. 50 FPS auf 60 Hz zählt so nicht als Überlast.
+ * Hochgeschaltet wird erst, wenn die Arbeitszeit in {@value #UPGRADE_WINDOWS} aufeinanderfolgenden
+ * Fenstern unter {@value #UPGRADE_LOAD} des Budgets bleibt. Der Abstand zwischen beiden Schwellen
+ * verhindert ständiges Hin- und Herschalten.
+ * </p>
+ */
+public class AdaptiveQualityController {
+
+    /** Frames pro Auswertungsfenster (eine halbe Sekunde bei 60 FPS) */
+    public static final int WINDOW_FRAMES = 30;
+    /** Anteil des Budgets, ab dem heruntergeschaltet wird */
+    public static final double DOWNGRADE_LOAD = 0.9;
+    /** Anteil des Budgets, unter dem hochgeschaltet werden darf */
+    public static final double UPGRADE_LOAD = 0.5;
+    /** Aufeinanderfolgende Fenster mit Reserve, bevor hochgeschaltet wird */
+    public static final int UPGRADE_WINDOWS = 4;
+    /** Ein Frame gilt als verspätet, wenn sein Abstand den Sollabstand um einen halben Puls überschreitet */
+    private static final double LATE_FACTOR = 0.5;
+    /** Spielraum beim Runden des Budgets auf ganze Pulse, damit Messrauschen keinen Puls dazuzählt */
+    private static final double PULSE_SLACK = 0.05;
+    /** Anteil verspäteter Frames im Fenster, ab dem heruntergeschaltet wird */
+    private static final double LATE_SHARE = 0.2;
+
+    private RenderQuality quality;
+    private int frames = 0;
+    private final long[] frameGaps = new long[WINDOW_FRAMES];
+    private long workSum = 0;
+    /** Kürzester Pulsabstand im aktuellen Fenster, 0 = unbekannt */
+    private long minPulse = 0;
+    private int headroomWindows = 0;
+
+    /**
+     * Erstellt einen Controller, der mit voller Qualität beginnt.
+     */
+    public AdaptiveQualityController() {
+        this(RenderQuality.FULL);
+    }
+
+    /**
+     * @param initial Anfangsstufe
+     */
+    public AdaptiveQualityController(RenderQuality initial) {
+        this.quality = initial;
+    }
+
+    /**
+     * Erfasst einen Frame ohne bekannten Pulsabstand; Pulse werden als so schnell wie das Budget angenommen.
+     * @param frameNanos Abstand zum vorherigen Frame in Nanosekunden
+     * @param workNanos Arbeitszeit des Frames (Physik und Zeichnen) in Nanosekunden
+     * @param budgetNanos Sollabstand der Frames in Nanosekunden
+     * @return Aktuelle Qualitätsstufe
+     */
+    public RenderQuality recordFrame(long frameNanos, long workNanos, long budgetNanos) {
+        return recordFrame(frameNanos, workNanos, budgetNanos, 0);
+    }
+
+    /**
+     * Erfasst einen Frame und schaltet am Ende eines Fensters ggf. die Stufe um.
+     * @param frameNanos Abstand zum vorherigen Frame in Nanosekunden
+     * @param workNanos Arbeitszeit des Frames (Physik und Zeichnen) in Nanosekunden
+     * @param budgetNanos Sollabstand der Frames in Nanosekunden
+     * @param pulseNanos Abstand zum vorherigen Puls in Nanosekunden, 0 wenn unbekannt
+     * @return Aktuelle Qualitätsstufe
+     */
+    public RenderQuality recordFrame(long frameNanos, long workNanos, long budgetNanos, long pulseNanos) {
+        frameGaps[frames++] = frameNanos;
+        workSum += workNanos;
+        if (pulseNanos > 0 && (minPulse == 0 || pulseNanos < minPulse)) {
+            minPulse = pulseNanos;
+        }
+        if (frames < WINDOW_FRAMES) {
+            return quality;
+        }
+
+        // Überlastete Frames verzögern auch die Pulse, der kürzeste Abstand entspricht dem Bildschirmtakt
+        long pulse = minPulse > 0 ? minPulse : budgetNanos;
+        long expected = pulse * Math.max(1, (long) Math.ceil((double) budgetNanos / pulse - PULSE_SLACK));
+        int lateFrames = 0;
+        for (long gap : frameGaps) {
+            if (gap > expected + pulse * LATE_FACTOR) {
+                lateFrames++;
+            }
+        }
+        double load = workSum / (double) frames / Math.max(budgetNanos, pulse);
+        boolean overloaded = lateFrames > frames * LATE_SHARE || load > DOWNGRADE_LOAD;
+        if (overloaded) {
+            quality = quality.lower();
+            headroomWindows = 0;
+        } else if (load < UPGRADE_LOAD) {
+            if (++headroomWindows >= UPGRADE_WINDOWS) {
+                quality = quality.higher();
+                headroomWindows = 0;
+            }
+        } else {
+            headroomWindows = 0;
+        }
+        frames = 0;
+        workSum = 0;
+        minPulse = 0;
+        return quality;
+    }
+
+    /**
+     * @return Aktuelle Qualitätsstufe
+     */
+    public RenderQuality getQuality() {
+        return quality;
+    }
+}
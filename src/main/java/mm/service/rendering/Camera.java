@@ -0,0 +1,205 @@
+package mm.service.rendering;
+
+import javafx.scene.canvas.GraphicsContext;
+import org.jbox2d.collision.AABB;
+import org.jbox2d.common.Vec2;
+import org.jbox2d.dynamics.Body;
+
+/**
+ * Kamera, die einen Ausschnitt der Welt auf das Spielfeld abbildet.
+ * <p>
+ * Die Kamera merkt sich den Mittelpunkt des sichtbaren Ausschnitts in Weltkoordinaten (Meter)
+ * und einen Zoomfaktor. Der Ausschnitt wird an den Weltgrenzen festgehalten; ist die Welt
+ * kleiner als das Spielfeld, bleibt sie zentriert. Optional folgt die Kamera einem Körper,
+ * z.B. dem Gameball, und nähert sich ihm pro Frame weich an.
+ * </p>
+ * <p>
+ * Bei Zoom 1 und einer Welt in Spielfeldgröße ist die Abbildung die Identität, das Spielfeld
+ * sieht also genauso aus wie ohne Kamera.
+ * </p>
+ */
+public class Camera {
+
+    /** Größter Zoomfaktor */
+    public static final double MAX_ZOOM = 4.0;
+    /** Anteil des Abstands zum verfolgten Körper, der pro Frame aufgeholt wird */
+    private static final double FOLLOW_SMOOTHING = 0.15;
+    /** Zusätzlicher Rand des sichtbaren Bereichs in Metern (Schatten, Ballonschnur, Linienbreite) */
+    private static final float CULL_MARGIN = 0.2f;
+    private static final double SCALE = 100.0;
+
+    private final double viewportWidth;
+    private final double viewportHeight;
+    private double worldWidth;
+    private double worldHeight;
+    private double centerX;
+    private double centerY;
+    private double zoom = 1.0;
+    private Body target;
+    private final AABB viewBounds = new AABB();
+
+    /**
+     * Erstellt eine Kamera, deren Welt genau das Spielfeld ist.
+     * @param viewportWidth Breite des Spielfelds in Pixeln
+     * @param viewportHeight Höhe des Spielfelds in Pixeln
+     */
+    public Camera(double viewportWidth, double viewportHeight) {
+        this.viewportWidth = viewportWidth;
+        this.viewportHeight = viewportHeight;
+        setWorldSize(viewportWidth / SCALE, viewportHeight / SCALE);
+    }
+
+    /**
+     * Setzt die Weltgröße, zentriert den Ausschnitt und setzt den Zoom zurück.
+     * @param worldWidth Breite der Welt in Metern
+     * @param worldHeight Höhe der Welt in Metern
+     */
+    public void setWorldSize(double worldWidth, double worldHeight) {
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.centerX = worldWidth / 2;
+        this.centerY = worldHeight / 2;
+        this.zoom = 1.0;
+        clamp();
+    }
+
+    /**
+     * Zoomt so weit heraus, dass die ganze Welt zentriert sichtbar ist.
+     */
+    public void fitWorld() {
+        target = null;
+        zoom = getMinZoom();
+        centerX = worldWidth / 2;
+        centerY = worldHeight / 2;
+        clamp();
+    }
+
+    /**
+     * Gibt den kleinsten Zoomfaktor zurück, bei dem die ganze Welt ins Spielfeld passt (höchstens 1).
+     * @return Kleinster Zoomfaktor
+     */
+    public double getMinZoom() {
+        return Math.min(1.0, Math.min(viewportWidth / (worldWidth * SCALE), viewportHeight / (worldHeight * SCALE)));
+    }
+
+    /**
+     * @return Aktueller Zoomfaktor
+     */
+    public double getZoom() {
+        return zoom;
+    }
+
+    /**
+     * @return X-Koordinate des Ausschnitt-Mittelpunkts in Metern
+     */
+    public double getCenterX() {
+        return centerX;
+    }
+
+    /**
+     * @return Y-Koordinate des Ausschnitt-Mittelpunkts in Metern
+     */
+    public double getCenterY() {
+        return centerY;
+    }
+
+    /**
+     * Zoomt so, dass der Weltpunkt unter der angegebenen Bildschirmposition stehen bleibt.
+     * @param factor Faktor, mit dem der Zoom multipliziert wird
+     * @param screenX X-Position auf dem Spielfeld in Pixeln
+     * @param screenY Y-Position auf dem Spielfeld in Pixeln
+     */
+    public void zoomAt(double factor, double screenX, double screenY) {
+        Vec2 anchor = screenToWorld(screenX, screenY);
+        zoom = Math.max(getMinZoom(), Math.min(MAX_ZOOM, zoom * factor));
+        centerX = anchor.x - (screenX - viewportWidth / 2) / (zoom * SCALE);
+        centerY = anchor.y - (screenY - viewportHeight / 2) / (zoom * SCALE);
+        clamp();
+    }
+
+    /**
+     * Verschiebt den Ausschnitt um eine Strecke in Bildschirmpixeln und beendet das Verfolgen.
+     * @param dx Verschiebung in X-Richtung in Pixeln
+     * @param dy Verschiebung in Y-Richtung in Pixeln
+     */
+    public void pan(double dx, double dy) {
+        target = null;
+        centerX -= dx / (zoom * SCALE);
+        centerY -= dy / (zoom * SCALE);
+        clamp();
+    }
+
+    /**
+     * Lässt die Kamera einem Körper folgen.
+     * @param target Zu verfolgender Körper oder null, um das Verfolgen zu beenden
+     */
+    public void follow(Body target) {
+        this.target = target;
+    }
+
+    /**
+     * @return Verfolgter Körper oder null
+     */
+    public Body getTarget() {
+        return target;
+    }
+
+    /**
+     * Nähert den Ausschnitt dem verfolgten Körper an. Wird einmal pro Frame aufgerufen.
+     */
+    public void update() {
+        if (target == null) {
+            return;
+        }
+        Vec2 position = target.getPosition();
+        centerX += (position.x - centerX) * FOLLOW_SMOOTHING;
+        centerY += (position.y - centerY) * FOLLOW_SMOOTHING;
+        clamp();
+    }
+
+    /**
+     * Überträgt die Abbildung Welt → Spielfeld auf den GraphicsContext.
+     * Danach wird in Weltpixeln ({@code Position * 100}) gezeichnet.
+     * @param gc GraphicsContext
+     */
+    public void apply(GraphicsContext gc) {
+        gc.translate(viewportWidth / 2, viewportHeight / 2);
+        gc.scale(zoom, zoom);
+        gc.translate(-centerX * SCALE, -centerY * SCALE);
+    }
+
+    /**
+     * Rechnet eine Position auf dem Spielfeld in Weltkoordinaten um.
+     * @param screenX X-Position in Pixeln
+     * @param screenY Y-Position in Pixeln
+     * @return Position in Metern
+     */
+    public Vec2 screenToWorld(double screenX, double screenY) {
+        return new Vec2(
+            (float) (centerX + (screenX - viewportWidth / 2) / (zoom * SCALE)),
+            (float) (centerY + (screenY - viewportHeight / 2) / (zoom * SCALE)));
+    }
+
+    /**
+     * Gibt den sichtbaren Bereich in Weltkoordinaten zurück, inklusive eines kleinen Rands.
+     * Das Rechteck wird wiederverwendet und beim nächsten Aufruf überschrieben.
+     * @return Sichtbarer Bereich in Metern
+     */
+    public AABB getViewBounds() {
+        double halfWidth = viewportWidth / 2 / (zoom * SCALE);
+        double halfHeight = viewportHeight / 2 / (zoom * SCALE);
+        viewBounds.lowerBound.set((float) (centerX - halfWidth) - CULL_MARGIN, (float) (centerY - halfHeight) - CULL_MARGIN);
+        viewBounds.upperBound.set((float) (centerX + halfWidth) + CULL_MARGIN, (float) (centerY + halfHeight) + CULL_MARGIN);
+        return viewBounds;
+    }
+
+    /**
+     * Hält den Ausschnitt innerhalb der Welt; passt die Welt in eine Richtung ganz hinein, wird sie zentriert.
+     */
+    private void clamp() {
+        double halfWidth = viewportWidth / 2 / (zoom * SCALE);
+        double halfHeight = viewportHeight / 2 / (zoom * SCALE);
+        centerX = worldWidth <= 2 * halfWidth ? worldWidth / 2 : Math.max(halfWidth, Math.min(worldWidth - halfWidth, centerX));
+        centerY = worldHeight <= 2 * halfHeight ? worldHeight / 2 : Math.max(halfHeight, Math.min(worldHeight - halfHeight, centerY));
+    }
+}
@@ -0,0 +1,22 @@
+package mm.service.rendering;
+
+import java.awt.image.BufferedImage;
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Nimmt die Bilder eines aufgezeichneten Laufs nacheinander entgegen und schreibt sie in eine Datei.
+ * <p>
+ * Implementierungen dürfen das übergebene Bild nach {@link #write} nicht mehr verwenden; der
+ * Aufrufer verwendet denselben Puffer für das nächste Bild wieder.
+ * </p>
+ */
+public interface FrameEncoder extends Closeable {
+
+    /**
+     * Schreibt das nächste Bild.
+     * @param frame Bild; wird nach der Rückkehr wiederverwendet
+     * @throws IOException bei Schreibfehlern
+     */
+    void write(BufferedImage frame) throws IOException;
+}
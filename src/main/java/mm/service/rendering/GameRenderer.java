@@ -4,20 +4,38 @@ import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
+import mm.service.profiling.RenderEvent;
+import org.jbox2d.callbacks.QueryCallback;
 import org.jbox2d.common.Vec2;
 import org.jbox2d.dynamics.Body;
+import org.jbox2d.dynamics.World;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Verantwortlich für das Zeichnen und Rendern der Spielobjekte auf dem Canvas.
  * <p>
  * Unterstützt verschiedene Objektarten (Kreis, Box, Bucket, Zonen), Skins, Schatten, Glanz und Farbverläufe.
+ * Welche Effekte gezeichnet werden, bestimmt die eingestellte {@link RenderQuality}.
+ * Mit einer {@link Camera} wird nur der sichtbare Ausschnitt gezeichnet: die Körper darin
+ * liefert die Broadphase der Welt über {@code World.queryAABB}.
  * </p>
  */
 public class GameRenderer {
     
     private static final float SCALE = 100.0f;
     private final Canvas gameCanvas;
+    /** Größe des Canvas bei voller Auflösung */
+    private final double baseWidth;
+    private final double baseHeight;
+    private RenderQuality quality = RenderQuality.FULL;
+    /** Im aktuellen Frame sichtbare Körper; wird pro Frame geleert und wiederverwendet */
+    private final Set<Body> visibleBodies = new HashSet<>();
+    private final QueryCallback collectVisible = fixture -> {
+        visibleBodies.add(fixture.getBody());
+        return true;
+    };
     
     /**
      * Erstellt einen GameRenderer für das angegebene Canvas.
@@ -25,6 +43,36 @@ public class GameRenderer {
      */
     public GameRenderer(Canvas gameCanvas) {
         this.gameCanvas = gameCanvas;
+        this.baseWidth = gameCanvas.getWidth();
+        this.baseHeight = gameCanvas.getHeight();
+    }
+
+    /**
+     * Gibt die aktuelle Qualitätsstufe zurück.
+     * @return Qualitätsstufe
+     */
+    public RenderQuality getQuality() {
+        return quality;
+    }
+
+    /**
+     * Setzt die Qualitätsstufe.
+     * <p>
+     * Bei reduzierter Auflösung wird das Canvas verkleinert und per Node-Skalierung wieder auf
+     * die ursprüngliche Größe gestreckt. Das setzt einen zentrierenden Container wie ein
+     * StackPane voraus.
+     * </p>
+     * @param quality Neue Qualitätsstufe
+     */
+    public void setQuality(RenderQuality quality) {
+        if (quality.getResolutionScale() != this.quality.getResolutionScale()) {
+            double scale = quality.getResolutionScale();
+            gameCanvas.setWidth(baseWidth * scale);
+            gameCanvas.setHeight(baseHeight * scale);
+            gameCanvas.setScaleX(1 / scale);
+            gameCanvas.setScaleY(1 / scale);
+        }
+        this.quality = quality;
     }
     
     /**
@@ -32,45 +80,104 @@ public class GameRenderer {
      * @param bodies Map von Body zu RenderInfo
      */
     public void render(Map<Body, RenderInfo> bodies) {
-        GraphicsContext gc = gameCanvas.getGraphicsContext2D();
+        RenderEvent event = new RenderEvent();
+        event.begin();
+        GraphicsContext gc = beginFrame();
         
-        gc.clearRect(0, 0, gameCanvas.getWidth(), gameCanvas.getHeight());
+        for (Map.Entry<Body, RenderInfo> entry : bodies.entrySet()) {
+            renderBody(gc, entry.getKey(), entry.getValue());
+        }
+        gc.restore();
         
+        if (event.shouldCommit()) {
+            event.objectCount = bodies.size();
+            event.commit();
+        }
+    }
+
+    /**
+     * Rendert den Ausschnitt der Kamera. Gezeichnet werden nur Körper, deren Hüllrechteck den
+     * sichtbaren Bereich schneidet; das Zeichnen hängt also von der Anzahl sichtbarer Objekte ab,
+     * für die übrigen bleibt nur ein Nachschlagen im Set. Die Zeichenreihenfolge ist die der Map.
+     * @param bodies Map von Body zu RenderInfo (Zeichenreihenfolge)
+     * @param world Welt, deren Broadphase die sichtbaren Körper liefert
+     * @param camera Kamera mit Ausschnitt und Zoom
+     */
+    public void render(Map<Body, RenderInfo> bodies, World world, Camera camera) {
+        RenderEvent event = new RenderEvent();
+        event.begin();
+        GraphicsContext gc = beginFrame();
+        camera.apply(gc);
+        
+        visibleBodies.clear();
+        world.queryAABB(collectVisible, camera.getViewBounds());
+        int drawn = 0;
+        // In der Reihenfolge der Map zeichnen, damit sich Überlappungen wie beim ungeschnittenen
+        // Pfad verhalten und zwischen Frames nicht wechseln
         for (Map.Entry<Body, RenderInfo> entry : bodies.entrySet()) {
-            Body body = entry.getKey();
-            RenderInfo info = entry.getValue();
-            
-            Vec2 position = body.getPosition();
-            float angle = body.getAngle();
-            
-            double x = position.x * SCALE;
-            double y = position.y * SCALE;
-            
-            gc.save();
-            gc.translate(x, y);
-            gc.rotate(Math.toDegrees(angle));
-            
-            if (info.image == null) {
-                gc.save();
-                gc.translate(3, 3);
-                gc.setGlobalAlpha(0.3);
-                gc.setFill(Color.BLACK);
-                renderObjectShape(gc, info, true);
-                gc.restore();
-            }
-            
-            renderObjectWithGradient(gc, info);
-            
-            if (info.image == null) {
-                gc.save();
-                gc.setGlobalAlpha(0.4);
-                gc.setFill(Color.WHITE);
-                renderGloss(gc, info);
-                gc.restore();
+            if (visibleBodies.contains(entry.getKey())) {
+                renderBody(gc, entry.getKey(), entry.getValue());
+                drawn++;
             }
-            
+        }
+        gc.restore();
+        
+        if (event.shouldCommit()) {
+            event.objectCount = drawn;
+            event.commit();
+        }
+    }
+
+    /**
+     * Leert das Canvas und setzt die Skalierung der Qualitätsstufe.
+     * Der Aufrufer muss den Zustand mit {@code gc.restore()} wiederherstellen.
+     * @return GraphicsContext des Canvas
+     */
+    private GraphicsContext beginFrame() {
+        GraphicsContext gc = gameCanvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, gameCanvas.getWidth(), gameCanvas.getHeight());
+        gc.save();
+        gc.scale(quality.getResolutionScale(), quality.getResolutionScale());
+        return gc;
+    }
+
+    /**
+     * Rendert einen Körper mit Schatten, Füllung und Glanz gemäß der Qualitätsstufe.
+     * @param gc GraphicsContext
+     * @param body Körper
+     * @param info RenderInfo
+     */
+    private void renderBody(GraphicsContext gc, Body body, RenderInfo info) {
+        Vec2 position = body.getPosition();
+        float angle = body.getAngle();
+        
+        double x = position.x * SCALE;
+        double y = position.y * SCALE;
+        
+        gc.save();
+        gc.translate(x, y);
+        gc.rotate(Math.toDegrees(angle));
+        
+        if (info.image == null && quality.drawsShadows()) {
+            gc.save();
+            gc.translate(3, 3);
+            gc.setGlobalAlpha(0.3);
+            gc.setFill(Color.BLACK);
+            renderObjectShape(gc, info, true);
+            gc.restore();
+        }
+        
+        renderObjectWithGradient(gc, info);
+        
+        if (info.image == null && quality.drawsGloss()) {
+            gc.save();
+            gc.setGlobalAlpha(0.4);
+            gc.setFill(Color.WHITE);
+            renderGloss(gc, info);
             gc.restore();
         }
+        
+        gc.restore();
     }
     
     /**
@@ -204,6 +311,14 @@ public class GameRenderer {
         Color lightColor = baseColor.brighter().brighter();
         Color darkColor = baseColor.darker();
         
+        if (!quality.drawsGradients() && (info.type == RenderType.CIRCLE || info.type == RenderType.BOX)) {
+            gc.setFill(baseColor);
+            gc.setStroke(darkColor.darker());
+            gc.setLineWidth(2);
+            renderObjectShape(gc, info, false);
+            return;
+        }
+        
         switch (info.type) {
             case CIRCLE:
                 double radius = info.param1 * SCALE;
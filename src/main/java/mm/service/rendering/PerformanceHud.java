@@ -0,0 +1,101 @@
+package mm.service.rendering;
+
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+import mm.service.physics.PhysicsManager;
+import mm.service.profiling.FrameProfiler;
+import mm.service.timing.FramePacer;
+
+/**
+ * Zeichnet eine zuschaltbare Leistungsanzeige in die linke obere Ecke des Spielfelds.
+ * <p>
+ * Zeigt Bildrate, Frame-Zeit-Perzentile, Jitter und verpasste Frames, Physik- und Renderzeit,
+ * die Render-Qualität sowie die Anzahl der Körper, Kontakte und wachen Körper an.
+ * </p>
+ */
+public class PerformanceHud {
+
+    /** Frame-Budget bei 60 FPS in Millisekunden */
+    private static final double FRAME_BUDGET_MS = 1000.0 / 60.0;
+    private static final double LINE_HEIGHT = 16;
+    private static final double PADDING = 8;
+    private static final Font FONT = Font.font("Monospaced", 13);
+
+    private final Canvas canvas;
+    private boolean visible = false;
+
+    /**
+     * Erstellt eine Leistungsanzeige für das angegebene Canvas.
+     * @param canvas Zeichenfläche
+     */
+    public PerformanceHud(Canvas canvas) {
+        this.canvas = canvas;
+    }
+
+    /**
+     * Schaltet die Anzeige ein oder aus.
+     */
+    public void toggle() {
+        visible = !visible;
+    }
+
+    /**
+     * Gibt zurück, ob die Anzeige sichtbar ist.
+     * @return true, wenn sichtbar
+     */
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * Zeichnet die Anzeige, falls sie eingeschaltet ist.
+     * @param profiler Quelle der Zeitmessungen
+     * @param pacer Quelle für Jitter und verpasste Frames
+     * @param quality Aktuelle Render-Qualität
+     * @param physicsManager Quelle der Welt-Statistiken
+     */
+    public void render(FrameProfiler profiler, FramePacer pacer, RenderQuality quality, PhysicsManager physicsManager) {
+        if (!visible) {
+            return;
+        }
+        double p50 = profiler.getFrameTimePercentile(50);
+        double p95 = profiler.getFrameTimePercentile(95);
+        double p99 = profiler.getFrameTimePercentile(99);
+        String[] lines = {
+            String.format("FPS      %6.1f", profiler.getFps()),
+            String.format("p50      %6.2f ms", p50),
+            String.format("p95      %6.2f ms", p95),
+            String.format("p99      %6.2f ms", p99),
+            String.format("Jitter   %6.2f ms", pacer.getJitter()),
+            String.format("Verpasst %6d", pacer.getMissedFrames()),
+            String.format("Physik   %6.2f ms", profiler.getAveragePhysicsTime()),
+            String.format("Rendern  %6.2f ms", profiler.getAverageRenderTime()),
+            String.format("Qualität %s", quality),
+            String.format("Körper   %6d", physicsManager.getBodyCount()),
+            String.format("Kontakte %6d", physicsManager.getContactCount()),
+            String.format("Wach     %6d", physicsManager.getAwakeBodyCount())
+        };
+
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.save();
+        gc.setGlobalAlpha(0.75);
+        gc.setFill(Color.BLACK);
+        gc.fillRoundRect(PADDING, PADDING, 190, lines.length * LINE_HEIGHT + 2 * PADDING, 8, 8);
+        gc.setGlobalAlpha(1.0);
+        gc.setFont(FONT);
+        gc.setTextAlign(TextAlignment.LEFT);
+        gc.setTextBaseline(VPos.TOP);
+        // Perzentile über dem Budget werden rot hervorgehoben
+        double[] frameTimes = {0, p50, p95, p99};
+        for (int i = 0; i < lines.length; i++) {
+            boolean overBudget = i < frameTimes.length && frameTimes[i] > FRAME_BUDGET_MS;
+            gc.setFill(overBudget ? Color.TOMATO : Color.LIMEGREEN);
+            gc.fillText(lines[i], 2 * PADDING, 2 * PADDING + i * LINE_HEIGHT);
+        }
+        gc.restore();
+    }
+}
@@ -0,0 +1,38 @@
+package mm.service.rendering;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Schreibt Bilder als nummerierte PNG-Dateien, z.B. {@code lauf_0001.png}, {@code lauf_0002.png}, ...
+ */
+public class PngSequenceEncoder implements FrameEncoder {
+
+    private final Path directory;
+    private final String prefix;
+    private int index = 0;
+
+    /**
+     * @param target Pfad des ersten Bildes; Verzeichnis und Dateiname (ohne ".png") bilden das Muster
+     * @throws IOException wenn das Verzeichnis nicht angelegt werden kann
+     */
+    public PngSequenceEncoder(Path target) throws IOException {
+        Path parent = target.toAbsolutePath().getParent();
+        this.directory = parent;
+        this.prefix = target.getFileName().toString().replaceFirst("(?i)\\.png$", "");
+        Files.createDirectories(parent);
+    }
+
+    @Override
+    public void write(BufferedImage frame) throws IOException {
+        index++;
+        ImageIO.write(frame, "png", directory.resolve(String.format("%s_%04d.png", prefix, index)).toFile());
+    }
+
+    @Override
+    public void close() {
+    }
+}
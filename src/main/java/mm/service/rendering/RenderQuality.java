@@ -0,0 +1,75 @@
+package mm.service.rendering;
+
+/**
+ * Qualitätsstufen des {@link GameRenderer}, von voller Qualität absteigend.
+ * <p>
+ * Jede Stufe verzichtet zusätzlich auf einen Effekt: zuerst Glanz, dann Schatten, dann
+ * Farbverläufe (einfarbige Füllung) und zuletzt wird mit halber interner Auflösung gezeichnet.
+ * </p>
+ */
+public enum RenderQuality {
+    /** Alle Effekte */
+    FULL(true, true, true, 1.0),
+    /** Ohne Glanz */
+    NO_GLOSS(false, true, true, 1.0),
+    /** Ohne Glanz und Schatten */
+    NO_SHADOWS(false, false, true, 1.0),
+    /** Einfarbige Füllungen statt Verläufen */
+    FLAT(false, false, false, 1.0),
+    /** Einfarbig und mit halber Auflösung */
+    LOW_RES(false, false, false, 0.5);
+
+    private final boolean gloss;
+    private final boolean shadows;
+    private final boolean gradients;
+    private final double resolutionScale;
+
+    RenderQuality(boolean gloss, boolean shadows, boolean gradients, double resolutionScale) {
+        this.gloss = gloss;
+        this.shadows = shadows;
+        this.gradients = gradients;
+        this.resolutionScale = resolutionScale;
+    }
+
+    /**
+     * @return true, wenn Glanzeffekte gezeichnet werden
+     */
+    public boolean drawsGloss() {
+        return gloss;
+    }
+
+    /**
+     * @return true, wenn Schatten gezeichnet werden
+     */
+    public boolean drawsShadows() {
+        return shadows;
+    }
+
+    /**
+     * @return true, wenn Farbverläufe gezeichnet werden
+     */
+    public boolean drawsGradients() {
+        return gradients;
+    }
+
+    /**
+     * @return Faktor der internen Auflösung (1.0 = volle Auflösung)
+     */
+    public double getResolutionScale() {
+        return resolutionScale;
+    }
+
+    /**
+     * @return Nächstniedrigere Stufe oder diese, falls bereits die niedrigste
+     */
+    public RenderQuality lower() {
+        return ordinal() < values().length - 1 ? values()[ordinal() + 1] : this;
+    }
+
+    /**
+     * @return Nächsthöhere Stufe oder diese, falls bereits die höchste
+     */
+    public RenderQuality higher() {
+        return ordinal() > 0 ? values()[ordinal() - 1] : this;
+    }
+}
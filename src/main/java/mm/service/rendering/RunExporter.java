@@ -0,0 +1,186 @@
+package mm.service.rendering;
+
+import javafx.application.Platform;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import mm.domain.config.ObjectConf;
+import mm.domain.storage.LevelData;
+import mm.service.physics.PhysicsManager;
+import mm.service.simulation.HeadlessSimulation;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Zeichnet einen Lauf abseits des Bildschirms auf und übergibt die Bilder einem {@link FrameEncoder}.
+ * <p>
+ * Der Lauf wird mit {@link HeadlessSimulation} neu simuliert, also genauso wie im Spielmodus und
+ * ohne die laufende Spielschleife zu berühren. Jedes {@value #STEPS_PER_FRAME}. Schritt wird mit dem
+ * {@link GameRenderer} auf ein nicht angezeigtes Canvas gezeichnet; nur das Abfotografieren
+ * ({@code snapshot}) läuft auf dem FX-Thread. Die Simulation wartet dabei nicht auf Echtzeit.
+ * </p>
+ * <p>
+ * Simulation und Kodierung laufen in einer Pipeline mit {@value #QUEUE_CAPACITY} wiederverwendeten
+ * Bildpuffern: Die Simulation füllt freie Puffer, ein eigener Thread kodiert volle Puffer und gibt
+ * sie zurück. Ist der Kodierer langsamer, wartet die Simulation auf einen freien Puffer. Der
+ * Speicherbedarf bleibt so unabhängig von der Länge des Laufs.
+ * </p>
+ */
+public class RunExporter {
+
+    /** Simulationsschritte pro Bild (60 Schritte/s ergeben 20 Bilder/s) */
+    public static final int STEPS_PER_FRAME = 3;
+    /** Anzeigedauer eines Bildes in Millisekunden */
+    public static final int FRAME_DELAY_MILLIS = 1000 * STEPS_PER_FRAME / 60;
+    /** Anzahl der Bildpuffer in der Pipeline */
+    public static final int QUEUE_CAPACITY = 8;
+    /** Längste Aufzeichnung in Schritten (60 Sekunden) */
+    public static final int MAX_STEPS = 3600;
+    /** Schritte, die nach Sieg oder Stillstand noch aufgezeichnet werden */
+    public static final int TAIL_STEPS = 60;
+    /** Breite der Bilder in Pixeln; die Höhe folgt aus dem Seitenverhältnis der Welt */
+    public static final int WIDTH = 600;
+
+    private final LevelData level;
+    private final List<ObjectConf> playerObjects;
+
+    /**
+     * @param level Leveldaten
+     * @param playerObjects Vom Spieler platzierte Objekte
+     */
+    public RunExporter(LevelData level, List<ObjectConf> playerObjects) {
+        this.level = level;
+        this.playerObjects = List.copyOf(playerObjects);
+    }
+
+    /**
+     * Simuliert und kodiert den Lauf. Darf nicht auf dem FX-Thread aufgerufen werden.
+     * Der Kodierer wird am Ende geschlossen.
+     * @param encoder Ziel der Bilder
+     * @return Anzahl der geschriebenen Bilder
+     * @throws IOException bei Schreibfehlern des Kodierers
+     * @throws InterruptedException bei Abbruch
+     */
+    public int export(FrameEncoder encoder) throws IOException, InterruptedException {
+        if (Platform.isFxApplicationThread()) {
+            throw new IllegalStateException("Export darf nicht auf dem FX-Thread laufen");
+        }
+        HeadlessSimulation simulation = HeadlessSimulation.withRendering(level, playerObjects);
+        PhysicsManager physicsManager = simulation.getPhysicsManager();
+        double worldWidth = HeadlessSimulation.worldWidth(level) / 100;
+        double worldHeight = HeadlessSimulation.worldHeight(level) / 100;
+        int height = (int) Math.round(WIDTH * worldHeight / worldWidth);
+
+        Canvas canvas = new Canvas(WIDTH, height);
+        GameRenderer renderer = new GameRenderer(canvas);
+        Camera camera = new Camera(WIDTH, height);
+        camera.setWorldSize(worldWidth, worldHeight);
+        camera.fitWorld();
+
+        BlockingQueue<WritableImage> free = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        BlockingQueue<WritableImage> filled = new ArrayBlockingQueue<>(QUEUE_CAPACITY + 1);
+        for (int i = 0; i < QUEUE_CAPACITY; i++) {
+            free.add(new WritableImage(WIDTH, height));
+        }
+        WritableImage end = new WritableImage(1, 1);
+
+        ExecutorService encoderThread = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "run-export");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (encoder; simulation) {
+            Future<Integer> encoding = encoderThread.submit(() -> encode(filled, free, end, encoder, height));
+            int lastStep = MAX_STEPS;
+            for (int step = 0; step <= lastStep; step++) {
+                if (step > 0) {
+                    simulation.step();
+                }
+                if (lastStep == MAX_STEPS && (simulation.getWinStep() >= 0 || physicsManager.isSettled())) {
+                    lastStep = Math.min(MAX_STEPS, step + TAIL_STEPS);
+                }
+                if (step % STEPS_PER_FRAME == 0) {
+                    WritableImage buffer = takeFree(free, encoding);
+                    renderer.render(physicsManager.getBodies(), physicsManager.getWorld(), camera);
+                    snapshot(canvas, buffer);
+                    filled.put(buffer);
+                }
+            }
+            filled.put(end);
+            return encoding.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Kodierung fehlgeschlagen", e.getCause());
+        } finally {
+            encoderThread.shutdownNow();
+        }
+    }
+
+    /**
+     * Wartet auf einen freien Puffer und bricht ab, falls der Kodierer vorzeitig endet.
+     */
+    private static WritableImage takeFree(BlockingQueue<WritableImage> free, Future<Integer> encoding)
+            throws InterruptedException, ExecutionException {
+        while (true) {
+            WritableImage buffer = free.poll(100, TimeUnit.MILLISECONDS);
+            if (buffer != null) {
+                return buffer;
+            }
+            if (encoding.isDone()) {
+                encoding.get();
+                throw new IllegalStateException("Kodierer beendet");
+            }
+        }
+    }
+
+    /**
+     * Fotografiert das Canvas auf dem FX-Thread in den angegebenen Puffer.
+     */
+    private static void snapshot(Canvas canvas, WritableImage buffer) throws InterruptedException, ExecutionException {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                canvas.snapshot(null, buffer);
+                done.complete(null);
+            } catch (RuntimeException e) {
+                done.completeExceptionally(e);
+            }
+        });
+        done.get();
+    }
+
+    /**
+     * Kodiert volle Puffer, bis das Ende-Signal kommt. Jeder Puffer wird nach dem Kopieren der
+     * Pixel sofort zurückgegeben, damit die Simulation weiterzeichnen kann.
+     */
+    private static int encode(BlockingQueue<WritableImage> filled, BlockingQueue<WritableImage> free,
+                              WritableImage end, FrameEncoder encoder, int height) throws IOException, InterruptedException {
+        BufferedImage frame = new BufferedImage(WIDTH, height, BufferedImage.TYPE_INT_RGB);
+        int[] pixels = new int[WIDTH * height];
+        int frames = 0;
+        while (true) {
+            WritableImage buffer = filled.take();
+            if (buffer == end) {
+                return frames;
+            }
+            buffer.getPixelReader().getPixels(0, 0, WIDTH, height,
+                PixelFormat.getIntArgbInstance(), pixels, 0, WIDTH);
+            free.put(buffer);
+            frame.setRGB(0, 0, WIDTH, height, pixels, 0, WIDTH);
+            encoder.write(frame);
+            frames++;
+        }
+    }
+}
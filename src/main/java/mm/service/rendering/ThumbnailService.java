@@ -0,0 +1,284 @@
+package mm.service.rendering;
+
+import javafx.application.Platform;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import mm.domain.config.ObjectConf;
+import mm.domain.storage.LevelCatalog;
+import mm.domain.storage.LevelData;
+import mm.domain.storage.LevelStorage;
+import mm.service.physics.PhysicsManager;
+import mm.service.simulation.HeadlessSimulation;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Erzeugt Vorschaubilder von Leveln mit dem {@link GameRenderer} und speichert sie zwischen.
+ * <p>
+ * Laden, Welt-Aufbau und Zeichnen auf ein nicht angezeigtes Canvas laufen auf einem eigenen
+ * Thread-Pool. Nur das Abfotografieren des Canvas ({@code snapshot}) muss JavaFX auf dem
+ * FX-Thread ausführen; das ist ein einzelner kurzer Aufruf pro Level. Das Schreiben der PNG-Datei
+ * erfolgt wieder im Hintergrund.
+ * </p>
+ * <p>
+ * Der Cache-Schlüssel wird aus dem SHA-256-Hash des Dateiinhalts und {@link #VERSION} gebildet. Ist
+ * der Hash schon bekannt (z.B. aus dem Level-Katalog), wird die Datei für einen Treffer nicht gelesen. Ein
+ * geändertes Level bekommt also automatisch ein neues Bild, ein unverändertes wird nach einem
+ * Neustart von der Platte geladen und innerhalb einer Sitzung aus dem Speicher. Im Speicher bleiben
+ * nur die {@value #MEMORY_IMAGES} zuletzt benutzten Bilder, ältere werden wieder von der Platte gelesen.
+ * </p>
+ * <p>
+ * Der Dienst besitzt einen eigenen Thread-Pool und muss mit {@link #shutdown()} beendet werden,
+ * wenn er nicht mehr gebraucht wird.
+ * </p>
+ */
+public class ThumbnailService {
+
+    /** Breite der Vorschaubilder in Pixeln */
+    public static final int WIDTH = 320;
+    /** Höhe der Vorschaubilder in Pixeln */
+    public static final int HEIGHT = 180;
+    /** Wird erhöht, wenn sich das Aussehen der Vorschaubilder ändert, und macht den Cache ungültig */
+    private static final int VERSION = 1;
+    /** Höchstzahl der im Speicher gehaltenen Bilder (je etwa 230 KB) */
+    public static final int MEMORY_IMAGES = 64;
+
+    private final Path cacheDir;
+    /** Zuletzt benutzte Bilder in Zugriffsreihenfolge; Zugriff nur über {@link #remember} und {@link #recall} */
+    private final Map<String, Image> memory = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Image> eldest) {
+            return size() > MEMORY_IMAGES;
+        }
+    };
+    private final ExecutorService executor;
+
+    /**
+     * @param cacheDir Verzeichnis für die zwischengespeicherten PNG-Dateien
+     */
+    public ThumbnailService(Path cacheDir) {
+        this.cacheDir = cacheDir;
+        this.executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "thumbnail");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @return Standard-Cache-Verzeichnis im Benutzerverzeichnis
+     */
+    public static Path defaultCacheDir() {
+        return Path.of(System.getProperty("user.home"), ".madmachines", "thumbnails");
+    }
+
+    /**
+     * Liefert das Vorschaubild einer Leveldatei, aus dem Cache oder neu erzeugt.
+     * @param levelFile Pfad zur Leveldatei
+     * @return Future mit dem Bild; schlägt fehl, wenn die Datei nicht gelesen werden kann
+     */
+    public CompletableFuture<Image> thumbnail(Path levelFile) {
+        return CompletableFuture.supplyAsync(() -> LevelCatalog.hash(read(levelFile)), executor)
+            .thenCompose(contentHash -> thumbnail(levelFile, contentHash));
+    }
+
+    /**
+     * Liefert das Vorschaubild einer Leveldatei mit bekanntem Inhalts-Hash, aus dem Cache oder neu erzeugt.
+     * Wird das Future abgebrochen, bevor das Bild geladen oder gezeichnet wird, unterbleibt die Arbeit.
+     * @param levelFile Pfad zur Leveldatei
+     * @param contentHash Hex-kodierter SHA-256-Hash des Dateiinhalts
+     * @return Future mit dem Bild; schlägt fehl, wenn die Datei nicht gelesen werden kann
+     */
+    public CompletableFuture<Image> thumbnail(Path levelFile, String contentHash) {
+        String key = cacheKey(contentHash);
+        Image cached = recall(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        CompletableFuture<Image> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> load(levelFile, key, result));
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * Liefert ein Vorschaubild, wenn es im Speicher liegt, ohne auf Platte oder Thread-Pool zuzugreifen.
+     * @param contentHash Hex-kodierter SHA-256-Hash des Dateiinhalts
+     * @return Bild oder null
+     */
+    public Image cached(String contentHash) {
+        return recall(cacheKey(contentHash));
+    }
+
+    /**
+     * Berechnet den Cache-Schlüssel für einen Dateiinhalt.
+     * @param content Inhalt der Leveldatei
+     * @return Hex-kodierter SHA-256-Hash inklusive Version
+     */
+    public static String cacheKey(byte[] content) {
+        return cacheKey(LevelCatalog.hash(content));
+    }
+
+    /**
+     * Berechnet den Cache-Schlüssel für einen bekannten Inhalts-Hash.
+     * @param contentHash Hex-kodierter SHA-256-Hash des Dateiinhalts
+     * @return Hex-kodierter SHA-256-Hash inklusive Version
+     */
+    public static String cacheKey(String contentHash) {
+        byte[] versioned = (VERSION + ":" + contentHash).getBytes(StandardCharsets.US_ASCII);
+        return LevelCatalog.hash(versioned);
+    }
+
+    /**
+     * Beendet den Thread-Pool.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Image recall(String key) {
+        synchronized (memory) {
+            return memory.get(key);
+        }
+    }
+
+    private void remember(String key, Image image) {
+        synchronized (memory) {
+            memory.put(key, image);
+        }
+    }
+
+    private static byte[] read(Path levelFile) {
+        try {
+            return Files.readAllBytes(levelFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Lädt ein zwischengespeichertes Bild von der Platte.
+     * @return Bild oder null, wenn es keines gibt oder es nicht lesbar ist
+     */
+    private Image loadCached(String key) {
+        Path file = cacheDir.resolve(key + ".png");
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        Image image = new Image(file.toUri().toString());
+        return image.isError() ? null : image;
+    }
+
+    /**
+     * Lädt das Bild von der Platte oder zeichnet das Level, fotografiert es auf dem FX-Thread ab und
+     * speichert es. Vor jedem Schritt wird geprüft, ob die Anfrage inzwischen abgebrochen wurde.
+     */
+    private void load(Path levelFile, String key, CompletableFuture<Image> result) {
+        try {
+            if (result.isDone()) {
+                return;
+            }
+            Image image = loadCached(key);
+            if (image != null) {
+                remember(key, image);
+                result.complete(image);
+                return;
+            }
+            if (result.isDone()) {
+                return;
+            }
+            snapshot(draw(levelFile), result).thenAcceptAsync(snapshot -> {
+                remember(key, snapshot);
+                result.complete(snapshot);
+                store(snapshot, key);
+            }, executor).exceptionally(error -> {
+                result.completeExceptionally(error);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Baut die Welt des Levels auf und zeichnet sie in voller Qualität auf ein neues Canvas.
+     */
+    private static Canvas draw(Path levelFile) {
+        LevelData level;
+        try {
+            level = LevelStorage.load(levelFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Canvas canvas = new Canvas(WIDTH, HEIGHT);
+        PhysicsManager physicsManager = new PhysicsManager(canvas);
+        for (ObjectConf conf : level.getObjects()) {
+            physicsManager.addObjectToWorld(conf);
+        }
+        Camera camera = new Camera(WIDTH, HEIGHT);
+        camera.setWorldSize(HeadlessSimulation.worldWidth(level) / 100, HeadlessSimulation.worldHeight(level) / 100);
+        camera.fitWorld();
+        new GameRenderer(canvas).render(physicsManager.getBodies(), physicsManager.getWorld(), camera);
+        physicsManager.release();
+        return canvas;
+    }
+
+    /**
+     * Fotografiert das Canvas auf dem FX-Thread ab, außer die Anfrage wurde bis dahin abgebrochen.
+     */
+    private static CompletableFuture<Image> snapshot(Canvas canvas, CompletableFuture<Image> request) {
+        CompletableFuture<Image> result = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            if (request.isDone()) {
+                return;
+            }
+            try {
+                result.complete(canvas.snapshot(null, null));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Schreibt ein Bild als PNG in den Cache. Fehler werden nur gemeldet, das Bild bleibt nutzbar.
+     */
+    private void store(Image image, String key) {
+        int width = (int) image.getWidth();
+        int height = (int) image.getHeight();
+        BufferedImage buffered = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        PixelReader reader = image.getPixelReader();
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                buffered.setRGB(x, y, reader.getArgb(x, y));
+            }
+        }
+        try {
+            Files.createDirectories(cacheDir);
+            Path tmp = Files.createTempFile(cacheDir, key, ".tmp");
+            ImageIO.write(buffered, "png", tmp.toFile());
+            Files.move(tmp, cacheDir.resolve(key + ".png"), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Vorschaubild konnte nicht gespeichert werden: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package mm.service.simulation;
+
+import mm.domain.storage.Difficulty;
+
+/**
+ * Ergebnis einer Monte-Carlo-Schätzung der Level-Schwierigkeit.
+ */
+public class DifficultyEstimate {
+
+    private final int samples;
+    private final int solved;
+    private final double medianSeconds;
+    private final Difficulty difficulty;
+
+    /**
+     * @param samples Anzahl simulierter Platzierungen
+     * @param solved Anzahl Platzierungen, die das Level gelöst haben
+     * @param medianSeconds Median der Spielzeit bis zum Ziel (nur gelöste), sonst NaN
+     * @param difficulty Vorgeschlagener Schwierigkeitsgrad
+     */
+    public DifficultyEstimate(int samples, int solved, double medianSeconds, Difficulty difficulty) {
+        this.samples = samples;
+        this.solved = solved;
+        this.medianSeconds = medianSeconds;
+        this.difficulty = difficulty;
+    }
+
+    /**
+     * @return Anzahl simulierter Platzierungen
+     */
+    public int getSamples() {
+        return samples;
+    }
+
+    /**
+     * @return Anzahl gelöster Platzierungen
+     */
+    public int getSolved() {
+        return solved;
+    }
+
+    /**
+     * @return Anteil gelöster Platzierungen (0 bis 1)
+     */
+    public double getSolveRate() {
+        return samples == 0 ? 0 : solved / (double) samples;
+    }
+
+    /**
+     * @return Median der Spielzeit bis zum Ziel in Sekunden, NaN wenn nichts gelöst wurde
+     */
+    public double getMedianSeconds() {
+        return medianSeconds;
+    }
+
+    /**
+     * @return Vorgeschlagener Schwierigkeitsgrad
+     */
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    @Override
+    public String toString() {
+        if (solved == 0) {
+            return String.format("0 von %d gelöst → %s", samples, difficulty);
+        }
+        return String.format("%d von %d gelöst (%.1f %%), Median %.1f s → %s",
+            solved, samples, getSolveRate() * 100, medianSeconds, difficulty);
+    }
+}
@@ -0,0 +1,156 @@
+package mm.service.simulation;
+
+import mm.domain.config.ObjectConf;
+import mm.domain.storage.Difficulty;
+import mm.domain.storage.LevelData;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Schätzt die Schwierigkeit eines Levels per Monte-Carlo-Simulation.
+ * <p>
+ * Es werden zufällige, gültige Spieler-Platzierungen ({@link PlacementSampler}) erzeugt und
+ * ohne GUI simuliert. Jeder Lauf endet vorzeitig, sobald das Level gewonnen ist oder die Welt
+ * zur Ruhe kommt. Aus dem Anteil gelöster Läufe und dem Median der Zeit bis zum Ziel wird
+ * ein Schwierigkeitsgrad abgeleitet. Die Läufe werden per Fork/Join (Work-Stealing) verteilt,
+ * da ihre Dauer stark schwankt. Jede Stichprobe hat einen eigenen, aus Seed und Index
+ * abgeleiteten Zufallsgenerator; das Ergebnis ist damit unabhängig von der Thread-Anzahl.
+ * </p>
+ */
+public class DifficultyEstimator {
+
+    /**
+     * Standardanzahl an Stichproben. Bei 2000 Läufen liegt der Standardfehler der Lösungsrate an der
+     * Schwelle {@value #MEDIUM_RATE} bei etwa einem halben Prozentpunkt, die Einstufung schwankt also
+     * zwischen Seeds kaum. Auf einem Rechner mit acht Kernen dauert das wenige Sekunden.
+     */
+    public static final int DEFAULT_SAMPLES = 2000;
+    /** Maximale Spielzeit pro Stichprobe: 15 Sekunden bei 60 Hz */
+    public static final int MAX_STEPS = 900;
+    /** Mindestens so viele Läufe müssen lösen, damit ein Level als einfach gilt */
+    public static final double EASY_RATE = 0.25;
+    /** Mindestens so viele Läufe müssen lösen, damit ein Level als mittel gilt */
+    public static final double MEDIUM_RATE = 0.05;
+    /** Ab diesem Median (Sekunden) wird die Schwierigkeit eine Stufe höher eingestuft */
+    public static final double SLOW_MEDIAN_SECONDS = 8.0;
+
+    /** Stichproben pro Teilaufgabe, darunter wird nicht weiter geteilt */
+    private static final int LEAF_SIZE = 8;
+
+    private final LevelData level;
+    private final PlacementSampler sampler;
+
+    /**
+     * @param level Zu bewertendes Level inklusive Limits
+     */
+    public DifficultyEstimator(LevelData level) {
+        this.level = level;
+        this.sampler = new PlacementSampler(level);
+    }
+
+    /**
+     * Führt die Schätzung mit {@value #DEFAULT_SAMPLES} Stichproben im gemeinsamen Fork/Join-Pool aus.
+     * @param seed Startwert für die Zufallsplatzierungen
+     * @return Schätzung
+     */
+    public DifficultyEstimate estimate(long seed) {
+        return estimate(DEFAULT_SAMPLES, seed);
+    }
+
+    /**
+     * Führt die Schätzung im gemeinsamen Fork/Join-Pool aus.
+     * @param samples Anzahl der Stichproben
+     * @param seed Startwert für die Zufallsplatzierungen
+     * @return Schätzung
+     */
+    public DifficultyEstimate estimate(int samples, long seed) {
+        int[] winSteps = new int[samples];
+        ForkJoinPool.commonPool().invoke(new SampleTask(seed, winSteps, 0, samples));
+        return summarize(winSteps);
+    }
+
+    /**
+     * Simuliert eine einzelne Stichprobe.
+     * @param seed Startwert der Schätzung
+     * @param index Index der Stichprobe
+     * @return Schritt des Sieges oder -1
+     */
+    int runSample(long seed, int index) {
+        SplittableRandom random = new SplittableRandom(seed + index * 0x9E3779B97F4A7C15L);
+        List<ObjectConf> placement = sampler.randomPlacement(random);
+        try (HeadlessSimulation simulation = new HeadlessSimulation(level, placement)) {
+            return simulation.runUntilDecided(MAX_STEPS);
+        }
+    }
+
+    /**
+     * Fasst die Sieg-Schritte zu einer Schätzung zusammen.
+     */
+    static DifficultyEstimate summarize(int[] winSteps) {
+        int[] solved = Arrays.stream(winSteps).filter(step -> step >= 0).sorted().toArray();
+        double median = Double.NaN;
+        if (solved.length > 0) {
+            int mid = solved.length / 2;
+            double medianSteps = solved.length % 2 == 1 ? solved[mid] : (solved[mid - 1] + solved[mid]) / 2.0;
+            median = medianSteps / 60.0;
+        }
+        double rate = winSteps.length == 0 ? 0 : solved.length / (double) winSteps.length;
+        return new DifficultyEstimate(winSteps.length, solved.length, median, classify(rate, median));
+    }
+
+    /**
+     * Leitet den Schwierigkeitsgrad ab. Ab {@value #EASY_RATE} gelösten Läufen gilt ein Level
+     * als einfach, ab {@value #MEDIUM_RATE} als mittel, sonst als schwer. Dauert der Weg zum
+     * Ziel im Median länger als {@value #SLOW_MEDIAN_SECONDS} Sekunden, wird eine Stufe höher eingestuft.
+     * @param rate Anteil gelöster Läufe
+     * @param medianSeconds Median der Zeit bis zum Ziel
+     * @return Vorgeschlagener Schwierigkeitsgrad
+     */
+    static Difficulty classify(double rate, double medianSeconds) {
+        Difficulty difficulty;
+        if (rate >= EASY_RATE) {
+            difficulty = Difficulty.EASY;
+        } else if (rate >= MEDIUM_RATE) {
+            difficulty = Difficulty.MEDIUM;
+        } else {
+            return Difficulty.HARD;
+        }
+        if (medianSeconds > SLOW_MEDIAN_SECONDS) {
+            difficulty = difficulty == Difficulty.EASY ? Difficulty.MEDIUM : Difficulty.HARD;
+        }
+        return difficulty;
+    }
+
+    /**
+     * Teilt den Stichprobenbereich rekursiv auf, bis er klein genug ist.
+     */
+    private class SampleTask extends RecursiveAction {
+        private final long seed;
+        private final int[] winSteps;
+        private final int from;
+        private final int to;
+
+        SampleTask(long seed, int[] winSteps, int from, int to) {
+            this.seed = seed;
+            this.winSteps = winSteps;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                for (int i = from; i < to; i++) {
+                    winSteps[i] = runSample(seed, i);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SampleTask(seed, winSteps, from, mid), new SampleTask(seed, winSteps, mid, to));
+        }
+    }
+}
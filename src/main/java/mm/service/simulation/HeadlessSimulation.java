@@ -0,0 +1,253 @@
+package mm.service.simulation;
+
+import mm.domain.config.ObjectConf;
+import mm.domain.editor.PlacedObject;
+import mm.domain.storage.LevelData;
+import mm.service.physics.PhysicsManager;
+import org.jbox2d.dynamics.Body;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Führt ein Level ohne GUI mit denselben Schritten wie der Spielmodus aus.
+ * <p>
+ * Die Welt wird wie in {@code GameController.initializeGame} aufgebaut: zuerst die Level-Objekte,
+ * dann die Spieler-Objekte, zuletzt die Weltgrenzen. Alle Objekte durchlaufen dabei
+ * {@link PlacedObject#createConfig} mit {@code isStatic = false}, genau wie beim Weg über den
+ * Editor. Pro Schritt wird {@link PhysicsManager#step()} und danach der Ballon-Auftrieb
+ * angewendet. Das Ergebnis ist bei gleicher Eingabe bitgenau reproduzierbar.
+ * </p>
+ */
+public class HeadlessSimulation implements AutoCloseable {
+
+    /** Breite des Spielfelds in Pixeln (wie in game.fxml), falls das Level keine Weltgröße festlegt */
+    public static final double WORLD_WIDTH = 1200;
+    /** Höhe des Spielfelds in Pixeln (wie in game.fxml), falls das Level keine Weltgröße festlegt */
+    public static final double WORLD_HEIGHT = 675;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final PhysicsManager physicsManager;
+    /** Körper der Level-Objekte in Erzeugungsreihenfolge */
+    private final List<Body> levelBodies = new ArrayList<>();
+    /** Körper der Spieler-Objekte in Erzeugungsreihenfolge */
+    private final List<Body> playerBodies = new ArrayList<>();
+    private int stepCount = 0;
+    private int winStep = -1;
+
+    /**
+     * Baut die Welt für ein Level und eine Spielerlösung auf.
+     * @param level Leveldaten
+     * @param playerObjects Vom Spieler platzierte Objekte
+     */
+    public HeadlessSimulation(LevelData level, List<ObjectConf> playerObjects) {
+        this(level, playerObjects, false, false);
+    }
+
+    /**
+     * Baut die Welt wie {@link #HeadlessSimulation(LevelData, List)} auf, erzeugt aber zusätzlich
+     * Render-Infos, sodass sich die Simulation mit dem {@code GameRenderer} zeichnen lässt.
+     * Der Ablauf der Simulation ist derselbe.
+     * @param level Leveldaten
+     * @param playerObjects Vom Spieler platzierte Objekte
+     * @return Zeichenbare Simulation
+     */
+    public static HeadlessSimulation withRendering(LevelData level, List<ObjectConf> playerObjects) {
+        return new HeadlessSimulation(level, playerObjects, false, true);
+    }
+
+    private HeadlessSimulation(LevelData level, List<ObjectConf> playerObjects, boolean staticOnly, boolean renderable) {
+        physicsManager = new PhysicsManager(worldWidth(level), worldHeight(level), renderable);
+        for (ObjectConf conf : level.getObjects()) {
+            ObjectConf placed = asPlaced(conf);
+            if (!staticOnly || placed.isStatic()) {
+                levelBodies.add(physicsManager.addObjectToWorld(placed));
+            }
+        }
+        for (ObjectConf conf : playerObjects) {
+            playerBodies.add(physicsManager.addObjectToWorld(asPlaced(conf)));
+        }
+        physicsManager.createWorldBounds();
+    }
+
+    /**
+     * Baut eine Welt, die nur die statischen Level-Objekte und die Spieler-Objekte enthält.
+     * Bis zur ersten Berührung eines dynamischen Level-Objekts bewegen sich die Spieler-Objekte
+     * darin genauso wie in der vollständigen Welt.
+     */
+    static HeadlessSimulation withStaticScenery(LevelData level, List<ObjectConf> playerObjects) {
+        return new HeadlessSimulation(level, playerObjects, true, false);
+    }
+
+    /**
+     * @param level Leveldaten
+     * @return Breite der Welt des Levels in Pixeln
+     */
+    public static double worldWidth(LevelData level) {
+        return level.hasWorldSize() ? level.getWorldWidth() * 100 : WORLD_WIDTH;
+    }
+
+    /**
+     * @param level Leveldaten
+     * @return Höhe der Welt des Levels in Pixeln
+     */
+    public static double worldHeight(LevelData level) {
+        return level.hasWorldSize() ? level.getWorldHeight() * 100 : WORLD_HEIGHT;
+    }
+
+    /**
+     * Wandelt eine Konfiguration so um, wie sie nach dem Platzieren im Editor ankommt.
+     */
+    private static ObjectConf asPlaced(ObjectConf conf) {
+        return PlacedObject.createConfig(conf.getClass(), conf.getX(), conf.getY(), conf.getAngle(), false);
+    }
+
+    /**
+     * @return Körper der Level-Objekte in Erzeugungsreihenfolge
+     */
+    List<Body> getLevelBodies() {
+        return levelBodies;
+    }
+
+    /**
+     * @return Körper der Spieler-Objekte in Erzeugungsreihenfolge
+     */
+    List<Body> getPlayerBodies() {
+        return playerBodies;
+    }
+
+    /**
+     * Setzt Schrittzähler, Sieg-Schritt und Ruheerkennung, wenn die Simulation aus einem
+     * Zwischenstand fortgesetzt wird.
+     */
+    void resumeAt(int step, int winStep, int restingSteps) {
+        this.stepCount = step;
+        this.winStep = winStep;
+        physicsManager.setRestingSteps(restingSteps);
+    }
+
+    /**
+     * Gibt die Welt frei ({@link PhysicsManager#release()}), damit die nächste Simulation ihre
+     * JBox2D-Pools übernehmen kann.
+     */
+    @Override
+    public void close() {
+        physicsManager.release();
+    }
+
+    /**
+     * Gibt den zugrunde liegenden PhysicsManager zurück.
+     * @return PhysicsManager der Simulation
+     */
+    public PhysicsManager getPhysicsManager() {
+        return physicsManager;
+    }
+
+    /**
+     * Führt einen Spielschritt (Physik und Ballon-Auftrieb) aus.
+     */
+    public void step() {
+        physicsManager.step();
+        physicsManager.applyBalloonBuoyancy();
+        stepCount++;
+        if (winStep < 0 && physicsManager.isGameWon()) {
+            winStep = stepCount;
+        }
+    }
+
+    /**
+     * Simuliert, bis das Level gewonnen ist, die Welt zur Ruhe kommt oder die Schrittgrenze
+     * erreicht ist. Zur Ruhe gekommene Welten ändern sich nicht mehr und gelten als verloren.
+     * @param maxSteps Maximale Anzahl an Schritten
+     * @return Schritt des Sieges oder -1
+     */
+    public int runUntilDecided(int maxSteps) {
+        while (stepCount < maxSteps && winStep < 0 && !physicsManager.isSettled()) {
+            step();
+        }
+        return winStep;
+    }
+
+    /**
+     * Berechnet den kleinsten Abstand zwischen einem Spielball und dem Mittelpunkt einer Zielzone.
+     * @return Abstand in Metern, {@link Double#POSITIVE_INFINITY} ohne Spielball oder Zielzone
+     */
+    public double goalDistance() {
+        double best = Double.POSITIVE_INFINITY;
+        for (Body ball = physicsManager.getWorld().getBodyList(); ball != null; ball = ball.getNext()) {
+            if (!"gameball".equals(ball.getUserData())) continue;
+            for (Body goal = physicsManager.getWorld().getBodyList(); goal != null; goal = goal.getNext()) {
+                if (!"goalzone".equals(goal.getUserData())) continue;
+                best = Math.min(best, ball.getPosition().sub(goal.getPosition()).length());
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @return Anzahl bisher ausgeführter Schritte
+     */
+    public int getStepCount() {
+        return stepCount;
+    }
+
+    /**
+     * @return Schritt des Sieges oder -1
+     */
+    public int getWinStep() {
+        return winStep;
+    }
+
+    /**
+     * Führt die angegebene Anzahl an Schritten aus und misst die Dauer jedes Schritts.
+     * @param steps Anzahl der Schritte
+     * @return Ergebnis mit Zustands-Hash und Zeitstatistik
+     */
+    public SimulationResult run(int steps) {
+        long[] durations = new long[steps];
+        for (int i = 0; i < steps; i++) {
+            long start = System.nanoTime();
+            step();
+            durations[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(durations);
+        long total = 0;
+        for (long d : durations) {
+            total += d;
+        }
+        long mean = steps == 0 ? 0 : total / steps;
+        long p95 = steps == 0 ? 0 : durations[(int) Math.ceil(0.95 * steps) - 1];
+        long max = steps == 0 ? 0 : durations[steps - 1];
+        return new SimulationResult(stepCount, stateHash(), winStep, mean, p95, max);
+    }
+
+    /**
+     * Berechnet einen Hash über Position, Winkel und Geschwindigkeiten aller Körper.
+     * Die Gleitkommawerte gehen bitgenau ein, jede Abweichung ändert also den Hash.
+     * @return 64-Bit-FNV-1a-Hash des Weltzustands
+     */
+    public long stateHash() {
+        long hash = FNV_OFFSET;
+        for (Body body = physicsManager.getWorld().getBodyList(); body != null; body = body.getNext()) {
+            hash = mix(hash, body.getPosition().x);
+            hash = mix(hash, body.getPosition().y);
+            hash = mix(hash, body.getAngle());
+            hash = mix(hash, body.getLinearVelocity().x);
+            hash = mix(hash, body.getLinearVelocity().y);
+            hash = mix(hash, body.getAngularVelocity());
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, float value) {
+        int bits = Float.floatToIntBits(value);
+        for (int i = 0; i < 4; i++) {
+            hash ^= (bits >>> (i * 8)) & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,306 @@
+package mm.service.simulation;
+
+import mm.domain.config.ObjectConf;
+import mm.domain.config.ObjectKind;
+import mm.domain.storage.LevelData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sucht per Simulated Annealing eine Spieler-Platzierung, mit der ein Level gewonnen wird.
+ * <p>
+ * Jeder Kandidat wird vor der Simulation geometrisch geprüft ({@link PlacementSampler#isLegal});
+ * ungültige Kandidaten werden verworfen, ohne zu simulieren. Bewertet wird ein gewonnener Lauf
+ * nach seinem Sieg-Schritt, ein verlorener nach dem kleinsten Abstand des Spielballs zur Zielzone.
+ * Bereits simulierte Platzierungen werden zwischengespeichert; da alle Koordinaten auf das
+ * Editor-Raster gerundet sind, treffen die Ketten häufig auf bekannte Kandidaten. Alle Kandidaten
+ * zweigen von einem gemeinsamen {@link SimulationPrefix} ab und simulieren erst ab der ersten
+ * Interaktion mit dem Level.
+ * </p>
+ * <p>
+ * Pro Prozessorkern läuft eine unabhängige Kette. Die Suche endet beim ersten Sieg oder wenn
+ * das Zeitbudget aufgebraucht ist.
+ * </p>
+ */
+public class LevelSolver {
+
+    /** Maximale Spielzeit pro Kandidat: 15 Sekunden bei 60 Hz */
+    public static final int MAX_STEPS = 900;
+
+    private static final double START_TEMPERATURE = 1.0;
+    private static final double MIN_TEMPERATURE = 0.02;
+    private static final double COOLING = 0.99;
+    /** Nach so vielen Schritten ohne Verbesserung beginnt eine Kette neu */
+    private static final int RESTART_AFTER = 40;
+    private static final int MUTATION_ATTEMPTS = 10;
+    /** Anteil der Verschiebungen, die ein Objekt an eine völlig neue Stelle setzen */
+    private static final double JUMP_PROBABILITY = 0.2;
+    /** Der Zielabstand wird nur alle paar Schritte gemessen */
+    private static final int DISTANCE_INTERVAL = 5;
+
+    private final LevelData level;
+    private final PlacementSampler sampler;
+    private final Map<String, Double> cache = new ConcurrentHashMap<>();
+    private final AtomicInteger evaluations = new AtomicInteger();
+    private final AtomicInteger cacheHits = new AtomicInteger();
+    private final AtomicLong skippedSteps = new AtomicLong();
+    private final int chains;
+
+    private SimulationPrefix prefix;
+    private volatile long deadline;
+    private volatile boolean solved;
+    private volatile boolean cancelled;
+    private List<ObjectConf> best = List.of();
+    private double bestCost = Double.POSITIVE_INFINITY;
+
+    /**
+     * Erstellt einen Solver mit einer Kette pro Prozessorkern.
+     * @param level Zu lösendes Level inklusive Limits
+     */
+    public LevelSolver(LevelData level) {
+        this(level, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param level Zu lösendes Level inklusive Limits
+     * @param chains Anzahl paralleler Ketten
+     */
+    public LevelSolver(LevelData level, int chains) {
+        this.level = level;
+        this.sampler = new PlacementSampler(level);
+        this.chains = Math.max(1, chains);
+    }
+
+    /**
+     * Sucht eine Lösung innerhalb des Zeitbudgets.
+     * @param budgetMillis Zeitbudget in Millisekunden
+     * @param seed Startwert für die Zufallssuche
+     * @return Ergebnis mit der besten gefundenen Platzierung
+     * @throws InterruptedException wenn der Aufrufer unterbrochen wird
+     */
+    public SolverResult solve(long budgetMillis, long seed) throws InterruptedException {
+        long start = System.currentTimeMillis();
+        deadline = start + budgetMillis;
+
+        if (!hasGoal()) {
+            return new SolverResult(List.of(), -1, 0, 0, 0, 0);
+        }
+
+        // Gemeinsamer Vorlauf; manche Level lösen sich dabei ohne Zutun des Spielers
+        prefix = new SimulationPrefix(level, MAX_STEPS);
+        evaluate(new ArrayList<>());
+        if (!solved) {
+            ExecutorService executor = Executors.newFixedThreadPool(chains, runnable -> {
+                Thread thread = new Thread(runnable, "level-solver");
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                List<Callable<Void>> tasks = new ArrayList<>();
+                for (int i = 0; i < chains; i++) {
+                    SplittableRandom random = new SplittableRandom(seed + i * 0x9E3779B97F4A7C15L);
+                    tasks.add(() -> {
+                        anneal(random);
+                        return null;
+                    });
+                }
+                executor.invokeAll(tasks);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        synchronized (this) {
+            int winStep = bestCost < 1 ? (int) Math.round(bestCost * MAX_STEPS) : -1;
+            return new SolverResult(best, winStep, evaluations.get(), cacheHits.get(), skippedSteps.get(),
+                System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * Prüft, ob das Level überhaupt gewonnen werden kann (Spielball und Zielzone vorhanden).
+     */
+    private boolean hasGoal() {
+        boolean ball = false;
+        boolean goal = false;
+        for (ObjectConf conf : level.getObjects()) {
+            ball |= conf.kind() == ObjectKind.GAMEBALL;
+            goal |= conf.kind() == ObjectKind.GOALZONE;
+        }
+        return ball && goal;
+    }
+
+    /**
+     * Bricht eine laufende Suche ab. {@link #solve} kehrt danach mit dem bisher besten Ergebnis zurück.
+     * Darf von einem beliebigen Thread aufgerufen werden.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    private boolean shouldStop() {
+        return solved || cancelled || System.currentTimeMillis() > deadline || Thread.currentThread().isInterrupted();
+    }
+
+    /**
+     * Eine Annealing-Kette: startet mit einer zufälligen Platzierung und nimmt Verschlechterungen
+     * mit sinkender Wahrscheinlichkeit an. Bleibt die Kette zu lange ohne Verbesserung, beginnt sie neu.
+     */
+    private void anneal(SplittableRandom random) {
+        List<ObjectConf> current = sampler.randomPlacement(random);
+        double currentCost = evaluate(current);
+        double chainBest = currentCost;
+        double temperature = START_TEMPERATURE;
+        int stale = 0;
+
+        while (!shouldStop()) {
+            List<ObjectConf> candidate = mutate(current, temperature, random);
+            double cost = evaluate(candidate);
+            if (cost < currentCost || random.nextDouble() < Math.exp((currentCost - cost) / temperature)) {
+                current = candidate;
+                currentCost = cost;
+            }
+            if (cost < chainBest) {
+                chainBest = cost;
+                stale = 0;
+            } else if (++stale > RESTART_AFTER) {
+                current = sampler.randomPlacement(random);
+                currentCost = evaluate(current);
+                chainBest = currentCost;
+                temperature = START_TEMPERATURE;
+                stale = 0;
+            }
+            temperature = Math.max(MIN_TEMPERATURE, temperature * COOLING);
+        }
+    }
+
+    /**
+     * Verändert die Platzierung zufällig: Objekt hinzufügen, entfernen oder verschieben und drehen.
+     * Die Schrittweite sinkt mit der Temperatur; ein Teil der Verschiebungen springt an eine
+     * zufällige Stelle, da die Bewertung zwischen Lösungen oft flach ist. Findet sich keine gültige Variante, bleibt
+     * die Platzierung unverändert.
+     */
+    private List<ObjectConf> mutate(List<ObjectConf> placement, double temperature, SplittableRandom random) {
+        for (int attempt = 0; attempt < MUTATION_ATTEMPTS; attempt++) {
+            List<ObjectConf> candidate = new ArrayList<>(placement);
+            double choice = random.nextDouble();
+            List<String> available = candidate.size() < PlacementSampler.MAX_OBJECTS
+                ? sampler.availableTypes(candidate) : List.of();
+
+            if (candidate.isEmpty() || (choice < 0.1 && !available.isEmpty())) {
+                if (available.isEmpty()) {
+                    return placement;
+                }
+                ObjectConf added = sampler.randomObject(available.get(random.nextInt(available.size())), random);
+                if (sampler.isLegal(added, candidate)) {
+                    candidate.add(added);
+                    return candidate;
+                }
+                continue;
+            }
+            if (choice < 0.15 && candidate.size() > 1) {
+                candidate.remove(random.nextInt(candidate.size()));
+                return candidate;
+            }
+
+            int index = random.nextInt(candidate.size());
+            ObjectConf old = candidate.remove(index);
+            double sigma = 0.05 + temperature;
+            int angle = (int) Math.round(Math.toDegrees(old.getAngle()));
+            if (random.nextDouble() < 0.3) {
+                angle += (random.nextBoolean() ? 1 : -1) * PlacementSampler.ANGLE_STEP_DEGREES;
+            }
+            ObjectConf moved = random.nextDouble() < JUMP_PROBABILITY
+                ? sampler.randomObject(PlacementSampler.typeOf(old), random)
+                : sampler.create(PlacementSampler.typeOf(old),
+                    old.getX() + gaussian(random) * sigma, old.getY() + gaussian(random) * sigma, angle);
+            if (sampler.isLegal(moved, candidate)) {
+                candidate.add(index, moved);
+                return candidate;
+            }
+        }
+        return placement;
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        // Box-Muller; SplittableRandom bietet keine Normalverteilung
+        double u = 1.0 - random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+
+    /**
+     * Bewertet eine Platzierung, kleiner ist besser. Siege liegen in [0, 1) (früher Sieg besser),
+     * Niederlagen bei 1 + kleinster Abstand des Spielballs zur Zielzone.
+     */
+    private double evaluate(List<ObjectConf> placement) {
+        String key = keyOf(placement);
+        Double cached = cache.get(key);
+        if (cached != null) {
+            cacheHits.incrementAndGet();
+            return cached;
+        }
+
+        int start;
+        double distance;
+        int winStep;
+        try (HeadlessSimulation simulation = prefix.fork(placement)) {
+            start = simulation.getStepCount();
+            skippedSteps.addAndGet(start);
+            distance = Math.min(prefix.getGoalDistanceUntil(start), simulation.goalDistance());
+            while (simulation.getStepCount() < MAX_STEPS && simulation.getWinStep() < 0
+                    && !simulation.getPhysicsManager().isSettled()) {
+                simulation.step();
+                if (simulation.getStepCount() % DISTANCE_INTERVAL == 0) {
+                    distance = Math.min(distance, simulation.goalDistance());
+                }
+            }
+            winStep = simulation.getWinStep();
+        }
+        if (winStep >= 0 && start > 0) {
+            // Abzweigungen sind nicht bitgenau, Siege werden deshalb von Schritt 0 an bestätigt
+            try (HeadlessSimulation replay = new HeadlessSimulation(level, placement)) {
+                winStep = replay.runUntilDecided(MAX_STEPS);
+            }
+        }
+        double cost = winStep >= 0
+            ? winStep / (double) MAX_STEPS
+            : 1 + distance;
+
+        cache.put(key, cost);
+        evaluations.incrementAndGet();
+        synchronized (this) {
+            if (cost < bestCost) {
+                bestCost = cost;
+                best = List.copyOf(placement);
+            }
+        }
+        if (cost < 1) {
+            solved = true;
+        }
+        return cost;
+    }
+
+    /**
+     * Schlüssel für den Cache. Die Reihenfolge bleibt erhalten, da sie die Reihenfolge der
+     * Körper in der Welt und damit das Simulationsergebnis bestimmt.
+     */
+    private static String keyOf(List<ObjectConf> placement) {
+        StringBuilder key = new StringBuilder();
+        for (ObjectConf conf : placement) {
+            key.append(PlacementSampler.typeOf(conf)).append(':')
+               .append(Math.round(conf.getX() * 100)).append(':')
+               .append(Math.round(conf.getY() * 100)).append(':')
+               .append(Math.round(Math.toDegrees(conf.getAngle()))).append(';');
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,165 @@
+package mm.service.simulation;
+
+import mm.domain.config.ObjectConf;
+import mm.domain.config.ObjectKind;
+import mm.domain.storage.LevelData;
+import mm.service.collision.CollisionManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Erzeugt zufällige, gültige Spieler-Platzierungen für ein Level.
+ * <p>
+ * Gültig heißt: innerhalb der Level-Limits, vollständig im Spielfeld, in 10°-Schritten gedreht
+ * und ohne Überlappung mit Level-Objekten, Restriktionszonen oder anderen Spieler-Objekten.
+ * Die Überlappung wird rein geometrisch geprüft, bevor simuliert wird.
+ * </p>
+ */
+public class PlacementSampler {
+
+    /** Maximale Anzahl Spieler-Objekte pro zufälliger Platzierung */
+    public static final int MAX_OBJECTS = 3;
+    /** Winkelraster in Grad (wie die Rotations-Buttons im Editor) */
+    public static final int ANGLE_STEP_DEGREES = 10;
+
+    private static final int PLACEMENT_ATTEMPTS = 20;
+    private static final float MARGIN = 0.3f;
+    private static final float SCALE = 100f;
+
+    /** Vom Spieler platzierbare Objekttypen, abgeleitet aus {@link ObjectKind#isPlaceable()} */
+    private static final Map<String, ObjectKind> PLAYER_TYPES = new LinkedHashMap<>();
+
+    static {
+        for (ObjectKind kind : ObjectKind.values()) {
+            if (kind.isPlaceable()) {
+                PLAYER_TYPES.put(kind.getKey(), kind);
+            }
+        }
+    }
+
+    private final LevelData level;
+    private final CollisionManager collisionManager = new CollisionManager();
+    private final float maxX;
+    private final float maxY;
+
+    /**
+     * @param level Level mit Objekten und Limits
+     */
+    public PlacementSampler(LevelData level) {
+        this.level = level;
+        this.maxX = (float) (HeadlessSimulation.worldWidth(level) / SCALE) - MARGIN;
+        this.maxY = (float) (HeadlessSimulation.worldHeight(level) / SCALE) - MARGIN;
+    }
+
+    /**
+     * Erzeugt eine zufällige Platzierung mit 1 bis {@value #MAX_OBJECTS} Objekten.
+     * Objekte, für die nach mehreren Versuchen kein freier Platz gefunden wird, entfallen.
+     * @param random Zufallsgenerator
+     * @return Platzierte Spieler-Objekte (ggf. leer)
+     */
+    public List<ObjectConf> randomPlacement(SplittableRandom random) {
+        List<ObjectConf> placement = new ArrayList<>();
+        int count = 1 + random.nextInt(MAX_OBJECTS);
+        for (int i = 0; i < count; i++) {
+            List<String> types = availableTypes(placement);
+            if (types.isEmpty()) {
+                break;
+            }
+            String type = types.get(random.nextInt(types.size()));
+            for (int attempt = 0; attempt < PLACEMENT_ATTEMPTS; attempt++) {
+                ObjectConf conf = randomObject(type, random);
+                if (isLegal(conf, placement)) {
+                    placement.add(conf);
+                    break;
+                }
+            }
+        }
+        return placement;
+    }
+
+    /**
+     * Erzeugt ein Objekt des Typs an zufälliger Position und mit zufälligem Winkel.
+     * @param type Objekttyp (z.B. "plank")
+     * @param random Zufallsgenerator
+     * @return Objekt-Konfiguration
+     */
+    public ObjectConf randomObject(String type, SplittableRandom random) {
+        float x = MARGIN + (float) random.nextDouble() * (maxX - MARGIN);
+        float y = MARGIN + (float) random.nextDouble() * (maxY - MARGIN);
+        int angle = random.nextInt(360 / ANGLE_STEP_DEGREES) * ANGLE_STEP_DEGREES;
+        return create(type, x, y, angle);
+    }
+
+    /**
+     * Erzeugt ein Objekt auf dem Raster des Editors: Position auf Zentimeter,
+     * Winkel auf {@value #ANGLE_STEP_DEGREES}° gerundet.
+     * @param type Objekttyp
+     * @param x X-Position in Metern
+     * @param y Y-Position in Metern
+     * @param angleDegrees Winkel in Grad
+     * @return Objekt-Konfiguration
+     */
+    public ObjectConf create(String type, double x, double y, int angleDegrees) {
+        float snappedX = Math.round(x * SCALE) / SCALE;
+        float snappedY = Math.round(y * SCALE) / SCALE;
+        int snappedAngle = Math.floorMod(Math.round(angleDegrees / (float) ANGLE_STEP_DEGREES) * ANGLE_STEP_DEGREES, 360);
+        ObjectKind kind = PLAYER_TYPES.get(type);
+        if (kind == null) {
+            throw new IllegalStateException("Unknown player type: " + type);
+        }
+        return kind.create(snappedX, snappedY, (float) Math.toRadians(snappedAngle), false);
+    }
+
+    /**
+     * Prüft, ob ein Objekt im Spielfeld liegt und weder Level-Objekte noch Restriktionszonen
+     * noch die übrigen Spieler-Objekte überlappt.
+     * @param conf Zu prüfendes Objekt
+     * @param placement Bereits platzierte Spieler-Objekte
+     * @return true, wenn die Platzierung erlaubt ist
+     */
+    public boolean isLegal(ObjectConf conf, List<ObjectConf> placement) {
+        if (conf.getX() < MARGIN || conf.getX() > maxX || conf.getY() < MARGIN || conf.getY() > maxY) {
+            return false;
+        }
+        return !collisionManager.overlapsExisting(conf, level.getObjects())
+            && !collisionManager.overlapsExisting(conf, placement);
+    }
+
+    /**
+     * Liefert die Typen, von denen laut Limits noch Objekte platziert werden dürfen.
+     * @param placement Bereits platzierte Spieler-Objekte
+     * @return Verfügbare Typen
+     */
+    public List<String> availableTypes(List<ObjectConf> placement) {
+        if (level.getLimits() == null) {
+            return Collections.emptyList();
+        }
+        List<String> types = new ArrayList<>();
+        for (Map.Entry<String, ObjectKind> entry : PLAYER_TYPES.entrySet()) {
+            int used = 0;
+            for (ObjectConf conf : placement) {
+                if (conf.kind() == entry.getValue()) {
+                    used++;
+                }
+            }
+            if (used < level.getLimits().getOrDefault(entry.getKey(), 0)) {
+                types.add(entry.getKey());
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Liefert den Typnamen einer Spieler-Konfiguration.
+     * @param conf Objekt-Konfiguration
+     * @return Typname (z.B. "plank")
+     */
+    public static String typeOf(ObjectConf conf) {
+        return conf.kind().getKey();
+    }
+}
@@ -0,0 +1,215 @@
+package mm.service.simulation;
+
+import mm.domain.config.ObjectConf;
+import mm.domain.storage.LevelData;
+import mm.service.physics.WorldState;
+import org.jbox2d.collision.AABB;
+import org.jbox2d.dynamics.Body;
+import org.jbox2d.dynamics.BodyType;
+import org.jbox2d.dynamics.Fixture;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Vorab simulierter Verlauf eines Levels ohne Spieler-Objekte, von dem viele Kandidaten abzweigen.
+ * <p>
+ * Solange kein Spieler-Objekt ein dynamisches Level-Objekt berührt, entwickeln sich die
+ * Level-Objekte unabhängig von der Spielerlösung. Der Verlauf hält deshalb alle
+ * {@value #SNAPSHOT_INTERVAL} Schritte den Zustand der Level-Körper fest und merkt sich pro Schritt
+ * die Hüllrechtecke der dynamischen Level-Körper.
+ * </p>
+ * <p>
+ * Für einen Kandidaten werden zunächst nur die Spieler-Objekte zwischen den statischen
+ * Level-Objekten simuliert (wenige Körper, also billig). Die erste Interaktion ist der erste Schritt,
+ * in dem sich ein Spieler-Körper mit einem dynamischen Level-Körper überschneidet. Die vollständige
+ * Simulation beginnt beim letzten festgehaltenen Zustand davor, statt bei Schritt 0.
+ * </p>
+ * <p>
+ * Mit jedem Zustand wird auch festgehalten, seit wie vielen Schritten die Körper ruhen. Eine Welt
+ * ruht, wenn jeder einzelne dynamische Körper ruht; vor der ersten Interaktion ist der Zähler der
+ * vollständigen Welt also das Minimum der Zähler von Level- und Spieler-Verlauf. Eine abgezweigte
+ * Simulation gilt damit im selben Schritt als zur Ruhe gekommen wie eine ohne Abzweigung.
+ * </p>
+ */
+public class SimulationPrefix {
+
+    /** Abstand der festgehaltenen Zustände in Schritten */
+    public static final int SNAPSHOT_INTERVAL = 30;
+    /** Sicherheitsabstand in Metern, ab dem Hüllrechtecke als berührend gelten */
+    private static final float CONTACT_MARGIN = 0.05f;
+
+    private final LevelData level;
+    private final int length;
+    private final int winStep;
+    private final List<WorldState> snapshots = new ArrayList<>();
+    /** Ruheschritte der Level-Körper zu jedem festgehaltenen Zustand */
+    private final List<Integer> restingSteps = new ArrayList<>();
+    /** Pro Schritt die Hüllrechtecke (minX, minY, maxX, maxY) aller dynamischen Level-Körper */
+    private final float[][] dynamicBounds;
+    /** Pro Schritt der bisher kleinste Abstand Spielball–Zielzone */
+    private final double[] goalDistance;
+
+    /**
+     * Simuliert das Level ohne Spieler-Objekte.
+     * @param level Leveldaten
+     * @param maxSteps Länge des Verlaufs; endet früher, wenn das Level von selbst gewonnen wird
+     */
+    public SimulationPrefix(LevelData level, int maxSteps) {
+        this.level = level;
+        try (HeadlessSimulation simulation = new HeadlessSimulation(level, List.of())) {
+            List<Body> dynamic = new ArrayList<>();
+            for (Body body : simulation.getLevelBodies()) {
+                if (body.getType() == BodyType.DYNAMIC) {
+                    dynamic.add(body);
+                }
+            }
+
+            float[][] bounds = new float[maxSteps + 1][];
+            double[] distance = new double[maxSteps + 1];
+            bounds[0] = boundsOf(dynamic);
+            distance[0] = simulation.goalDistance();
+            snapshots.add(WorldState.capture(simulation.getLevelBodies()));
+            restingSteps.add(simulation.getPhysicsManager().getRestingSteps());
+
+            int step = 0;
+            while (step < maxSteps && simulation.getWinStep() < 0) {
+                simulation.step();
+                step++;
+                bounds[step] = boundsOf(dynamic);
+                distance[step] = Math.min(distance[step - 1], simulation.goalDistance());
+                if (step % SNAPSHOT_INTERVAL == 0) {
+                    snapshots.add(WorldState.capture(simulation.getLevelBodies()));
+                    restingSteps.add(simulation.getPhysicsManager().getRestingSteps());
+                }
+            }
+            this.length = step;
+            this.winStep = simulation.getWinStep();
+            this.dynamicBounds = bounds;
+            this.goalDistance = distance;
+        }
+    }
+
+    /**
+     * @return Anzahl simulierter Schritte
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * @return Schritt, in dem das Level ohne Spieler-Objekte gewonnen wird, sonst -1
+     */
+    public int getWinStep() {
+        return winStep;
+    }
+
+    /**
+     * Kleinster Abstand zwischen Spielball und Zielzone bis zum angegebenen Schritt.
+     * @param step Schritt im Verlauf
+     * @return Abstand in Metern
+     */
+    public double getGoalDistanceUntil(int step) {
+        return goalDistance[Math.min(step, length)];
+    }
+
+    /**
+     * Ermittelt den ersten Schritt, in dem ein Spieler-Objekt ein dynamisches Level-Objekt berühren könnte.
+     * @param playerObjects Spieler-Objekte
+     * @return Schritt der ersten Interaktion oder {@link #getLength()} + 1, wenn es im Verlauf keine gibt
+     */
+    public int firstInteractionStep(List<ObjectConf> playerObjects) {
+        return runPlayers(playerObjects, null, null);
+    }
+
+    /**
+     * Erzeugt eine Simulation für die Spieler-Objekte, die beim letzten festgehaltenen Zustand
+     * vor der ersten Interaktion beginnt.
+     * @param playerObjects Spieler-Objekte
+     * @return Fortsetzbare Simulation; {@link HeadlessSimulation#getStepCount()} ist der Startschritt.
+     *         Der Aufrufer schließt sie nach Gebrauch.
+     */
+    public HeadlessSimulation fork(List<ObjectConf> playerObjects) {
+        List<WorldState> playerSnapshots = new ArrayList<>();
+        List<Integer> playerResting = new ArrayList<>();
+        int interaction = runPlayers(playerObjects, playerSnapshots, playerResting);
+        int index = Math.min((interaction - 1) / SNAPSHOT_INTERVAL, playerSnapshots.size() - 1);
+
+        HeadlessSimulation simulation = new HeadlessSimulation(level, playerObjects);
+        if (index > 0) {
+            snapshots.get(index).restore(simulation.getLevelBodies());
+            playerSnapshots.get(index).restore(simulation.getPlayerBodies());
+            int start = index * SNAPSHOT_INTERVAL;
+            simulation.resumeAt(start, winStep >= 0 && winStep <= start ? winStep : -1,
+                Math.min(restingSteps.get(index), playerResting.get(index)));
+        }
+        return simulation;
+    }
+
+    /**
+     * Simuliert die Spieler-Objekte zwischen den statischen Level-Objekten, bis sie einem
+     * dynamischen Level-Körper nahekommen oder der Verlauf endet.
+     * @param snapshots Nimmt die Spieler-Zustände im Raster der Level-Zustände auf, falls nicht null
+     * @param resting Nimmt dazu die Ruheschritte der Spieler-Körper auf, falls nicht null
+     * @return Schritt der ersten Interaktion oder Länge + 1
+     */
+    private int runPlayers(List<ObjectConf> playerObjects, List<WorldState> snapshots, List<Integer> resting) {
+        try (HeadlessSimulation simulation = HeadlessSimulation.withStaticScenery(level, playerObjects)) {
+            List<Body> players = simulation.getPlayerBodies();
+            if (snapshots != null) {
+                snapshots.add(WorldState.capture(players));
+                resting.add(simulation.getPhysicsManager().getRestingSteps());
+            }
+            if (touches(players, dynamicBounds[0])) {
+                return 0;
+            }
+            for (int step = 1; step <= length; step++) {
+                simulation.step();
+                if (touches(players, dynamicBounds[step])) {
+                    return step;
+                }
+                if (snapshots != null && step % SNAPSHOT_INTERVAL == 0) {
+                    snapshots.add(WorldState.capture(players));
+                    resting.add(simulation.getPhysicsManager().getRestingSteps());
+                }
+            }
+            return length + 1;
+        }
+    }
+
+    private static boolean touches(List<Body> players, float[] bounds) {
+        for (Body body : players) {
+            float[] own = boundsOf(List.of(body));
+            for (int i = 0; i < bounds.length; i += 4) {
+                if (own[0] - CONTACT_MARGIN <= bounds[i + 2] && own[2] + CONTACT_MARGIN >= bounds[i]
+                        && own[1] - CONTACT_MARGIN <= bounds[i + 3] && own[3] + CONTACT_MARGIN >= bounds[i + 1]) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Berechnet pro Körper das Hüllrechteck über alle Fixtures.
+     */
+    private static float[] boundsOf(List<Body> bodies) {
+        float[] bounds = new float[bodies.size() * 4];
+        for (int i = 0; i < bodies.size(); i++) {
+            float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY;
+            float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY;
+            for (Fixture fixture = bodies.get(i).getFixtureList(); fixture != null; fixture = fixture.getNext()) {
+                AABB aabb = fixture.getAABB(0);
+                minX = Math.min(minX, aabb.lowerBound.x);
+                minY = Math.min(minY, aabb.lowerBound.y);
+                maxX = Math.max(maxX, aabb.upperBound.x);
+                maxY = Math.max(maxY, aabb.upperBound.y);
+            }
+            bounds[i * 4] = minX;
+            bounds[i * 4 + 1] = minY;
+            bounds[i * 4 + 2] = maxX;
+            bounds[i * 4 + 3] = maxY;
+        }
+        return bounds;
+    }
+}
@@ -0,0 +1,93 @@
+package mm.service.simulation;
+
+/**
+ * Ergebnis eines Simulationslaufs ohne GUI.
+ */
+public class SimulationResult {
+    /** Anzahl der ausgeführten Schritte */
+    private final int steps;
+    /** Hash des Weltzustands nach dem letzten Schritt */
+    private final long stateHash;
+    /** Schritt, in dem das Ziel erreicht wurde, sonst -1 */
+    private final int winStep;
+    /** Mittlere Schrittdauer in Nanosekunden */
+    private final long meanStepNanos;
+    /** 95. Perzentil der Schrittdauer in Nanosekunden */
+    private final long p95StepNanos;
+    /** Längste Schrittdauer in Nanosekunden */
+    private final long maxStepNanos;
+
+    /**
+     * Erstellt ein Simulationsergebnis.
+     * @param steps Anzahl der Schritte
+     * @param stateHash Hash des Endzustands
+     * @param winStep Schritt des Sieges oder -1
+     * @param meanStepNanos Mittlere Schrittdauer
+     * @param p95StepNanos 95. Perzentil der Schrittdauer
+     * @param maxStepNanos Längste Schrittdauer
+     */
+    public SimulationResult(int steps, long stateHash, int winStep, long meanStepNanos, long p95StepNanos, long maxStepNanos) {
+        this.steps = steps;
+        this.stateHash = stateHash;
+        this.winStep = winStep;
+        this.meanStepNanos = meanStepNanos;
+        this.p95StepNanos = p95StepNanos;
+        this.maxStepNanos = maxStepNanos;
+    }
+
+    /**
+     * @return Anzahl der ausgeführten Schritte
+     */
+    public int getSteps() {
+        return steps;
+    }
+
+    /**
+     * @return Hash des Weltzustands nach dem letzten Schritt
+     */
+    public long getStateHash() {
+        return stateHash;
+    }
+
+    /**
+     * @return Hash als 16-stellige Hexadezimalzahl
+     */
+    public String getStateHashHex() {
+        return String.format("%016x", stateHash);
+    }
+
+    /**
+     * @return Schritt, in dem das Ziel erreicht wurde, sonst -1
+     */
+    public int getWinStep() {
+        return winStep;
+    }
+
+    /**
+     * @return true, wenn das Ziel erreicht wurde
+     */
+    public boolean isWon() {
+        return winStep >= 0;
+    }
+
+    /**
+     * @return Mittlere Schrittdauer in Nanosekunden
+     */
+    public long getMeanStepNanos() {
+        return meanStepNanos;
+    }
+
+    /**
+     * @return 95. Perzentil der Schrittdauer in Nanosekunden
+     */
+    public long getP95StepNanos() {
+        return p95StepNanos;
+    }
+
+    /**
+     * @return Längste Schrittdauer in Nanosekunden
+     */
+    public long getMaxStepNanos() {
+        return maxStepNanos;
+    }
+}
@@ -0,0 +1,91 @@
+package mm.service.simulation;
+
+import mm.domain.config.ObjectConf;
+
+import java.util.List;
+
+/**
+ * Ergebnis einer Lösungssuche mit dem {@link LevelSolver}.
+ */
+public class SolverResult {
+
+    private final List<ObjectConf> solution;
+    private final int winStep;
+    private final int evaluations;
+    private final int cacheHits;
+    private final long skippedSteps;
+    private final long elapsedMillis;
+
+    /**
+     * @param solution Beste gefundene Platzierung
+     * @param winStep Schritt des Sieges oder -1, wenn keine Lösung gefunden wurde
+     * @param evaluations Anzahl simulierter Kandidaten
+     * @param cacheHits Anzahl Kandidaten, die aus dem Cache bewertet wurden
+     * @param skippedSteps Summe der Schritte, die dank des gemeinsamen Vorlaufs nicht simuliert wurden
+     * @param elapsedMillis Dauer der Suche in Millisekunden
+     */
+    public SolverResult(List<ObjectConf> solution, int winStep, int evaluations, int cacheHits,
+                        long skippedSteps, long elapsedMillis) {
+        this.solution = List.copyOf(solution);
+        this.winStep = winStep;
+        this.evaluations = evaluations;
+        this.cacheHits = cacheHits;
+        this.skippedSteps = skippedSteps;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * @return Beste gefundene Platzierung (bei Erfolg eine Lösung)
+     */
+    public List<ObjectConf> getSolution() {
+        return solution;
+    }
+
+    /**
+     * @return true, wenn eine Lösung gefunden wurde
+     */
+    public boolean isSolved() {
+        return winStep >= 0;
+    }
+
+    /**
+     * @return Schritt des Sieges oder -1
+     */
+    public int getWinStep() {
+        return winStep;
+    }
+
+    /**
+     * @return Anzahl simulierter Kandidaten
+     */
+    public int getEvaluations() {
+        return evaluations;
+    }
+
+    /**
+     * @return Anzahl Kandidaten, die aus dem Cache bewertet wurden
+     */
+    public int getCacheHits() {
+        return cacheHits;
+    }
+
+    /**
+     * @return Summe der Schritte, die dank des gemeinsamen Vorlaufs nicht simuliert wurden
+     */
+    public long getSkippedSteps() {
+        return skippedSteps;
+    }
+
+    /**
+     * @return Dauer der Suche in Millisekunden
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s nach %d Simulationen (%d aus Cache), %d ms",
+            isSolved() ? "Gelöst in Schritt " + winStep : "Keine Lösung", evaluations, cacheHits, elapsedMillis);
+    }
+}
@@ -0,0 +1,126 @@
+package mm.service.timing;
+
+import java.util.Arrays;
+
+/**
+ * Verteilt Frames gleichmäßig auf die Pulse eines {@code AnimationTimer}.
+ * <p>
+ * Gearbeitet wird ausschließlich mit dem Zeitstempel des Pulses ({@code now} aus
+ * {@code AnimationTimer.handle}). Jeder Frame hat einen festen Sollzeitpunkt im Raster der
+ * Ziel-Bildrate; der nächste Sollzeitpunkt ergibt sich aus dem vorherigen und nicht aus dem
+ * tatsächlichen Pulszeitpunkt. Dadurch gleicht sich der Fehler über die Zeit aus: bei 45 FPS
+ * und 60-Hz-Pulsen wird z.B. genau jeder vierte Puls ausgelassen, statt unregelmäßig.
+ * </p>
+ * <p>
+ * Gemessen werden der Jitter (mittlere Abweichung der Frame-Abstände vom Sollabstand über
+ * die letzten {@link #WINDOW_SIZE} Frames) und die Anzahl verpasster Sollzeitpunkte.
+ * </p>
+ */
+public class FramePacer {
+
+    /** Anzahl der Frames, über die der Jitter gemittelt wird */
+    public static final int WINDOW_SIZE = 240;
+    /** Pulse, die höchstens so viel zu früh kommen, gelten als pünktlich (1 ms) */
+    private static final long TOLERANCE_NANOS = 1_000_000L;
+
+    private final long[] deviations = new long[WINDOW_SIZE];
+    private long interval;
+    private long nextFrame = 0;
+    private long lastFrame = 0;
+    private long missedFrames = 0;
+    private int index = 0;
+    private int count = 0;
+
+    /**
+     * Erstellt einen Taktgeber für die angegebene Bildrate.
+     * @param targetFps Ziel-Bildrate
+     */
+    public FramePacer(double targetFps) {
+        setTargetFps(targetFps);
+    }
+
+    /**
+     * Setzt die Ziel-Bildrate und beginnt ein neues Raster ab dem nächsten Puls.
+     * @param targetFps Ziel-Bildrate (größer 0)
+     */
+    public void setTargetFps(double targetFps) {
+        if (targetFps <= 0) {
+            throw new IllegalArgumentException("Bildrate muss positiv sein: " + targetFps);
+        }
+        interval = Math.round(1_000_000_000.0 / targetFps);
+        nextFrame = 0;
+    }
+
+    /**
+     * Entscheidet, ob zu diesem Puls ein Frame berechnet werden soll.
+     * @param now Zeitstempel des Pulses in Nanosekunden
+     * @return true, wenn der Frame fällig ist
+     */
+    public boolean shouldRender(long now) {
+        if (nextFrame == 0) {
+            nextFrame = now + interval;
+            lastFrame = now;
+            return true;
+        }
+        if (now < nextFrame - TOLERANCE_NANOS) {
+            return false;
+        }
+
+        // Dieser Frame bedient den jüngsten fälligen Sollzeitpunkt; ältere gelten als verpasst.
+        // Das Raster wird dabei nicht verschoben.
+        long skipped = (now + TOLERANCE_NANOS - nextFrame) / interval;
+        missedFrames += skipped;
+        nextFrame += (skipped + 1) * interval;
+
+        if (lastFrame != 0) {
+            deviations[index] = Math.abs((now - lastFrame) - interval);
+            index = (index + 1) % WINDOW_SIZE;
+            if (count < WINDOW_SIZE) {
+                count++;
+            }
+        }
+        lastFrame = now;
+        return true;
+    }
+
+    /**
+     * Verwirft Raster und Messwerte, z.B. nach einer Pause.
+     */
+    public void reset() {
+        Arrays.fill(deviations, 0);
+        nextFrame = 0;
+        lastFrame = 0;
+        missedFrames = 0;
+        index = 0;
+        count = 0;
+    }
+
+    /**
+     * Gibt den mittleren Jitter der letzten Frames zurück.
+     * @return Mittlere Abweichung vom Sollabstand in Millisekunden
+     */
+    public double getJitter() {
+        if (count == 0) {
+            return 0;
+        }
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += deviations[i];
+        }
+        return sum / (double) count / 1_000_000.0;
+    }
+
+    /**
+     * @return Anzahl verpasster Sollzeitpunkte seit dem Start
+     */
+    public long getMissedFrames() {
+        return missedFrames;
+    }
+
+    /**
+     * @return Sollabstand zweier Frames in Nanosekunden
+     */
+    public long getInterval() {
+        return interval;
+    }
+}
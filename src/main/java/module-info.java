@@ -8,6 +8,7 @@ module mm {
     requires java.desktop;
     requires java.logging;
     requires java.prefs;
+    requires jdk.jfr;
     requires com.fasterxml.jackson.core;
     requires com.fasterxml.jackson.databind;
     requires com.fasterxml.jackson.annotation;
@@ -24,6 +25,9 @@ module mm {
     exports mm.service.selection;
     exports mm.service.overlay;
     exports mm.service.collision;
+    exports mm.service.profiling;
+    exports mm.service.simulation;
+    exports mm.service.timing;
     exports mm.gui.controller;
     exports mm.gui;
 
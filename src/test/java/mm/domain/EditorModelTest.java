@@ -0,0 +1,69 @@
+package mm.domain;
+
+import mm.domain.config.ObjectConf;
+import mm.domain.config.TennisballConf;
+import mm.domain.editor.EditorModel;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EditorModelTest {
+
+    private static ObjectConf ball(float x) {
+        return new TennisballConf(x, 1, 0, false);
+    }
+
+    @Test
+    void testOldVersionsStayUnchanged() {
+        EditorModel v1 = EditorModel.empty().with(1, ball(1)).with(2, ball(2));
+        EditorModel v2 = v1.with(1, ball(5)).without(2);
+
+        assertEquals(2, v1.size());
+        assertEquals(1, v1.get(1).getX());
+        assertEquals(1, v2.size());
+        assertEquals(5, v2.get(1).getX());
+        assertNull(v2.get(2));
+        assertSame(v2, v2.without(42));
+    }
+
+    @Test
+    void testMatchesReferenceMapUnderRandomEdits() {
+        Random random = new Random(7);
+        TreeMap<Long, ObjectConf> reference = new TreeMap<>();
+        EditorModel model = EditorModel.empty();
+        for (int i = 0; i < 2000; i++) {
+            long id = random.nextInt(200);
+            if (random.nextInt(3) == 0) {
+                reference.remove(id);
+                model = model.without(id);
+            } else {
+                ObjectConf conf = ball(i);
+                reference.put(id, conf);
+                model = model.with(id, conf);
+            }
+        }
+        assertEquals(reference.size(), model.size());
+        assertEquals(new ArrayList<>(reference.values()), model.values());
+        assertEquals(reference.isEmpty() ? 0 : reference.lastKey(), model.maxId());
+    }
+
+    @Test
+    void testDiffReportsOnlyChanges() {
+        EditorModel before = EditorModel.empty();
+        for (long id = 1; id <= 1000; id++) {
+            before = before.with(id, ball(id));
+        }
+        EditorModel after = before.with(500, ball(-1)).without(10).with(2000, ball(3));
+
+        List<String> changes = new ArrayList<>();
+        before.diff(after, new EditorModel.DiffListener() {
+            @Override public void added(long id, ObjectConf conf) { changes.add("+" + id); }
+            @Override public void removed(long id, ObjectConf conf) { changes.add("-" + id); }
+            @Override public void changed(long id, ObjectConf b, ObjectConf a) { changes.add("~" + id); }
+        });
+        assertEquals(List.of("-10", "~500", "+2000"), changes);
+    }
+}
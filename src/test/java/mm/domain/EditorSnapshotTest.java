@@ -0,0 +1,34 @@
+package mm.domain;
+
+import mm.domain.config.TennisballConf;
+import mm.domain.editor.EditorModel;
+import mm.domain.editor.EditorSnapshot;
+import org.junit.jupiter.api.Test;
+import java.util.HashMap;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EditorSnapshotTest {
+
+    @Test
+    void testSnapshotIsDetachedFromInputs() {
+        EditorModel player = EditorModel.empty().with(7, new TennisballConf(1, 2, 0, false));
+        Map<String, Integer> limits = new HashMap<>(Map.of("tennisball", 3));
+        EditorSnapshot snapshot = new EditorSnapshot(EditorModel.empty(), player, "Ziel", limits, 12, 8);
+
+        player = player.without(7);
+        limits.put("tennisball", 0);
+
+        assertEquals(1, snapshot.getPlayerObjects().size());
+        assertEquals(1, snapshot.getPlayerObjects().get(7).getX());
+        assertEquals(3, snapshot.getLimits().get("tennisball"));
+        assertEquals(12, snapshot.getWorldWidth());
+    }
+
+    @Test
+    void testLimitsCopyIsModifiable() {
+        EditorSnapshot snapshot = new EditorSnapshot(EditorModel.empty(), EditorModel.empty(), "Ziel", Map.of("log", 1), 0, 0);
+        snapshot.getLimits().put("log", 5);
+        assertEquals(1, snapshot.getLimits().get("log"));
+    }
+}
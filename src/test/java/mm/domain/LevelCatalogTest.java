@@ -0,0 +1,86 @@
+package mm.domain;
+
+import mm.domain.storage.Difficulty;
+import mm.domain.storage.LevelCatalog;
+import mm.domain.storage.LevelInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LevelCatalogTest {
+
+    private static final Path LEVEL1 = Paths.get("src/main/resources/levels/level1.json");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testRefreshListsValidAndInvalidLevels() throws IOException {
+        Path levels = Files.createDirectory(tempDir.resolve("levels"));
+        Files.copy(LEVEL1, levels.resolve("a.json"));
+        Files.writeString(levels.resolve("b.json"), "{ kaputt");
+        Files.writeString(levels.resolve("notes.txt"), "kein Level");
+
+        List<LevelInfo> entries = new LevelCatalog(tempDir.resolve("index.json"), List.of(levels)).refresh();
+
+        assertEquals(2, entries.size());
+        LevelInfo valid = entries.get(0);
+        assertTrue(valid.isValid());
+        assertNotNull(valid.getDifficulty());
+        assertTrue(valid.getObjectCount() > 0);
+        assertEquals(64, valid.getContentHash().length());
+        LevelInfo invalid = entries.get(1);
+        assertFalse(invalid.isValid());
+        assertEquals("b", invalid.getName());
+    }
+
+    @Test
+    void testUnchangedFilesAreTakenFromIndex() throws IOException {
+        Path levels = Files.createDirectory(tempDir.resolve("levels"));
+        Path index = tempDir.resolve("index.json");
+        Path level = levels.resolve("a.json");
+        Files.copy(LEVEL1, level);
+        LevelInfo first = new LevelCatalog(index, List.of(levels)).refresh().get(0);
+
+        // Gleiche Größe und Änderungszeit: der Inhalt wird nicht erneut gelesen
+        FileTime modified = Files.getLastModifiedTime(level);
+        byte[] garbage = new byte[(int) Files.size(level)];
+        Arrays.fill(garbage, (byte) ' ');
+        Files.write(level, garbage);
+        Files.setLastModifiedTime(level, modified);
+
+        LevelCatalog reopened = new LevelCatalog(index, List.of(levels));
+        assertEquals(1, reopened.getEntries().size());
+        LevelInfo cached = reopened.refresh().get(0);
+        assertTrue(cached.isValid());
+        assertEquals(first.getContentHash(), cached.getContentHash());
+        assertSame(cached, reopened.refresh().get(0));
+
+        // Neue Änderungszeit: der Eintrag wird neu aufgebaut
+        Files.setLastModifiedTime(level, FileTime.fromMillis(modified.toMillis() + 1000));
+        LevelInfo changed = reopened.refresh().get(0);
+        assertFalse(changed.isValid());
+        assertNotEquals(first.getContentHash(), changed.getContentHash());
+
+        Files.delete(level);
+        assertTrue(reopened.refresh().isEmpty());
+        assertTrue(new LevelCatalog(index, List.of(levels)).getEntries().isEmpty());
+    }
+
+    @Test
+    void testDifficultyIsStoredInIndex() throws IOException {
+        Path levels = Files.createDirectory(tempDir.resolve("levels"));
+        Path index = tempDir.resolve("index.json");
+        Files.copy(LEVEL1, levels.resolve("a.json"));
+        Difficulty difficulty = new LevelCatalog(index, List.of(levels)).refresh().get(0).getDifficulty();
+        assertEquals(difficulty, new LevelCatalog(index, List.of(levels)).getEntries().get(0).getDifficulty());
+    }
+}
@@ -0,0 +1,35 @@
+package mm.domain;
+
+import mm.domain.config.ObjectConf;
+import mm.domain.config.PlankConf;
+import mm.domain.config.TennisballConf;
+import mm.domain.config.BowlingballConf;
+import mm.domain.editor.LevelDiff;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LevelDiffTest {
+
+    @Test
+    void testUnchangedObjectsAreMatched() {
+        ObjectConf plank = new PlankConf(1, 2, 0, true);
+        ObjectConf ball = new TennisballConf(3, 1, 0, false);
+        ObjectConf moved = new TennisballConf(4, 1, 0, false);
+
+        int[] sources = LevelDiff.match(List.of(plank, ball), List.of(moved, plank));
+
+        assertArrayEquals(new int[] {-1, 0}, sources);
+    }
+
+    @Test
+    void testDuplicatesAndKindsAreMatchedSeparately() {
+        ObjectConf ball = new TennisballConf(3, 1, 0, false);
+        ObjectConf other = new BowlingballConf(3, 1, 0, false);
+
+        int[] sources = LevelDiff.match(List.of(ball, ball), List.of(other, ball, ball, ball));
+
+        assertArrayEquals(new int[] {-1, 0, 1, -1}, sources);
+    }
+}
@@ -0,0 +1,110 @@
+package mm.domain;
+
+import mm.domain.storage.ImportReport;
+import mm.domain.storage.LevelImporter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LevelImporterTest {
+
+    private static final Path LEVELS = Paths.get("src/main/resources/levels");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testDirectoryImportDedupesByContent() throws Exception {
+        Path source = Files.createDirectories(tempDir.resolve("pack/sub"));
+        Files.copy(LEVELS.resolve("level1.json"), source.resolve("a.json"));
+        Files.copy(LEVELS.resolve("level1.json"), source.resolve("same_as_a.json"));
+        Files.copy(LEVELS.resolve("level2.json"), source.getParent().resolve("b.json"));
+        Files.writeString(source.resolve("broken.json"), "{ kaputt");
+        Files.writeString(source.resolve("readme.txt"), "kein Level");
+
+        Path target = tempDir.resolve("levels");
+        LevelImporter importer = new LevelImporter(target);
+        AtomicInteger lastProgress = new AtomicInteger();
+        ImportReport report = importer.importFrom(tempDir.resolve("pack"), (done, total) -> {
+            assertEquals(4, total);
+            lastProgress.accumulateAndGet(done, Math::max);
+        });
+
+        assertEquals(4, lastProgress.get());
+        assertEquals(2, report.getImported());
+        assertEquals(1, report.getDuplicates());
+        assertEquals(3, report.getLevels().size());
+        assertEquals(1, report.getErrors().size());
+        assertTrue(report.getErrors().keySet().iterator().next().endsWith("broken.json"));
+        assertEquals(2, countFiles(target));
+        assertEquals(report.getLevels().get(1), report.getLevels().get(2));
+
+        // Erneuter Import speichert nichts doppelt
+        ImportReport again = importer.importFrom(source.resolve("a.json"), (done, total) -> {});
+        assertEquals(0, again.getImported());
+        assertEquals(1, again.getDuplicates());
+        assertEquals(2, countFiles(target));
+    }
+
+    @Test
+    void testParallelDuplicatesPointToWrittenFile() throws Exception {
+        Path source = Files.createDirectories(tempDir.resolve("copies"));
+        for (int i = 0; i < 40; i++) {
+            Files.copy(LEVELS.resolve("level3.json"), source.resolve("copy" + i + ".json"));
+        }
+
+        ImportReport report = new LevelImporter(tempDir.resolve("levels")).importFrom(source, (done, total) -> {});
+
+        assertEquals(1, report.getImported());
+        assertEquals(39, report.getDuplicates());
+        for (Path level : report.getLevels()) {
+            assertTrue(Files.isRegularFile(level), level.toString());
+        }
+    }
+
+    @Test
+    void testZipImport() throws Exception {
+        Path zip = tempDir.resolve("pack.zip");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(zip))) {
+            for (int i = 1; i <= 5; i++) {
+                addEntry(out, "levels/level" + i + ".json", Files.readAllBytes(LEVELS.resolve("level" + i + ".json")));
+            }
+            addEntry(out, "levels/copy.json", Files.readAllBytes(LEVELS.resolve("level3.json")));
+            addEntry(out, "levels/empty.json", new byte[0]);
+        }
+
+        ImportReport report = new LevelImporter(tempDir.resolve("levels")).importFrom(zip, (done, total) -> {});
+
+        assertEquals(5, report.getImported());
+        assertEquals(1, report.getDuplicates());
+        assertEquals(1, report.getErrors().size());
+        assertTrue(report.getErrors().containsKey("levels/empty.json"));
+    }
+
+    @Test
+    void testUnsupportedSourceIsRejected() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("notes.txt"), "kein Level");
+        assertThrows(IllegalArgumentException.class,
+            () -> new LevelImporter(tempDir.resolve("levels")).importFrom(file, (done, total) -> {}));
+    }
+
+    private static void addEntry(ZipOutputStream out, String name, byte[] content) throws IOException {
+        out.putNextEntry(new ZipEntry(name));
+        out.write(content);
+        out.closeEntry();
+    }
+
+    private static long countFiles(Path directory) throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
@@ -32,6 +32,21 @@ public class LevelStorageTest {
         }
     }
 
+    @Test
+    void testWorldSizeRoundTrip() throws IOException {
+        LevelData data = new LevelData("Gross", Difficulty.HARD, "Ziel", List.of(), Map.of(), 48, 27);
+        var tempFile = Files.createTempFile("level", ".json");
+        try {
+            LevelStorage.save(data, tempFile);
+            LevelData loaded = LevelStorage.load(tempFile);
+            assertTrue(loaded.hasWorldSize());
+            assertEquals(48, loaded.getWorldWidth());
+            assertEquals(27, loaded.getWorldHeight());
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
     @Test
     void testLoadNonexistentFileThrows() {
         var path = new java.io.File("nonexistent_file_123456.json").toPath();
@@ -0,0 +1,56 @@
+package mm.domain;
+
+import mm.domain.storage.LevelData;
+import mm.domain.storage.LevelWatcher;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LevelWatcherTest {
+
+    private static final Path LEVEL1 = Paths.get("src/main/resources/levels/level1.json");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testChangedFilesAreValidatedAndReported() throws Exception {
+        BlockingQueue<String> events = new LinkedBlockingQueue<>();
+        try (LevelWatcher watcher = new LevelWatcher(List.of(tempDir), new LevelWatcher.Listener() {
+            @Override
+            public void levelChanged(Path file, LevelData level) {
+                events.add("changed " + file.getFileName() + " " + level.getObjects().size());
+            }
+
+            @Override
+            public void levelRejected(Path file, String error) {
+                events.add("rejected " + file.getFileName());
+            }
+        })) {
+            Path level = tempDir.resolve("a.json");
+            byte[] content = Files.readAllBytes(LEVEL1);
+            // Mehrere Schreibvorgänge kurz hintereinander ergeben eine Meldung
+            Files.writeString(level, "");
+            Files.write(level, content);
+            String changed = events.poll(10, TimeUnit.SECONDS);
+            assertNotNull(changed);
+            assertTrue(changed.startsWith("changed a.json"), changed);
+
+            Files.writeString(tempDir.resolve("notes.txt"), "kein Level");
+            Files.writeString(tempDir.resolve("b.json"), "{ kaputt");
+            assertEquals("rejected b.json", events.poll(10, TimeUnit.SECONDS));
+
+            // Gleicher Inhalt wird nicht erneut gemeldet
+            Files.write(level, content);
+            assertNull(events.poll(LevelWatcher.DEBOUNCE_MILLIS * 5, TimeUnit.MILLISECONDS));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package mm.domain;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import mm.domain.config.GameBallConf;
+import mm.domain.config.ObjectConf;
+import mm.domain.config.ObjectKind;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ObjectKindTest {
+
+    @Test
+    void testEveryJsonSubtypeHasKind() {
+        JsonSubTypes subTypes = ObjectConf.class.getAnnotation(JsonSubTypes.class);
+        assertEquals(ObjectKind.count(), subTypes.value().length);
+        for (JsonSubTypes.Type type : subTypes.value()) {
+            ObjectKind kind = ObjectKind.byKey(type.name());
+            assertNotNull(kind, type.name());
+            assertSame(type.value(), kind.getConfigClass());
+            assertSame(kind, ObjectKind.of(type.value()));
+        }
+    }
+
+    @Test
+    void testCreateMatchesKind() {
+        for (int id = 0; id < ObjectKind.count(); id++) {
+            ObjectKind kind = ObjectKind.byId(id);
+            assertEquals(id, kind.getId());
+            ObjectConf conf = kind.create(1, 2, 0.5f, false);
+            assertSame(kind, conf.kind());
+            assertEquals(kind.getKey(), conf.getSkinId());
+            assertEquals(1, conf.getX(), 1e-6);
+            assertSame(kind.getTemplate(), kind.getTemplate());
+        }
+    }
+
+    @Test
+    void testLookups() {
+        assertNull(ObjectKind.byKey("unknown"));
+        assertNull(ObjectKind.byKey(null));
+        assertSame(ObjectKind.GAMEBALL, ObjectKind.of(GameBallConf.class));
+        assertTrue(ObjectKind.GAMEBALL.isUnique());
+        assertFalse(ObjectKind.PLANK.isUnique());
+    }
+
+    @Test
+    void testPlaceableKinds() {
+        for (ObjectKind kind : ObjectKind.values()) {
+            boolean levelOnly = kind == ObjectKind.GAMEBALL || kind == ObjectKind.GOALZONE
+                || kind == ObjectKind.RESTRICTIONZONE;
+            assertEquals(!levelOnly, kind.isPlaceable(), kind.getKey());
+        }
+    }
+}
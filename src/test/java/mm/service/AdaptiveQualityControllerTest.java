@@ -0,0 +1,86 @@
+package mm.service;
+
+import mm.service.rendering.AdaptiveQualityController;
+import mm.service.rendering.RenderQuality;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdaptiveQualityControllerTest {
+
+    /** Frame-Budget bei 60 FPS */
+    private static final long BUDGET = 16_666_667L;
+
+    private static RenderQuality runWindows(AdaptiveQualityController controller, int windows,
+                                            long frameNanos, long workNanos) {
+        RenderQuality quality = controller.getQuality();
+        for (int i = 0; i < windows * AdaptiveQualityController.WINDOW_FRAMES; i++) {
+            quality = controller.recordFrame(frameNanos, workNanos, BUDGET);
+        }
+        return quality;
+    }
+
+    @Test
+    void testOverloadStepsDownOncePerWindow() {
+        AdaptiveQualityController controller = new AdaptiveQualityController();
+        assertEquals(RenderQuality.NO_GLOSS, runWindows(controller, 1, BUDGET, BUDGET));
+        assertEquals(RenderQuality.NO_SHADOWS, runWindows(controller, 1, BUDGET, BUDGET));
+    }
+
+    @Test
+    void testLateFramesStepDown() {
+        AdaptiveQualityController controller = new AdaptiveQualityController();
+        // Geringe Arbeitszeit, aber jeder Frame kommt doppelt so spät
+        assertEquals(RenderQuality.NO_GLOSS, runWindows(controller, 1, 2 * BUDGET, BUDGET / 4));
+    }
+
+    @Test
+    void testTargetAboveRefreshRateKeepsQuality() {
+        AdaptiveQualityController controller = new AdaptiveQualityController();
+        long budget120 = BUDGET / 2;
+        // 120 FPS Ziel auf einem 60-Hz-Bildschirm: jeder Frame kommt einen Puls später als geplant
+        for (int i = 0; i < 10 * AdaptiveQualityController.WINDOW_FRAMES; i++) {
+            controller.recordFrame(BUDGET, BUDGET / 4, budget120, BUDGET);
+        }
+        assertEquals(RenderQuality.FULL, controller.getQuality());
+    }
+
+    @Test
+    void testPulseQuantizationIsNotLate() {
+        AdaptiveQualityController controller = new AdaptiveQualityController();
+        long budget50 = 20_000_000L;
+        // 50 FPS auf 60 Hz: vier Frames im Pulsabstand, dann einer mit ausgelassenem Puls
+        for (int i = 0; i < 10 * AdaptiveQualityController.WINDOW_FRAMES; i++) {
+            long frame = i % 5 == 4 ? 2 * BUDGET : BUDGET;
+            controller.recordFrame(frame, budget50 / 4, budget50, BUDGET);
+        }
+        assertEquals(RenderQuality.FULL, controller.getQuality());
+    }
+
+    @Test
+    void testMissedPulsesStillStepDown() {
+        AdaptiveQualityController controller = new AdaptiveQualityController();
+        for (int i = 0; i < AdaptiveQualityController.WINDOW_FRAMES; i++) {
+            // Jeder Frame verpasst zwei Pulse; ein Puls pro Fenster zeigt den Bildschirmtakt
+            controller.recordFrame(3 * BUDGET, BUDGET / 4, BUDGET, i == 0 ? BUDGET : 3 * BUDGET);
+        }
+        assertEquals(RenderQuality.NO_GLOSS, controller.getQuality());
+    }
+
+    @Test
+    void testUpgradeNeedsSeveralQuietWindows() {
+        AdaptiveQualityController controller = new AdaptiveQualityController(RenderQuality.FLAT);
+        long light = BUDGET / 4;
+        assertEquals(RenderQuality.FLAT, runWindows(controller, AdaptiveQualityController.UPGRADE_WINDOWS - 1, BUDGET, light));
+        assertEquals(RenderQuality.NO_SHADOWS, runWindows(controller, 1, BUDGET, light));
+        // Mittlere Last zwischen den Schwellen: Stufe bleibt
+        assertEquals(RenderQuality.NO_SHADOWS, runWindows(controller, 10, BUDGET, (long) (BUDGET * 0.7)));
+    }
+
+    @Test
+    void testStepsAreClamped() {
+        assertEquals(RenderQuality.LOW_RES, RenderQuality.LOW_RES.lower());
+        assertEquals(RenderQuality.FULL, RenderQuality.FULL.higher());
+        AdaptiveQualityController controller = new AdaptiveQualityController();
+        assertEquals(RenderQuality.LOW_RES, runWindows(controller, 10, BUDGET, 2 * BUDGET));
+    }
+}
@@ -0,0 +1,44 @@
+package mm.service;
+
+import mm.service.rendering.Camera;
+import org.jbox2d.collision.AABB;
+import org.jbox2d.common.Vec2;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CameraTest {
+
+    @Test
+    void testDefaultCameraShowsWholeField() {
+        Camera camera = new Camera(1200, 675);
+        Vec2 corner = camera.screenToWorld(1200, 675);
+        assertEquals(12.0, corner.x, 1e-4);
+        assertEquals(6.75, corner.y, 1e-4);
+        assertEquals(1.0, camera.getMinZoom(), 1e-9);
+    }
+
+    @Test
+    void testZoomKeepsPointUnderCursor() {
+        Camera camera = new Camera(1200, 675);
+        camera.setWorldSize(48, 27);
+        Vec2 before = camera.screenToWorld(300, 200);
+        camera.zoomAt(2.0, 300, 200);
+        Vec2 after = camera.screenToWorld(300, 200);
+        assertEquals(2.0, camera.getZoom(), 1e-9);
+        assertEquals(before.x, after.x, 1e-4);
+        assertEquals(before.y, after.y, 1e-4);
+    }
+
+    @Test
+    void testPanIsClampedToWorld() {
+        Camera camera = new Camera(1200, 675);
+        camera.setWorldSize(48, 27);
+        camera.pan(100_000, 100_000);
+        AABB view = camera.getViewBounds();
+        assertTrue(view.lowerBound.x < 0 && view.lowerBound.x > -1);
+        assertTrue(view.lowerBound.y < 0 && view.lowerBound.y > -1);
+        camera.zoomAt(0.01, 600, 337);
+        assertEquals(0.25, camera.getZoom(), 1e-9);
+        assertEquals(24, camera.getCenterX(), 1e-9);
+    }
+}
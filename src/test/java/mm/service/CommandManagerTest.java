@@ -1,39 +1,43 @@
 package mm.service;
 
 import javafx.scene.control.Button;
+import mm.domain.config.PlankConf;
+import mm.domain.config.TennisballConf;
+import mm.domain.editor.EditorModel;
+import mm.domain.editor.PlacedObject;
 import mm.service.command.CommandManager;
 import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class CommandManagerTest {
 
-    static class DummyAction implements CommandManager.Action {
-        boolean undone = false;
-        boolean redone = false;
-        @Override public void undo() { undone = true; }
-        @Override public void redo() { redone = true; }
+    private static EditorModel withBall(EditorModel model, long id, float x) {
+        return model.with(id, PlacedObject.createConfig(TennisballConf.class, x, 1, 0, false));
     }
 
     @Test
-    void testPushAndUndoRedo() {
+    void testCommitAndUndoRedo() {
         CommandManager cm = new CommandManager();
-        DummyAction action = new DummyAction();
-        cm.push(action);
+        EditorModel v1 = withBall(EditorModel.empty(), 1, 1);
+        cm.commit(v1);
         assertTrue(cm.canUndo());
-        cm.undo();
-        assertTrue(action.undone);
+        assertSame(EditorModel.empty(), cm.undo());
         assertTrue(cm.canRedo());
-        cm.redo();
-        assertTrue(action.redone);
+        assertSame(v1, cm.redo());
+        assertFalse(cm.canRedo());
     }
 
     @Test
-    void testClearEmptiesStacks() {
+    void testClearEmptiesHistory() {
         CommandManager cm = new CommandManager();
-        cm.push(new DummyAction());
+        cm.commit(withBall(EditorModel.empty(), 1, 1));
         cm.clear();
         assertFalse(cm.canUndo());
         assertFalse(cm.canRedo());
+        assertTrue(cm.getCurrent().isEmpty());
     }
 
     @Test
@@ -41,8 +45,7 @@ public class CommandManagerTest {
         Button undoBtn = new Button();
         Button redoBtn = new Button();
         CommandManager cm = new CommandManager(undoBtn, redoBtn);
-        DummyAction action = new DummyAction();
-        cm.push(action);
+        cm.commit(withBall(EditorModel.empty(), 1, 1));
         assertFalse(undoBtn.isDisabled());
         cm.undo();
         assertFalse(redoBtn.isDisabled());
@@ -52,17 +55,88 @@ public class CommandManagerTest {
     }
 
     @Test
-    void testMaxHistoryLimit() {
+    void testHistoryIsUnlimited() {
         CommandManager cm = new CommandManager();
-        for (int i = 0; i < 25; i++) {
-            cm.push(new DummyAction());
+        EditorModel model = EditorModel.empty();
+        for (int i = 0; i < 10_000; i++) {
+            model = withBall(model, i + 1, i);
+            cm.commit(model);
         }
-        // Es sollten maximal 20 im Stack sein
+        assertEquals(10_000, cm.getHistorySize());
         int count = 0;
         while (cm.canUndo()) {
             cm.undo();
             count++;
         }
-        assertEquals(20, count);
+        assertEquals(10_000, count);
+        assertTrue(cm.getCurrent().isEmpty());
+    }
+
+    @Test
+    void testChangesOfSameObjectAreCoalescedWithinWindow() {
+        CommandManager cm = new CommandManager();
+        EditorModel added = withBall(EditorModel.empty(), 1, 0);
+        cm.commit(added, 1, 0);
+        cm.commit(withBall(added, 1, 10), 1, 100);
+        EditorModel second = withBall(added, 1, 20);
+        cm.commit(second, 1, 600);
+        cm.commit(withBall(added, 1, 30), 1, 3000);
+
+        assertEquals(2, cm.getHistorySize());
+        assertSame(second, cm.undo());
+        assertSame(EditorModel.empty(), cm.undo());
+        assertFalse(cm.canUndo());
+    }
+
+    @Test
+    void testNoCoalescingAfterUndo() {
+        CommandManager cm = new CommandManager();
+        EditorModel v1 = withBall(EditorModel.empty(), 1, 0);
+        EditorModel v2 = withBall(v1, 1, 10);
+        cm.commit(v1, 1, 0);
+        cm.commit(v2, 2, 100);
+        assertSame(v1, cm.undo());
+        cm.redo();
+        cm.commit(withBall(v2, 1, 20), 2, 200);
+        assertSame(v2, cm.undo());
+        assertTrue(cm.canUndo());
+    }
+
+    @Test
+    void testGroupIsOneEntry() {
+        CommandManager cm = new CommandManager();
+        EditorModel model = EditorModel.empty();
+        cm.beginGroup();
+        for (int i = 0; i < 3; i++) {
+            model = model.with(i + 1, PlacedObject.createConfig(PlankConf.class, i, 1, 0, false));
+            cm.commit(model);
+        }
+        cm.endGroup();
+
+        assertEquals(1, cm.getHistorySize());
+        assertSame(EditorModel.empty(), cm.undo());
+        assertFalse(cm.canUndo());
+        assertSame(model, cm.redo());
+    }
+
+    @Test
+    void testListenerSeesEveryVersionChange() {
+        CommandManager cm = new CommandManager();
+        List<EditorModel> seen = new ArrayList<>();
+        cm.setListener((previous, version) -> {
+            seen.add(previous);
+            seen.add(version);
+        });
+        EditorModel v1 = withBall(EditorModel.empty(), 1, 1);
+        cm.commit(v1);
+        cm.commit(v1);
+        cm.undo();
+        cm.redo();
+        assertEquals(List.of(EditorModel.empty(), v1, v1, EditorModel.empty(), EditorModel.empty(), v1), seen);
+
+        cm.reset(v1);
+        assertEquals(6, seen.size());
+        assertSame(v1, cm.getCurrent());
+        assertFalse(cm.canUndo());
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package mm.service;
+
+import mm.domain.config.ObjectConf;
+import mm.domain.config.TennisballConf;
+import mm.domain.storage.Difficulty;
+import mm.domain.storage.LevelData;
+import mm.domain.storage.LevelStorage;
+import mm.service.collision.CollisionManager;
+import mm.service.simulation.DifficultyEstimate;
+import mm.service.simulation.DifficultyEstimator;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DifficultyEstimatorTest {
+
+    private static LevelData load(String name) throws Exception {
+        return LevelStorage.load(Paths.get("src/main/resources/levels/" + name + ".json"));
+    }
+
+    @Test
+    void testSelfSolvingLevelIsEasy() throws Exception {
+        DifficultyEstimate estimate = new DifficultyEstimator(load("level2")).estimate(16, 1L);
+        assertEquals(16, estimate.getSamples());
+        assertTrue(estimate.getSolveRate() > 0.5);
+        assertEquals(Difficulty.EASY, estimate.getDifficulty());
+    }
+
+    @Test
+    void testUnwinnableLevelIsHard() throws Exception {
+        DifficultyEstimate estimate = new DifficultyEstimator(load("level3")).estimate(8, 1L);
+        assertEquals(0, estimate.getSolved());
+        assertEquals(Difficulty.HARD, estimate.getDifficulty());
+    }
+
+    @Test
+    void testEstimateIsReproducible() throws Exception {
+        LevelData level = load("level1");
+        DifficultyEstimate first = new DifficultyEstimator(level).estimate(16, 42L);
+        DifficultyEstimate second = new DifficultyEstimator(level).estimate(16, 42L);
+        assertEquals(first.getSolved(), second.getSolved());
+        assertEquals(first.getMedianSeconds(), second.getMedianSeconds());
+    }
+
+    @Test
+    void testConfOverlap() {
+        CollisionManager cm = new CollisionManager();
+        ObjectConf a = new TennisballConf(1f, 1f, 0f, false);
+        assertTrue(cm.overlapsExisting(new TennisballConf(1.05f, 1f, 0f, false), List.of(a)));
+        assertFalse(cm.overlapsExisting(new TennisballConf(3f, 1f, 0f, false), List.of(a)));
+    }
+}
@@ -0,0 +1,100 @@
+package mm.service;
+
+import mm.domain.config.LogConf;
+import mm.domain.config.TennisballConf;
+import mm.domain.editor.PlacedObject;
+import mm.domain.storage.Difficulty;
+import mm.domain.storage.LevelData;
+import mm.service.command.EditorJournal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EditorJournalTest {
+
+    @Test
+    void testRecoversStateAfterReopen(@TempDir Path dir) throws Exception {
+        long a = 1;
+        long b = 2;
+        try (EditorJournal journal = new EditorJournal(dir)) {
+            assertNull(journal.getRecovered());
+            journal.meta(new LevelData("Test", Difficulty.HARD, "Ziel", List.of(), Map.of("log", 2)));
+            journal.put(a, PlacedObject.createConfig(TennisballConf.class, 1, 2, 0, false));
+            journal.put(b, PlacedObject.createConfig(LogConf.class, 3, 4, 0, false));
+            journal.put(a, PlacedObject.createConfig(TennisballConf.class, 5, 6, 0.5f, false));
+            journal.remove(b);
+        }
+
+        try (EditorJournal journal = new EditorJournal(dir)) {
+            LevelData level = journal.getRecovered();
+            assertEquals("Test", level.getName());
+            assertEquals(Difficulty.HARD, level.getDifficulty());
+            assertEquals(2, level.getLimits().get("log"));
+            assertEquals(1, level.getObjects().size());
+            assertTrue(level.getObjects().get(0) instanceof TennisballConf);
+            assertEquals(5, level.getObjects().get(0).getX(), 1e-6);
+            assertEquals(0.5, level.getObjects().get(0).getAngle(), 1e-6);
+        }
+    }
+
+    @Test
+    void testSavedStateIsNotRecovered(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("level.json");
+        try (EditorJournal journal = new EditorJournal(dir)) {
+            journal.meta(new LevelData("Test", Difficulty.EASY, "Ziel", List.of()));
+            journal.put(1, PlacedObject.createConfig(TennisballConf.class, 1, 2, 0, false));
+            journal.saved(file);
+        }
+        try (EditorJournal journal = new EditorJournal(dir)) {
+            assertNull(journal.getRecovered());
+            journal.put(2, PlacedObject.createConfig(LogConf.class, 3, 4, 0, false));
+        }
+        try (EditorJournal journal = new EditorJournal(dir)) {
+            assertEquals(2, journal.getRecovered().getObjects().size());
+        }
+    }
+
+    @Test
+    void testTornLastLineIsDiscarded(@TempDir Path dir) throws Exception {
+        try (EditorJournal journal = new EditorJournal(dir)) {
+            journal.put(1, PlacedObject.createConfig(TennisballConf.class, 1, 2, 0, false));
+        }
+        Files.write(dir.resolve(EditorJournal.JOURNAL_FILE), "{\"op\":\"clear".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND);
+
+        try (EditorJournal journal = new EditorJournal(dir)) {
+            assertEquals(1, journal.getRecovered().getObjects().size());
+            journal.put(2, PlacedObject.createConfig(TennisballConf.class, 3, 4, 0, false));
+        }
+        try (EditorJournal journal = new EditorJournal(dir)) {
+            assertEquals(2, journal.getRecovered().getObjects().size());
+        }
+    }
+
+    @Test
+    void testCompactionKeepsJournalShort(@TempDir Path dir) throws Exception {
+        long key = 1;
+        try (EditorJournal journal = new EditorJournal(dir)) {
+            for (int i = 0; i < EditorJournal.COMPACT_AFTER + 10; i++) {
+                journal.put(key, PlacedObject.createConfig(TennisballConf.class, i, 1, 0, false));
+            }
+            journal.flush();
+        }
+        assertTrue(Files.exists(dir.resolve(EditorJournal.SNAPSHOT_FILE)));
+        assertTrue(Files.readAllLines(dir.resolve(EditorJournal.JOURNAL_FILE)).size() < EditorJournal.COMPACT_AFTER);
+
+        try (EditorJournal journal = new EditorJournal(dir)) {
+            List<?> objects = journal.getRecovered().getObjects();
+            assertEquals(1, objects.size());
+            assertEquals(EditorJournal.COMPACT_AFTER + 9, journal.getRecovered().getObjects().get(0).getX(), 1e-6);
+        }
+    }
+}
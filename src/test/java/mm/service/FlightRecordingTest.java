@@ -0,0 +1,38 @@
+package mm.service;
+
+import javafx.scene.canvas.Canvas;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import mm.service.physics.PhysicsManager;
+import mm.service.profiling.FlightRecording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlightRecordingTest {
+
+    @Test
+    void testNotStartedWithoutProperty() {
+        System.clearProperty(FlightRecording.PROPERTY);
+        assertFalse(FlightRecording.startIfRequested());
+    }
+
+    @Test
+    void testPhysicsStepEmitsEvent(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("test.jfr");
+        PhysicsManager pm = new PhysicsManager(new Canvas(400, 400));
+        try (Recording recording = new Recording()) {
+            recording.enable("mm.PhysicsStep").withoutThreshold();
+            recording.start();
+            pm.step();
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("mm.PhysicsStep")));
+    }
+}
@@ -0,0 +1,57 @@
+package mm.service;
+
+import mm.service.rendering.GifEncoder;
+import mm.service.rendering.PngSequenceEncoder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FrameEncoderTest {
+
+    private static BufferedImage frame(Color color) {
+        BufferedImage image = new BufferedImage(40, 20, BufferedImage.TYPE_INT_RGB);
+        var g = image.createGraphics();
+        g.setColor(color);
+        g.fillRect(0, 0, 40, 20);
+        g.dispose();
+        return image;
+    }
+
+    @Test
+    void testGifContainsAllFrames(@TempDir Path dir) throws IOException {
+        Path gif = dir.resolve("lauf.gif");
+        try (GifEncoder encoder = new GifEncoder(gif, 50)) {
+            encoder.write(frame(Color.RED));
+            encoder.write(frame(Color.GREEN));
+            encoder.write(frame(Color.BLUE));
+        }
+        ImageReader reader = ImageIO.getImageReadersByFormatName("gif").next();
+        try (ImageInputStream input = ImageIO.createImageInputStream(gif.toFile())) {
+            reader.setInput(input);
+            assertEquals(3, reader.getNumImages(true));
+            assertEquals(40, reader.read(0).getWidth());
+            assertEquals(0xffff0000, reader.read(0).getRGB(0, 0));
+            assertEquals(0xff0000ff, reader.read(2).getRGB(0, 0));
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    @Test
+    void testPngSequenceIsNumbered(@TempDir Path dir) throws IOException {
+        try (PngSequenceEncoder encoder = new PngSequenceEncoder(dir.resolve("lauf.png"))) {
+            encoder.write(frame(Color.RED));
+            encoder.write(frame(Color.GREEN));
+        }
+        assertTrue(Files.exists(dir.resolve("lauf_0001.png")));
+        assertEquals(20, ImageIO.read(dir.resolve("lauf_0002.png").toFile()).getHeight());
+    }
+}
@@ -0,0 +1,62 @@
+package mm.service;
+
+import mm.service.timing.FramePacer;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FramePacerTest {
+
+    /** Pulsabstand bei 60 Hz */
+    private static final long PULSE = 16_666_667L;
+
+    private static int countFrames(FramePacer pacer, int pulses) {
+        int frames = 0;
+        for (int i = 1; i <= pulses; i++) {
+            if (pacer.shouldRender(i * PULSE)) {
+                frames++;
+            }
+        }
+        return frames;
+    }
+
+    @Test
+    void testMatchingRateRendersEveryPulse() {
+        FramePacer pacer = new FramePacer(60);
+        assertEquals(600, countFrames(pacer, 600));
+        assertEquals(0, pacer.getMissedFrames());
+        assertEquals(0, pacer.getJitter(), 0.01);
+    }
+
+    @Test
+    void testLowerRateDropsPulsesEvenly() {
+        FramePacer pacer = new FramePacer(45);
+        // 45 von 60 Pulsen, ohne Drift über 10 Sekunden
+        int frames = countFrames(pacer, 600);
+        assertTrue(Math.abs(frames - 450) <= 1, "Frames: " + frames);
+        assertEquals(0, pacer.getMissedFrames());
+    }
+
+    @Test
+    void testHalfRateRendersEverySecondPulse() {
+        FramePacer pacer = new FramePacer(30);
+        boolean[] rendered = new boolean[20];
+        for (int i = 0; i < rendered.length; i++) {
+            rendered[i] = pacer.shouldRender((i + 1) * PULSE);
+        }
+        for (int i = 2; i < rendered.length; i++) {
+            assertEquals(rendered[i - 2], rendered[i], "Puls " + i);
+            assertNotEquals(rendered[i - 1], rendered[i], "Puls " + i);
+        }
+    }
+
+    @Test
+    void testStallCountsMissedFrames() {
+        FramePacer pacer = new FramePacer(60);
+        pacer.shouldRender(PULSE);
+        pacer.shouldRender(2 * PULSE);
+        // 100 ms Hänger: fünf Sollzeitpunkte verpasst
+        assertTrue(pacer.shouldRender(2 * PULSE + 100_000_000L));
+        assertEquals(5, pacer.getMissedFrames());
+        assertTrue(pacer.getJitter() > 0);
+    }
+}
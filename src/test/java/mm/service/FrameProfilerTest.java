@@ -0,0 +1,61 @@
+package mm.service;
+
+import mm.service.profiling.FrameProfiler;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FrameProfilerTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void testNoSamplesReportsZero() {
+        FrameProfiler profiler = new FrameProfiler();
+        assertEquals(0, profiler.getSampleCount());
+        assertEquals(0, profiler.getFps());
+        assertEquals(0, profiler.getFrameTimePercentile(99));
+    }
+
+    @Test
+    void testFpsAndPercentiles() {
+        FrameProfiler profiler = new FrameProfiler();
+        long now = 1;
+        profiler.beginFrame(now);
+        for (int i = 1; i <= 100; i++) {
+            now += i * MS;
+            profiler.beginFrame(now);
+        }
+        assertEquals(100, profiler.getSampleCount());
+        assertEquals(50.0, profiler.getFrameTimePercentile(50), 1e-9);
+        assertEquals(95.0, profiler.getFrameTimePercentile(95), 1e-9);
+        assertEquals(99.0, profiler.getFrameTimePercentile(99), 1e-9);
+        assertEquals(100 * 1000.0 / 5050, profiler.getFps(), 1e-9);
+    }
+
+    @Test
+    void testWindowRollsOver() {
+        FrameProfiler profiler = new FrameProfiler();
+        long now = 1;
+        profiler.beginFrame(now);
+        for (int i = 0; i < FrameProfiler.WINDOW_SIZE; i++) {
+            now += 100 * MS;
+            profiler.beginFrame(now);
+        }
+        for (int i = 0; i < FrameProfiler.WINDOW_SIZE; i++) {
+            now += 10 * MS;
+            profiler.beginFrame(now);
+        }
+        assertEquals(FrameProfiler.WINDOW_SIZE, profiler.getSampleCount());
+        assertEquals(10.0, profiler.getFrameTimePercentile(99), 1e-9);
+        assertEquals(100.0, profiler.getFps(), 1e-9);
+    }
+
+    @Test
+    void testResetClearsSamples() {
+        FrameProfiler profiler = new FrameProfiler();
+        profiler.beginFrame(1);
+        profiler.beginFrame(1 + 16 * MS);
+        profiler.reset();
+        assertEquals(0, profiler.getSampleCount());
+    }
+}
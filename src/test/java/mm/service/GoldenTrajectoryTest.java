@@ -0,0 +1,127 @@
+package mm.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import mm.domain.config.ObjectConf;
+import mm.domain.storage.LevelData;
+import mm.domain.storage.LevelStorage;
+import mm.service.simulation.HeadlessSimulation;
+import mm.service.simulation.SimulationResult;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Spielt alle mitgelieferten Level mit ihren Referenzlösungen ab und vergleicht Endzustand,
+ * Sieg-Schritt und optional die Schrittdauer mit den eingecheckten Golden-Werten.
+ * <p>
+ * Endzustand und Sieg-Schritt werden immer geprüft. Die Schrittdauer hängt von der Maschine ab und
+ * wird nur mit {@code -Dmm.golden.timing=true} gegen das Budget geprüft; die erlaubte Verlangsamung
+ * steuert {@code -Dmm.golden.tolerance} (Standard 1.0 = doppelt so langsam).
+ * Neu aufnehmen mit {@code -Dmm.golden.update=true}.
+ * </p>
+ */
+public class GoldenTrajectoryTest {
+
+    private static final Path LEVELS = Paths.get("src/main/resources/levels");
+    private static final Path GOLDEN = Paths.get("src/test/resources/golden");
+    private static final Path GOLDEN_FILE = GOLDEN.resolve("trajectories.json");
+    private static final String[] LEVEL_NAMES = {"level1", "level2", "level3", "level4", "level5"};
+    /** 15 Sekunden Spielzeit bei 60 Hz */
+    private static final int STEPS = 900;
+    private static final int TIMING_RUNS = 3;
+
+    private final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    @Test
+    void testShippedLevelsMatchGoldenTrajectories() throws Exception {
+        boolean update = Boolean.getBoolean("mm.golden.update");
+        boolean timing = Boolean.getBoolean("mm.golden.timing");
+        double tolerance = Double.parseDouble(System.getProperty("mm.golden.tolerance", "1.0"));
+
+        JsonNode golden = update ? null : mapper.readTree(GOLDEN_FILE.toFile());
+        ObjectNode recorded = mapper.createObjectNode();
+        List<String> failures = new ArrayList<>();
+
+        for (String name : LEVEL_NAMES) {
+            LevelData level = LevelStorage.load(LEVELS.resolve(name + ".json"));
+            List<ObjectConf> solution = mapper.readValue(GOLDEN.resolve("solutions/" + name + ".json").toFile(),
+                new TypeReference<List<ObjectConf>>() {});
+
+            SimulationResult result;
+            try (HeadlessSimulation simulation = new HeadlessSimulation(level, solution)) {
+                result = simulation.run(STEPS);
+            }
+            long meanStepNanos = update || timing ? fastestMean(level, solution) : 0;
+
+            ObjectNode entry = recorded.putObject(name);
+            entry.put("stateHash", result.getStateHashHex());
+            entry.put("winStep", result.getWinStep());
+            entry.put("meanStepNanos", meanStepNanos);
+
+            if (update) {
+                continue;
+            }
+            JsonNode expected = golden.get(name);
+            if (expected == null) {
+                failures.add(name + ": keine Golden-Werte");
+                continue;
+            }
+            if (!expected.get("stateHash").asText().equals(result.getStateHashHex())) {
+                failures.add(name + ": Endzustand weicht ab (" + result.getStateHashHex()
+                    + " statt " + expected.get("stateHash").asText() + ")");
+            }
+            if (expected.get("winStep").asInt() != result.getWinStep()) {
+                failures.add(name + ": Sieg in Schritt " + result.getWinStep()
+                    + " statt " + expected.get("winStep").asInt());
+            }
+            long budget = expected.get("meanStepNanos").asLong();
+            if (timing && meanStepNanos > budget * (1 + tolerance)) {
+                failures.add(String.format("%s: %.1f µs pro Schritt, Budget %.1f µs (+%.0f%%)",
+                    name, meanStepNanos / 1e3, budget / 1e3, tolerance * 100));
+            }
+        }
+
+        if (update) {
+            Files.createDirectories(GOLDEN);
+            mapper.writeValue(GOLDEN_FILE.toFile(), recorded);
+            return;
+        }
+        assertTrue(failures.isEmpty(), String.join("\n", failures));
+    }
+
+    @Test
+    void testSimulationIsDeterministic() throws Exception {
+        LevelData level = LevelStorage.load(LEVELS.resolve("level4.json"));
+        // Der zweite Lauf bekommt den Pool des ersten zurück und muss trotzdem gleich enden
+        long first;
+        try (HeadlessSimulation simulation = new HeadlessSimulation(level, List.of())) {
+            first = simulation.run(300).getStateHash();
+        }
+        try (HeadlessSimulation simulation = new HeadlessSimulation(level, List.of())) {
+            assertEquals(first, simulation.run(300).getStateHash());
+        }
+    }
+
+    /**
+     * Misst die mittlere Schrittdauer mehrfach und nimmt den schnellsten Lauf,
+     * um JIT-Aufwärmen und Ausreißer herauszufiltern.
+     */
+    private long fastestMean(LevelData level, List<ObjectConf> solution) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < TIMING_RUNS; i++) {
+            try (HeadlessSimulation simulation = new HeadlessSimulation(level, solution)) {
+                best = Math.min(best, simulation.run(STEPS).getMeanStepNanos());
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,50 @@
+package mm.service;
+
+import mm.domain.storage.LevelData;
+import mm.domain.storage.LevelStorage;
+import mm.service.simulation.HeadlessSimulation;
+import mm.service.simulation.LevelSolver;
+import mm.service.simulation.SolverResult;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LevelSolverTest {
+
+    private static LevelData load(String name) throws Exception {
+        return LevelStorage.load(Paths.get("src/main/resources/levels/" + name + ".json"));
+    }
+
+    @Test
+    void testSelfSolvingLevelNeedsNoObjects() throws Exception {
+        SolverResult result = new LevelSolver(load("level2")).solve(10_000, 1L);
+        assertTrue(result.isSolved());
+        assertTrue(result.getSolution().isEmpty());
+        assertEquals(1, result.getEvaluations());
+    }
+
+    @Test
+    void testLevelWithoutGoalIsNotSearched() throws Exception {
+        SolverResult result = new LevelSolver(load("level3")).solve(10_000, 1L);
+        assertFalse(result.isSolved());
+        assertEquals(0, result.getEvaluations());
+    }
+
+    @Test
+    void testCancelledSolverStopsSearching() throws Exception {
+        LevelSolver solver = new LevelSolver(load("level5"), 2);
+        solver.cancel();
+        SolverResult result = solver.solve(60_000, 1L);
+        // Vorlauf plus eine Startplatzierung pro Kette
+        assertTrue(result.getEvaluations() <= 3, result.toString());
+    }
+
+    @Test
+    void testFoundSolutionWinsWhenReplayed() throws Exception {
+        LevelData level = load("level5");
+        SolverResult result = new LevelSolver(level).solve(30_000, 1L);
+        assertTrue(result.isSolved(), result.toString());
+        assertTrue(new HeadlessSimulation(level, result.getSolution()).runUntilDecided(LevelSolver.MAX_STEPS) >= 0);
+    }
+}
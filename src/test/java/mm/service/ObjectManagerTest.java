@@ -1,9 +1,12 @@
 package mm.service;
 
 import javafx.scene.layout.Pane;
+import mm.domain.editor.EditorModel;
 import mm.domain.editor.PlacedObject;
 import mm.service.object.ObjectManager;
 import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -55,6 +58,78 @@ public class ObjectManagerTest {
         assertNull(om.createPlacedObject("unknown", 0, 0));
     }
 
+    @Test
+    void testRecycledNodeIsReusedAndReset() {
+        ObjectManager om = new ObjectManager();
+        Pane pane = new Pane();
+        PlacedObject po = om.createPlacedObject("plank", 50, 50);
+        om.addPlacedObject(po, pane);
+        om.idOf(po);
+        po.getNode().setRotate(45);
+        po.getNode().setOpacity(0.7);
+
+        om.recycle(po.getNode());
+        assertNotNull(om.createPlacedObject("tennisball", 0, 0));
+        assertNotSame(po.getNode(), om.createPlacedObject("plank", 0, 0).getNode());
+
+        om.removePlacedObject(po, pane);
+        om.recycle(po.getNode());
+        PlacedObject reused = om.createPlacedObject("plank", 80, 90);
+        assertSame(po.getNode(), reused.getNode());
+        assertEquals(0, reused.getNode().getRotate());
+        assertEquals(1, reused.getNode().getOpacity());
+        PlacedObject fresh = om.createPlacedObject("plank", 80, 90);
+        assertEquals(fresh.getNode().getLayoutX(), reused.getNode().getLayoutX(), 1e-9);
+        assertEquals(fresh.getNode().getLayoutY(), reused.getNode().getLayoutY(), 1e-9);
+    }
+
+    @Test
+    void testSyncFollowsDirectListChanges() {
+        ObjectManager om = new ObjectManager();
+        PlacedObject po = om.createPlacedObject("tennisball", 10, 10);
+        // Die Liste darf auch direkt geändert werden, nicht nur über den ObjectManager
+        om.getPlacedObjects().add(po);
+        assertSame(po, om.findPlacedObjectByNode(po.getNode()));
+        assertEquals(1, om.sync(List.of(po.getNode())).size());
+
+        om.getPlacedObjects().remove(po);
+        assertNull(om.findPlacedObjectByNode(po.getNode()));
+        assertTrue(om.sync(List.of(po.getNode())).isEmpty());
+    }
+
+    @Test
+    void testApplyReconcilesNodesById() {
+        ObjectManager om = new ObjectManager();
+        Pane pane = new Pane();
+        PlacedObject po = om.createPlacedObject("plank", 50, 50);
+        om.addPlacedObject(po, pane);
+        EditorModel added = om.sync(List.of(po.getNode()));
+        long id = om.idOf(po);
+        po.getNode().setLayoutX(po.getNode().getLayoutX() + 100);
+        po.getNode().setRotate(30);
+        EditorModel moved = om.sync(List.of(po.getNode()));
+        om.removePlacedObject(po, pane);
+        assertTrue(om.sync(List.of(po.getNode())).isEmpty());
+
+        List<PlacedObject> created = new ArrayList<>();
+        om.apply(added, pane, created::add);
+        assertEquals(1, created.size());
+        PlacedObject restored = om.findById(id);
+        // Die Node des gelöschten Objekts kommt aus dem Pool
+        assertSame(po.getNode(), restored.getNode());
+        assertEquals(added.get(id), restored.toConfig());
+        assertEquals(1, pane.getChildren().size());
+
+        om.apply(moved, pane, created::add);
+        assertEquals(1, created.size());
+        assertEquals(moved.get(id), restored.toConfig());
+        assertSame(moved, om.getModel());
+
+        om.apply(EditorModel.empty(), pane, created::add);
+        assertTrue(pane.getChildren().isEmpty());
+        assertTrue(om.getPlacedObjects().isEmpty());
+    }
+
     // Kollisionserkennung ist schwer zu testen ohne echte Objekte, daher hier nur ein einfacher Test:
     @Test
     void testIsWithinBoundsTrue() {
@@ -1,10 +1,16 @@
 package mm.service;
 
 import javafx.scene.canvas.Canvas;
+import mm.domain.config.BucketConf;
 import mm.domain.config.GameBallConf;
 import mm.domain.config.GoalZoneConf;
+import mm.domain.config.PlankConf;
 import mm.domain.editor.PlacedObject;
 import mm.service.physics.PhysicsManager;
+import mm.service.physics.WorldPool;
+import org.jbox2d.collision.shapes.PolygonShape;
+import org.jbox2d.dynamics.Body;
+import org.jbox2d.dynamics.Fixture;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -48,4 +54,65 @@ public class PhysicsManagerTest {
         // Callback sollte ausgelöst werden
         assertTrue(true); // (Echte Kollisionen sind schwer zu testen ohne echte Physik-Engine)
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testSettledAfterBallComesToRest() {
+        Canvas canvas = new Canvas(400, 400);
+        PhysicsManager pm = new PhysicsManager(canvas);
+        PlacedObject ball = new PlacedObject(null, GameBallConf.class) {
+            @Override public mm.domain.config.ObjectConf toConfig() {
+                return new GameBallConf(2, 3.5f, 0, false);
+            }
+        };
+        pm.addObjectToWorld(ball, false);
+        pm.createWorldBounds();
+        pm.step();
+        assertFalse(pm.isSettled());
+        for (int i = 0; i < 1200 && !pm.isSettled(); i++) {
+            pm.step();
+        }
+        assertTrue(pm.isSettled());
+    }
+
+    @Test
+    void testBodiesOfSameKindGetEqualButSeparateFixtures() {
+        PhysicsManager pm = new PhysicsManager(400, 400, false);
+        Body first = pm.addObjectToWorld(new BucketConf(1, 1, 0, false));
+        Body second = pm.addObjectToWorld(new BucketConf(2, 1, 0, false));
+        Body custom = pm.addObjectToWorld(new GoalZoneConf(1, 1, 0, true, 2.0f, 0.6f, "goalzone"));
+
+        int fixtures = 0;
+        for (Fixture a = first.getFixtureList(), b = second.getFixtureList(); a != null; a = a.getNext(), b = b.getNext()) {
+            assertNotSame(a.getShape(), b.getShape());
+            PolygonShape pa = (PolygonShape) a.getShape();
+            PolygonShape pb = (PolygonShape) b.getShape();
+            assertEquals(pa.m_centroid, pb.m_centroid);
+            assertEquals(a.getFriction(), b.getFriction());
+            fixtures++;
+        }
+        assertEquals(3, fixtures);
+        assertEquals(1.0f, ((PolygonShape) custom.getFixtureList().getShape()).getVertex(0).x * -1, 1e-6);
+    }
+
+    @Test
+    void testReleasedPoolIsReusedWithSameResult() {
+        float first = dropBallOnPlank();
+        assertTrue(WorldPool.idleCount() > 0);
+        float second = dropBallOnPlank();
+        assertEquals(first, second);
+    }
+
+    private static float dropBallOnPlank() {
+        PhysicsManager pm = new PhysicsManager(400, 400, false);
+        pm.addObjectToWorld(new PlankConf(1, 3, 0.2f, true));
+        Body ball = pm.addObjectToWorld(new GameBallConf(1.1f, 1, 0, false));
+        for (int i = 0; i < 120; i++) {
+            pm.step();
+        }
+        float x = ball.getPosition().x;
+        pm.release();
+        pm.release();
+        assertNull(pm.getWorld().getBodyList());
+        return x;
+    }
+}
@@ -0,0 +1,65 @@
+package mm.service;
+
+import mm.domain.config.ObjectConf;
+import mm.domain.config.TennisballConf;
+import mm.domain.storage.LevelData;
+import mm.domain.storage.LevelStorage;
+import mm.service.simulation.HeadlessSimulation;
+import mm.service.simulation.SimulationPrefix;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SimulationPrefixTest {
+
+    private static LevelData load(String name) throws Exception {
+        return LevelStorage.load(Paths.get("src/main/resources/levels/" + name + ".json"));
+    }
+
+    @Test
+    void testDistantObjectForksFromLateSnapshot() throws Exception {
+        LevelData level = load("level2");
+        SimulationPrefix prefix = new SimulationPrefix(level, 900);
+        List<ObjectConf> far = List.of(new TennisballConf(11.5f, 0.5f, 0f, false));
+
+        assertEquals(prefix.getLength() + 1, prefix.firstInteractionStep(far));
+        try (HeadlessSimulation fork = prefix.fork(far);
+             HeadlessSimulation full = new HeadlessSimulation(level, far)) {
+            assertTrue(fork.getStepCount() > 0);
+            assertEquals(0, fork.getStepCount() % SimulationPrefix.SNAPSHOT_INTERVAL);
+            assertEquals(full.runUntilDecided(900), fork.runUntilDecided(900));
+        }
+    }
+
+    @Test
+    void testForkKeepsSettleCounter() throws Exception {
+        // In level4 kommen Level und entfernter Ball vor Ende des Verlaufs zur Ruhe
+        LevelData level = load("level4");
+        SimulationPrefix prefix = new SimulationPrefix(level, 900);
+        List<ObjectConf> far = List.of(new TennisballConf(11.5f, 0.5f, 0f, false));
+
+        try (HeadlessSimulation fork = prefix.fork(far);
+             HeadlessSimulation full = new HeadlessSimulation(level, far)) {
+            while (full.getStepCount() < fork.getStepCount()) {
+                full.step();
+            }
+            assertTrue(full.getPhysicsManager().getRestingSteps() > 0);
+            assertEquals(full.getPhysicsManager().getRestingSteps(), fork.getPhysicsManager().getRestingSteps());
+        }
+    }
+
+    @Test
+    void testObjectAboveBallInteractsEarly() throws Exception {
+        LevelData level = load("level2");
+        SimulationPrefix prefix = new SimulationPrefix(level, 900);
+        List<ObjectConf> aboveBall = List.of(new TennisballConf(0.58f, 0.6f, 0f, false));
+
+        int interaction = prefix.firstInteractionStep(aboveBall);
+        assertTrue(interaction < SimulationPrefix.SNAPSHOT_INTERVAL, "Interaktion erst in Schritt " + interaction);
+        try (HeadlessSimulation fork = prefix.fork(aboveBall)) {
+            assertEquals(0, fork.getStepCount());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package mm.service;
+
+import mm.service.rendering.ThumbnailService;
+import org.junit.jupiter.api.Test;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ThumbnailServiceTest {
+
+    @Test
+    void testCacheKeyDependsOnContent() {
+        byte[] level = "{\"name\":\"A\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] changed = "{\"name\":\"B\"}".getBytes(StandardCharsets.UTF_8);
+        String key = ThumbnailService.cacheKey(level);
+        assertEquals(64, key.length());
+        assertTrue(key.matches("[0-9a-f]+"));
+        assertEquals(key, ThumbnailService.cacheKey(level.clone()));
+        assertNotEquals(key, ThumbnailService.cacheKey(changed));
+    }
+
+    @Test
+    void testKnownContentHashGivesSameKey() throws Exception {
+        byte[] level = "{\"name\":\"A\"}".getBytes(StandardCharsets.UTF_8);
+        StringBuilder contentHash = new StringBuilder();
+        for (byte b : MessageDigest.getInstance("SHA-256").digest(level)) {
+            contentHash.append(String.format("%02x", b));
+        }
+        assertEquals(ThumbnailService.cacheKey(level), ThumbnailService.cacheKey(contentHash.toString()));
+    }
+}